@@ -0,0 +1,51 @@
+package com.back.benchmark;
+
+import com.back.domain.market.dimension.DimensionDictionary;
+import com.back.domain.market.dto.MarketDetailRow;
+import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.mapper.MarketDetailMapper;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * projection 행 -> 응답 DTO 변환 비용 (DB 시간 제외).
+ * 대상은 서비스와 같은 findDetailRows로 한 번 읽어 둔 서울 전체 행정동 행이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarketMappingBenchmark {
+
+    private MarketDetailMapper mapper;
+    private List<MarketDetailRow> provinceRows;
+
+    @Setup
+    public void setUp() {
+        try (SeoulDataset dataset = SeoulDataset.create()) {
+            EntityManager em = dataset.createEntityManager();
+            DimensionDictionary dimensions = SeoulDataset.dimensionDictionary(em);
+            mapper = new MarketDetailMapper(dimensions);
+            provinceRows = SeoulDataset.repository(em, dimensions)
+                    .findDetailRows(dataset.admCodes(), List.of(1L), SeoulDataset.LATEST_DATE);
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public MarketDetailResponse toDetailResponse() {
+        return mapper.toDetailResponse(provinceRows.get(0));
+    }
+
+    @Benchmark
+    public List<MarketDetailResponse> detailResponsesForProvince() {
+        List<MarketDetailResponse> result = new ArrayList<>(provinceRows.size());
+        for (MarketDetailRow row : provinceRows) {
+            result.add(mapper.toDetailResponse(row));
+        }
+        return result;
+    }
+}
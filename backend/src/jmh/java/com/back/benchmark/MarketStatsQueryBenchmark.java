@@ -0,0 +1,71 @@
+package com.back.benchmark;
+
+import com.back.domain.market.dto.MarketDetailRow;
+import com.back.domain.market.dto.MarketStatsRow;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.repository.MarketStatsRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MarketStatsRepositoryImpl 쿼리 비용 (인메모리 H2, 서울 규모 데이터).
+ * 서비스가 실제로 호출하는 projection 조회만 잰다. 절대값보다 변경 전후 추이 비교 용도로 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarketStatsQueryBenchmark {
+
+    private SeoulDataset dataset;
+    private EntityManager em;
+    private MarketStatsRepositoryImpl repository;
+    private List<String> admCodes;
+
+    @Setup
+    public void setUp() {
+        dataset = SeoulDataset.create();
+        em = dataset.createEntityManager();
+        repository = SeoulDataset.repository(em);
+        admCodes = dataset.admCodes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        em.close();
+        dataset.close();
+    }
+
+    @Benchmark
+    public Optional<MarketDetailRow> detailProjection() {
+        return repository.findDetailRowByAdmCodeAndCategoryId(randomAdmCode(), randomCategoryId(), SeoulDataset.LATEST_DATE);
+    }
+
+    @Benchmark
+    public List<MarketDetailRow> detailRowsBatch() {
+        return repository.findDetailRows(List.of(randomAdmCode(), randomAdmCode(), randomAdmCode()),
+                List.of(randomCategoryId(), randomCategoryId()), SeoulDataset.LATEST_DATE);
+    }
+
+    @Benchmark
+    public List<MarketMapResponse> provinceMapProjection() {
+        return repository.findMapResponsesByProvinceAndCategoryId(SeoulDataset.PROVINCE, randomCategoryId(), SeoulDataset.LATEST_DATE);
+    }
+
+    @Benchmark
+    public List<MarketStatsRow> snapshotRowsForDay() {
+        return repository.findAllRowsCreatedBetween(SeoulDataset.LATEST_DATE.atStartOfDay(), SeoulDataset.LATEST_DATE.plusDays(1).atStartOfDay());
+    }
+
+    private String randomAdmCode() {
+        return admCodes.get(ThreadLocalRandom.current().nextInt(admCodes.size()));
+    }
+
+    private long randomCategoryId() {
+        return 1 + ThreadLocalRandom.current().nextInt(SeoulDataset.CATEGORIES);
+    }
+}
@@ -0,0 +1,77 @@
+package com.back.benchmark;
+
+import com.back.domain.market.dimension.DimensionDictionary;
+import com.back.domain.market.dto.MarketDetailRow;
+import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.mapper.MarketDetailMapper;
+import com.back.domain.market.repository.MarketStatsRepositoryImpl;
+import com.back.global.config.RedisConfig;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisConfig가 캐시 값에 쓰는 직렬화기의 왕복(직렬화 + 역직렬화) 비용과 결과 크기.
+ * format: cache.redis.value-format 값 (json: 이전 형식, cbor: CompactRedisSerializer)
+ * 크기는 setUp에서 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializerBenchmark {
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+    private MarketDetailResponse detail;
+    private List<MarketMapResponse> mapResponses;
+    private byte[] detailBytes;
+    private byte[] mapBytes;
+
+    @Setup
+    public void setUp() {
+        serializer = new RedisConfig().redisValueSerializer(format);
+        try (SeoulDataset dataset = SeoulDataset.create()) {
+            EntityManager em = dataset.createEntityManager();
+            DimensionDictionary dimensions = SeoulDataset.dimensionDictionary(em);
+            MarketStatsRepositoryImpl repository = SeoulDataset.repository(em, dimensions);
+            MarketDetailRow row = repository
+                    .findDetailRowByAdmCodeAndCategoryId(dataset.admCodes().get(0), 1L, SeoulDataset.LATEST_DATE)
+                    .orElseThrow();
+            detail = new MarketDetailMapper(dimensions).toDetailResponse(row);
+            mapResponses = new ArrayList<>(repository
+                    .findMapResponsesByProvinceAndCategoryId(SeoulDataset.PROVINCE, 1L, SeoulDataset.LATEST_DATE));
+            em.close();
+        }
+        detailBytes = serializer.serialize(detail);
+        mapBytes = serializer.serialize(mapResponses);
+        System.out.printf("%n[serialized size] format=%s, detail=%d bytes, province map(%d rows)=%d bytes%n",
+                format, detailBytes.length, mapResponses.size(), mapBytes.length);
+    }
+
+    @Benchmark
+    public Object detailRoundTrip() {
+        return serializer.deserialize(serializer.serialize(detail));
+    }
+
+    @Benchmark
+    public Object provinceMapRoundTrip() {
+        return serializer.deserialize(serializer.serialize(mapResponses));
+    }
+
+    @Benchmark
+    public Object provinceMapDeserialize() {
+        return serializer.deserialize(mapBytes);
+    }
+
+    @Benchmark
+    public Object detailDeserialize() {
+        return serializer.deserialize(detailBytes);
+    }
+}
@@ -0,0 +1,157 @@
+package com.back.benchmark;
+
+import com.back.domain.category.repository.CategoryRepository;
+import com.back.domain.market.dimension.DimensionDictionary;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.repository.MarketStatsRepositoryImpl;
+import com.back.domain.region.repository.RegionRepository;
+import com.back.global.resilience.CircuitBreaker;
+import com.back.global.resilience.ResilienceProperties;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.h2.jdbcx.JdbcDataSource;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 서울 규모(25개 구 x 17개 동 = 425개 행정동) x 전 업종 x 며칠치 데이터를 인메모리 H2에 적재한다.
+ * 스키마는 운영과 같은 엔티티 매핑(이름 전략 포함)으로 생성한다.
+ */
+final class SeoulDataset implements AutoCloseable {
+
+    static final String PROVINCE = "서울특별시";
+    static final int DISTRICTS = 25;
+    static final int TOWNS_PER_DISTRICT = 17;
+    static final int CATEGORIES = 10;
+    static final int DAYS = 7;
+    static final LocalDate LATEST_DATE = LocalDate.of(2025, 4, 7);
+
+    // 운영 ETL(DATA/src/config/constants.py)과 같은 점포당 유동인구 기준
+    private static final double OPPORTUNITY_THRESHOLD = 500.0;
+    private static final double OVERCROWDED_THRESHOLD = 100.0;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final List<String> admCodes = new ArrayList<>();
+
+    private SeoulDataset(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    static SeoulDataset create() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:benchmark-" + System.nanoTime() + ";MODE=MariaDB;DB_CLOSE_DELAY=-1");
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.back.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()
+        ));
+        factoryBean.afterPropertiesSet();
+
+        SeoulDataset dataset = new SeoulDataset(factoryBean.getObject());
+        dataset.seed(new JdbcTemplate(dataSource));
+        return dataset;
+    }
+
+    EntityManager createEntityManager() {
+        return entityManagerFactory.createEntityManager();
+    }
+
+    List<String> admCodes() {
+        return admCodes;
+    }
+
+    // 운영과 같은 차원 사전. 리포지토리는 Spring Data가 같은 EntityManager로 만든 실제 구현이다
+    static DimensionDictionary dimensionDictionary(EntityManager em) {
+        JpaRepositoryFactory factory = new JpaRepositoryFactory(em);
+        DimensionDictionary dictionary = new DimensionDictionary(factory.getRepository(RegionRepository.class),
+                factory.getRepository(CategoryRepository.class), em.getEntityManagerFactory());
+        dictionary.get(); // 측정 전에 적재 (데이터셋을 닫은 뒤에도 쓸 수 있게)
+        return dictionary;
+    }
+
+    static MarketStatsRepositoryImpl repository(EntityManager em) {
+        return repository(em, dimensionDictionary(em));
+    }
+
+    // 운영과 같은 조립 (쿼리 지표 + DB 서킷 브레이커 + 차원 사전 포함)
+    static MarketStatsRepositoryImpl repository(EntityManager em, DimensionDictionary dimensionDictionary) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ResilienceProperties.Breaker breaker = new ResilienceProperties.Breaker(50, 20, 0.5, Duration.ofSeconds(1), Duration.ofSeconds(10));
+        return new MarketStatsRepositoryImpl(new JPAQueryFactory(em), registry, new CircuitBreaker("database", breaker, registry),
+                dimensionDictionary);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> categories = new ArrayList<>();
+        for (int c = 1; c <= CATEGORIES; c++) {
+            categories.add(new Object[]{(long) c, "업종" + c});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO categories (category_id, name) VALUES (?, ?)", categories);
+
+        List<Object[]> regions = new ArrayList<>();
+        long regionId = 1;
+        for (int d = 1; d <= DISTRICTS; d++) {
+            for (int t = 1; t <= TOWNS_PER_DISTRICT; t++) {
+                String admCode = String.format("11%03d%03d", d * 10, t * 10);
+                admCodes.add(admCode);
+                regions.add(new Object[]{regionId++, PROVINCE, "구" + d, "동" + t, admCode});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO regions (region_id, province, district, town, adm_code) VALUES (?, ?, ?, ?, ?)", regions);
+
+        Random random = new Random(42);
+        List<Object[]> stats = new ArrayList<>();
+        for (int day = DAYS - 1; day >= 0; day--) {
+            Timestamp createdAt = Timestamp.valueOf(LATEST_DATE.minusDays(day).atTime(6, 0));
+            for (long r = 1; r < regionId; r++) {
+                for (long c = 1; c <= CATEGORIES; c++) {
+                    int storeCount = 1 + random.nextInt(200);
+                    int floating = 1_000 + random.nextInt(100_000);
+                    int male = floating * (40 + random.nextInt(20)) / 100;
+                    double perStore = (double) floating / storeCount;
+                    stats.add(new Object[]{r, c, storeCount, floating, male, floating - male,
+                            (20 + random.nextInt(5) * 10) + "대", perStore, gradeOf(perStore).name(),
+                            createdAt, createdAt});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO market_stats (region_id, category_id, store_count, floating_population, male_population,
+                                          female_population, age_group, population_per_store, market_grade,
+                                          created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, stats);
+    }
+
+    private static MarketGrade gradeOf(double populationPerStore) {
+        if (populationPerStore >= OPPORTUNITY_THRESHOLD) {
+            return MarketGrade.GREEN;
+        }
+        if (populationPerStore <= OVERCROWDED_THRESHOLD) {
+            return MarketGrade.RED;
+        }
+        return MarketGrade.YELLOW;
+    }
+
+    @Override
+    public void close() {
+        entityManagerFactory.close();
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.benchmark;
+
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.global.web.CborFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 지도 응답(서울 전체 MarketMapResponse) 본문 인코딩/디코딩 비용: JSON vs CBOR(stringref).
+ * EncodedResponseCache가 쓰는 것과 같은 설정이다. 본문 크기(원본, gzip)는 setUp에서 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<MarketMapResponse>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private List<MarketMapResponse> mapResponses;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = "cbor".equals(format) ? new ObjectMapper(CborFormat.factory()) : new ObjectMapper();
+        try (SeoulDataset dataset = SeoulDataset.create()) {
+            EntityManager em = dataset.createEntityManager();
+            mapResponses = SeoulDataset.repository(em)
+                    .findMapResponsesByProvinceAndCategoryId(SeoulDataset.PROVINCE, 1L, SeoulDataset.LATEST_DATE);
+            em.close();
+        }
+        encoded = mapper.writeValueAsBytes(mapResponses);
+        System.out.printf("%n[body size] format=%s, province map(%d rows)=%d bytes, gzip=%d bytes%n",
+                format, mapResponses.size(), encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encodeProvinceMap() throws IOException {
+        return mapper.writeValueAsBytes(mapResponses);
+    }
+
+    @Benchmark
+    public List<MarketMapResponse> decodeProvinceMap() throws IOException {
+        return mapper.readValue(encoded, MAP_TYPE);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
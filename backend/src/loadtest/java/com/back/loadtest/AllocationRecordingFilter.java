@@ -0,0 +1,57 @@
+package com.back.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 처리 스레드가 할당한 바이트를 엔드포인트별로 모은다 (loadtest 프로필 전용).
+ * 조회 엔드포인트는 요청 스레드 안에서 끝나므로 스레드별 할당 카운터 차이가 곧 요청당 할당량이다.
+ * 필터 체인 전체(보안, 직렬화, gzip)를 포함한다.
+ */
+@Component
+@Profile("loadtest")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+class AllocationRecordingFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "/api/market/";
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, LongAdder> allocatedBytes = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+            allocatedBytes.computeIfAbsent(endpointOf(request.getRequestURI()), e -> new LongAdder()).add(allocated);
+        }
+    }
+
+    // 단계 끝에 읽고 비운다
+    Map<String, Long> drain() {
+        Map<String, Long> result = new ConcurrentHashMap<>();
+        allocatedBytes.forEach((endpoint, adder) -> result.put(endpoint, adder.sumThenReset()));
+        return result;
+    }
+
+    private static String endpointOf(String uri) {
+        return uri.startsWith(PREFIX) ? uri.substring(PREFIX.length()) : uri;
+    }
+}
@@ -0,0 +1,48 @@
+package com.back.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 한 단계, 한 엔드포인트의 응답 시간(ns) 기록.
+ * 단계당 수십만 건 정도라 전부 보관했다가 끝에 정렬해 백분위를 구한다.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    synchronized void recordError() {
+        errors++;
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    synchronized int errors() {
+        return errors;
+    }
+
+    // 0 < p <= 1, 기록이 없으면 0 (ms)
+    synchronized double[] percentilesMillis(double... ps) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        double[] result = new double[ps.length];
+        for (int i = 0; i < ps.length; i++) {
+            if (count == 0) {
+                continue;
+            }
+            int index = Math.min(count - 1, (int) Math.ceil(ps[i] * count) - 1);
+            result[i] = sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package com.back.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 고정 도착률(open model) 부하 발생기.
+ * i번째 요청은 시작 + i / rate 시각에 보내고, 지연은 그 예정 시각부터 잰다.
+ * 서버가 느려져도 보내는 속도를 늦추지 않으므로 대기열 지연이 백분위에 그대로 드러난다 (coordinated omission 방지).
+ */
+final class LoadDriver {
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+
+    LoadDriver(String baseUrl, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.requestTimeout = requestTimeout;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .build();
+    }
+
+    // 엔드포인트별 기록, 요청은 가상 스레드 하나씩에서 보낸다
+    Map<String, LatencyRecorder> run(LoadTarget target, double rate, Duration duration, double hotRatio) {
+        Map<String, LatencyRecorder> recorders = new ConcurrentHashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * intervalNanos;
+                if (scheduled >= end) {
+                    break;
+                }
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                String[] next = target.next(random, hotRatio);
+                LatencyRecorder recorder = recorders.computeIfAbsent(next[0], e -> new LatencyRecorder());
+                executor.execute(() -> send(next[1], scheduled, recorder));
+            }
+        } // 남은 요청이 끝날 때까지 기다린다
+        return recorders;
+    }
+
+    private void send(String path, long scheduled, LatencyRecorder recorder) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Accept-Encoding", "gzip")
+                .GET()
+                .build();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() >= 400) {
+                recorder.recordError();
+                return;
+            }
+            recorder.record(System.nanoTime() - scheduled);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            recorder.recordError();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.back.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * 엔드포인트별 요청 경로(키 공간)와 비율에 따라 다음 요청을 고른다.
+ * 키 공간은 시드 고정으로 섞어 앞쪽 hotKeys개를 hot 키로 쓰므로, 실행마다 같은 키가 hot이 된다.
+ */
+final class LoadTarget {
+
+    static final List<String> ENDPOINTS = List.of("analysis", "map-info", "categories");
+
+    private final String[] endpoints;
+    private final int[] cumulativeWeights;
+    private final List<List<String>> pathsByEndpoint = new ArrayList<>();
+    private final int hotKeys;
+
+    LoadTarget(LoadTestDataset dataset, Map<String, Integer> mix, int hotKeys) {
+        this.endpoints = mix.keySet().toArray(String[]::new);
+        this.cumulativeWeights = new int[endpoints.length];
+        this.hotKeys = hotKeys;
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += mix.get(endpoints[i]);
+            cumulativeWeights[i] = sum;
+            List<String> paths = paths(endpoints[i], dataset);
+            Collections.shuffle(paths, new Random(42));
+            pathsByEndpoint.add(paths);
+        }
+    }
+
+    // [엔드포인트, 경로]
+    String[] next(SplittableRandom random, double hotRatio) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int e = 0;
+        while (pick >= cumulativeWeights[e]) {
+            e++;
+        }
+        List<String> paths = pathsByEndpoint.get(e);
+        int bound = random.nextDouble() < hotRatio ? Math.min(hotKeys, paths.size()) : paths.size();
+        return new String[]{endpoints[e], paths.get(random.nextInt(bound))};
+    }
+
+    private static List<String> paths(String endpoint, LoadTestDataset dataset) {
+        List<String> paths = new ArrayList<>();
+        switch (endpoint) {
+            case "analysis" -> {
+                for (String admCode : dataset.admCodes()) {
+                    for (long categoryId : dataset.categoryIds()) {
+                        paths.add("/api/market/analysis?admCode=" + admCode + "&categoryId=" + categoryId);
+                    }
+                }
+            }
+            case "map-info" -> {
+                for (String province : dataset.provinces()) {
+                    for (long categoryId : dataset.categoryIds()) {
+                        paths.add("/api/market/map-info?province=" + URLEncoder.encode(province, StandardCharsets.UTF_8)
+                                + "&categoryId=" + categoryId);
+                    }
+                }
+            }
+            case "categories" -> paths.add("/api/market/categories");
+            default -> throw new IllegalArgumentException(endpoint);
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,70 @@
+package com.back.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 모든 값은 시스템 프로퍼티 loadtest.* 로 바꿀 수 있다 (./gradlew loadTest -Ploadtest.rate=500).
+ *
+ * @param rate        초당 요청 도착 수 (고정 도착률, 응답을 기다리지 않고 일정 간격으로 보낸다)
+ * @param warmup      측정 전 JIT/커넥션 예열 시간 (기록하지 않음)
+ * @param duration    단계(cold, hot)별 측정 시간, soak 테스트는 길게 준다
+ * @param mix         엔드포인트별 요청 비율 (analysis=70,map-info=25,categories=5)
+ * @param hotKeys     hot 단계에서 반복 조회할 키 수 (엔드포인트별)
+ * @param hotRatio    hot 단계에서 hot 키로 가는 요청 비율, 나머지는 전체 키 공간에서 고른다
+ * @param snapshot    false면 market.snapshot.enabled=false 로 띄워 캐시 미스가 DB까지 간다
+ */
+record LoadTestConfig(
+        double rate,
+        Duration warmup,
+        Duration duration,
+        Map<String, Integer> mix,
+        int hotKeys,
+        double hotRatio,
+        boolean snapshot,
+        int provinces,
+        int districtsPerProvince,
+        int townsPerDistrict,
+        int categories,
+        int days,
+        Duration requestTimeout,
+        Path output
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Double.parseDouble(property("rate", "200")),
+                Duration.parse(property("warmup", "PT20S")),
+                Duration.parse(property("duration", "PT60S")),
+                parseMix(property("mix", "analysis=70,map-info=25,categories=5")),
+                Integer.parseInt(property("hot-keys", "100")),
+                Double.parseDouble(property("hot-ratio", "0.95")),
+                Boolean.parseBoolean(property("snapshot", "true")),
+                Integer.parseInt(property("provinces", "17")),
+                Integer.parseInt(property("districts-per-province", "12")),
+                Integer.parseInt(property("towns-per-district", "17")),
+                Integer.parseInt(property("categories", "10")),
+                Integer.parseInt(property("days", "7")),
+                Duration.parse(property("request-timeout", "PT5S")),
+                Path.of(property("output", "build/reports/loadtest/report.json"))
+        );
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static Map<String, Integer> parseMix(String value) {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (!LoadTarget.ENDPOINTS.contains(parts[0])) {
+                throw new IllegalArgumentException("알 수 없는 엔드포인트: " + parts[0] + " (가능: " + LoadTarget.ENDPOINTS + ")");
+            }
+            mix.put(parts[0], Integer.parseInt(parts[1]));
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,136 @@
+package com.back.loadtest;
+
+import com.back.domain.market.entity.MarketGrade;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 전국 규모(기본 17개 시·도 x 12개 시·군·구 x 17개 동 ≈ 3,500개 행정동) x 전 업종 x 며칠치 market_stats를 채운다.
+ * 값 분포와 등급 기준은 JMH의 SeoulDataset과 같고, 날짜마다 같은 (지역, 업종) 행이 하나씩 있다 (운영 적재와 같은 모양).
+ */
+final class LoadTestDataset {
+
+    private static final List<String> PROVINCE_NAMES = List.of(
+            "서울특별시", "부산광역시", "대구광역시", "인천광역시", "광주광역시", "대전광역시", "울산광역시",
+            "세종특별자치시", "경기도", "강원특별자치도", "충청북도", "충청남도", "전북특별자치도", "전라남도",
+            "경상북도", "경상남도", "제주특별자치도");
+    private static final LocalDate LATEST_DATE = LocalDate.of(2025, 4, 7);
+    private static final int BATCH_SIZE = 5_000;
+
+    // 운영 ETL(DATA/src/config/constants.py)과 같은 점포당 유동인구 기준
+    private static final double OPPORTUNITY_THRESHOLD = 500.0;
+    private static final double OVERCROWDED_THRESHOLD = 100.0;
+
+    private final List<String> provinces = new ArrayList<>();
+    private final List<String> admCodes = new ArrayList<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+    private int rows;
+
+    private LoadTestDataset() {
+    }
+
+    static LoadTestDataset seed(JdbcTemplate jdbcTemplate, LoadTestConfig config) {
+        LoadTestDataset dataset = new LoadTestDataset();
+        dataset.insert(jdbcTemplate, config);
+        return dataset;
+    }
+
+    List<String> provinces() {
+        return provinces;
+    }
+
+    List<String> admCodes() {
+        return admCodes;
+    }
+
+    List<Long> categoryIds() {
+        return categoryIds;
+    }
+
+    int rows() {
+        return rows;
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate, LoadTestConfig config) {
+        List<Object[]> categories = new ArrayList<>();
+        for (long c = 1; c <= config.categories(); c++) {
+            categoryIds.add(c);
+            categories.add(new Object[]{c, "업종" + c});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO categories (category_id, name) VALUES (?, ?)", categories);
+
+        List<Object[]> regions = new ArrayList<>();
+        long regionId = 1;
+        for (int p = 0; p < config.provinces(); p++) {
+            String province = p < PROVINCE_NAMES.size() ? PROVINCE_NAMES.get(p) : "시도" + (p + 1);
+            provinces.add(province);
+            for (int d = 1; d <= config.districtsPerProvince(); d++) {
+                for (int t = 1; t <= config.townsPerDistrict(); t++) {
+                    String admCode = String.format("%02d%03d%03d", 11 + p, d * 10, t * 10);
+                    admCodes.add(admCode);
+                    regions.add(new Object[]{regionId++, province, "구" + d, "동" + t, admCode});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO regions (region_id, province, district, town, adm_code) VALUES (?, ?, ?, ?, ?)", regions);
+
+        // 날짜가 바뀌어도 지역별 규모는 비슷하게 유지하고 하루 변동만 준다
+        Random random = new Random(42);
+        int cells = (int) (regionId - 1) * config.categories();
+        int[] baseStores = new int[cells];
+        int[] baseFloating = new int[cells];
+        for (int i = 0; i < cells; i++) {
+            baseStores[i] = 1 + random.nextInt(200);
+            baseFloating[i] = 1_000 + random.nextInt(100_000);
+        }
+
+        List<Object[]> stats = new ArrayList<>(BATCH_SIZE);
+        for (int day = config.days() - 1; day >= 0; day--) {
+            Timestamp createdAt = Timestamp.valueOf(LATEST_DATE.minusDays(day).atTime(6, 0));
+            for (int i = 0; i < cells; i++) {
+                long region = i / config.categories() + 1;
+                long category = i % config.categories() + 1;
+                int storeCount = Math.max(1, baseStores[i] + random.nextInt(11) - 5);
+                int floating = Math.max(100, baseFloating[i] + random.nextInt(2_001) - 1_000);
+                int male = floating * (40 + random.nextInt(20)) / 100;
+                double perStore = (double) floating / storeCount;
+                stats.add(new Object[]{region, category, storeCount, floating, male, floating - male,
+                        (20 + random.nextInt(5) * 10) + "대", perStore, gradeOf(perStore).name(),
+                        createdAt, createdAt});
+                if (stats.size() == BATCH_SIZE) {
+                    insertStats(jdbcTemplate, stats);
+                }
+            }
+        }
+        insertStats(jdbcTemplate, stats);
+    }
+
+    private void insertStats(JdbcTemplate jdbcTemplate, List<Object[]> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO market_stats (region_id, category_id, store_count, floating_population, male_population,
+                                          female_population, age_group, population_per_store, market_grade,
+                                          created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, stats);
+        rows += stats.size();
+        stats.clear();
+    }
+
+    private static MarketGrade gradeOf(double populationPerStore) {
+        if (populationPerStore >= OPPORTUNITY_THRESHOLD) {
+            return MarketGrade.GREEN;
+        }
+        if (populationPerStore <= OVERCROWDED_THRESHOLD) {
+            return MarketGrade.RED;
+        }
+        return MarketGrade.YELLOW;
+    }
+}
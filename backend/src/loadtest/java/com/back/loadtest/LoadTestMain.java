@@ -0,0 +1,160 @@
+package com.back.loadtest;
+
+import com.back.BackApplication;
+import com.back.domain.market.snapshot.MarketDataVersionTracker;
+import com.back.global.web.EncodedResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 진입점 (./gradlew loadTest).
+ * 1. 내장 Redis와 앱(loadtest 프로필: H2 MariaDB 모드)을 띄운다.
+ * 2. 며칠치 market_stats를 채우고 데이터 버전을 갱신한다 (스냅샷 적재).
+ * 3. 예열(기록 안 함) → cold(캐시를 비우고 전체 키 공간에 고르게) → hot(hot 키 위주) 순으로 고정 도착률 부하를 건다.
+ * 4. 단계/엔드포인트별 처리량, p50/p99/p999, 요청당 할당량을 JSON으로 남긴다.
+ */
+public final class LoadTestMain {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        String startedAt = OffsetDateTime.now().toString();
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackApplication.class)
+                .profiles("loadtest")
+                .properties(
+                        "server.port=0",
+                        "spring.data.redis.port=" + redisPort,
+                        "market.snapshot.enabled=" + config.snapshot())
+                .run(args)) {
+            long seedStart = System.currentTimeMillis();
+            LoadTestDataset dataset = LoadTestDataset.seed(context.getBean(JdbcTemplate.class), config);
+            context.getBean(MarketDataVersionTracker.class).refresh();
+            long seedMillis = System.currentTimeMillis() - seedStart;
+            log.info("데이터 적재 완료: regions={}, rows={}, {}ms", dataset.admCodes().size(), dataset.rows(), seedMillis);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver driver = new LoadDriver("http://localhost:" + port, config.requestTimeout());
+            LoadTarget target = new LoadTarget(dataset, config.mix(), config.hotKeys());
+            AllocationRecordingFilter allocations = context.getBean(AllocationRecordingFilter.class);
+
+            log.info("예열 {}", config.warmup());
+            driver.run(target, config.rate(), config.warmup(), 0.5);
+
+            List<LoadTestReport.Phase> phases = new ArrayList<>();
+            clearCaches(context);
+            phases.add(runPhase("cold", 0.0, driver, target, allocations, config));
+            phases.add(runPhase("hot", config.hotRatio(), driver, target, allocations, config));
+
+            LoadTestReport report = new LoadTestReport(
+                    startedAt,
+                    config,
+                    new LoadTestReport.Dataset(dataset.admCodes().size(), config.categories(), config.days(), dataset.rows(), seedMillis),
+                    phases
+            );
+            Files.createDirectories(config.output().toAbsolutePath().getParent());
+            context.getBean(ObjectMapper.class).writerWithDefaultPrettyPrinter().writeValue(config.output().toFile(), report);
+            log.info("보고서: {}", config.output().toAbsolutePath());
+        } finally {
+            redis.stop();
+        }
+    }
+
+    private static LoadTestReport.Phase runPhase(String name, double hotRatio, LoadDriver driver, LoadTarget target,
+                                                 AllocationRecordingFilter allocations, LoadTestConfig config) {
+        log.info("{} 단계: rate={}/s, duration={}, hotRatio={}", name, config.rate(), config.duration(), hotRatio);
+        allocations.drain();
+        long gcCountBefore = gcCount();
+        long gcMillisBefore = gcMillis();
+        long start = System.nanoTime();
+
+        Map<String, LatencyRecorder> recorders = driver.run(target, config.rate(), config.duration(), hotRatio);
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        Map<String, Long> allocatedBytes = allocations.drain();
+        List<LoadTestReport.Endpoint> endpoints = new ArrayList<>();
+        recorders.forEach((endpoint, recorder) -> {
+            double[] percentiles = recorder.percentilesMillis(0.5, 0.99, 0.999, 1.0);
+            long allocated = allocatedBytes.getOrDefault(endpoint, 0L);
+            int requests = recorder.count() + recorder.errors();
+            endpoints.add(new LoadTestReport.Endpoint(
+                    endpoint,
+                    requests,
+                    recorder.errors(),
+                    round(recorder.count() / elapsedSeconds),
+                    percentiles[0],
+                    percentiles[1],
+                    percentiles[2],
+                    percentiles[3],
+                    requests > 0 ? allocated / requests : 0,
+                    round(allocated / elapsedSeconds / (1024 * 1024))
+            ));
+            log.info("  {}: {} req, {} err, p50={}ms, p99={}ms, p999={}ms",
+                    endpoint, requests, recorder.errors(), percentiles[0], percentiles[1], percentiles[2]);
+        });
+        return new LoadTestReport.Phase(
+                name,
+                config.rate(),
+                hotRatio,
+                round(elapsedSeconds),
+                gcCount() - gcCountBefore,
+                gcMillis() - gcMillisBefore,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024),
+                endpoints
+        );
+    }
+
+    // 로컬(Caffeine) + Redis 캐시와 응답 바이트 캐시를 모두 비운다 (스냅샷은 그대로)
+    private static void clearCaches(ConfigurableApplicationContext context) {
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        context.getBean(EncodedResponseCache.class).clear();
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
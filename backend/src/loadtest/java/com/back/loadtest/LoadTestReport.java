@@ -0,0 +1,52 @@
+package com.back.loadtest;
+
+import java.util.List;
+
+/**
+ * build/reports/loadtest/report.json 구조. 실행 간 비교(추이)를 위해 설정과 데이터 규모를 함께 남긴다.
+ */
+record LoadTestReport(
+        String startedAt,
+        LoadTestConfig config,
+        Dataset dataset,
+        List<Phase> phases
+) {
+    record Dataset(int regions, int categories, int days, int rows, long seedMillis) {
+    }
+
+    /**
+     * @param name       cold (시작 시 캐시를 비움) 또는 hot (hot 키 위주)
+     * @param gcCount    단계 동안의 GC 횟수 (soak에서 증가 추이를 본다)
+     * @param heapUsedMb 단계 종료 시 힙 사용량
+     */
+    record Phase(
+            String name,
+            double targetRate,
+            double hotRatio,
+            double elapsedSeconds,
+            long gcCount,
+            long gcMillis,
+            long heapUsedMb,
+            List<Endpoint> endpoints
+    ) {
+    }
+
+    /**
+     * @param throughput            초당 성공 응답 수
+     * @param allocatedBytesPerRequest 서버 요청 스레드의 요청당 할당량
+     * @param allocationRateMbPerSec   이 엔드포인트가 만든 할당률 (MB/s)
+     */
+    record Endpoint(
+            String endpoint,
+            int requests,
+            int errors,
+            double throughput,
+            double p50Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            long allocatedBytesPerRequest,
+            double allocationRateMbPerSec
+    ) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.back.api;
+
+import com.back.domain.geometry.dto.response.MapFeatureCollection;
+import com.back.domain.geometry.index.RegionGeometry;
+import com.back.domain.geometry.service.MapFeatureService;
+import com.back.domain.market.service.MarketAnalysisService;
+import com.back.domain.market.snapshot.MarketDataVersion;
+import com.back.global.web.EncodedResponseCache;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/map")
+@RequiredArgsConstructor
+public class MapController {
+
+    private final MapFeatureService mapFeatureService;
+    private final MarketAnalysisService marketAnalysisService;
+    private final EncodedResponseCache encodedResponseCache;
+
+    /**
+     * 광역자치단체의 행정동 폴리곤 + 상권 등급 (본문: GeoJSON FeatureCollection)
+     * zoom에 맞게 단순화된 좌표를 내려주며, 결과는 데이터 버전별로 직렬화해 재사용한다 (버전을 모르면 매번 만든다).
+     */
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MapFeatureCollection.class)))
+    @GetMapping("/features")
+    public ResponseEntity<byte[]> getFeatures(
+            @RequestParam("province") String province,
+            @RequestParam("categoryId") Long categoryId,
+            @RequestParam(value = "zoom", defaultValue = "11") int zoom,
+            WebRequest request
+    ) {
+        int level = RegionGeometry.normalizeZoom(zoom);
+        long version = marketAnalysisService.currentVersion().map(MarketDataVersion::id).orElse(0L);
+        return encodedResponseCache.respond(request, "features:" + province + "_" + categoryId + "_" + level,
+                version, version > 0 ? version : -1,
+                () -> mapFeatureService.getFeatures(province, categoryId, level));
+    }
+}
@@ -0,0 +1,81 @@
+package com.back.api;
+
+import com.back.domain.market.dto.request.MarketRegradeRequest;
+import com.back.domain.market.dto.response.MarketIngestResponse;
+import com.back.domain.market.dto.response.MarketRegradeResponse;
+import com.back.domain.market.export.MarketExportFormat;
+import com.back.domain.market.export.MarketExportService;
+import com.back.domain.market.grade.GradePolicyFactory;
+import com.back.domain.market.grade.MarketGradeEngine;
+import com.back.domain.market.ingest.MarketIngestFormat;
+import com.back.domain.market.ingest.MarketIngestService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/admin/market")
+@RequiredArgsConstructor
+public class MarketAdminController {
+
+    private final MarketIngestService marketIngestService;
+    private final MarketGradeEngine marketGradeEngine;
+    private final GradePolicyFactory gradePolicyFactory;
+    private final MarketExportService marketExportService;
+
+    /**
+     * 하루치 상권 데이터 일괄 적재 (해당 날짜 데이터를 통째로 교체)
+     * 본문: CSV(text/csv, 헤더 포함) 또는 NDJSON(application/x-ndjson), 컬럼은 ETL과 같은 snake_case
+     */
+    @PostMapping(value = "/ingest", consumes = {"text/csv", "application/x-ndjson", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<MarketIngestResponse> ingest(
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpServletRequest request
+    ) throws IOException {
+        MarketIngestFormat format = MarketIngestFormat.from(MediaType.parseMediaType(request.getContentType()));
+        return ResponseEntity.ok(marketIngestService.ingest(date, format, request.getInputStream()));
+    }
+
+    /**
+     * 전체 데이터의 점포당 유동인구와 등급을 다시 계산 (ETL 재실행 없이 기준 변경 반영)
+     * 본문을 생략하거나 일부 값만 보내면 나머지는 설정(market.grade.*) 값을 사용
+     */
+    @PostMapping("/regrade")
+    public ResponseEntity<MarketRegradeResponse> regrade(
+            @RequestBody(required = false) @Valid MarketRegradeRequest request
+    ) {
+        return ResponseEntity.ok(marketGradeEngine.regrade(gradePolicyFactory.create(request)));
+    }
+
+    /**
+     * 기간 [from, to]의 상권 데이터 전체를 NDJSON(기본) 또는 CSV로 스트리밍 (지역/업종 이름 포함)
+     * 기간을 생략하면 현재 서비스 중인 적재일 하루치. 응답은 청크 단위로 전송된다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "format", defaultValue = "ndjson") String format
+    ) {
+        MarketExportFormat exportFormat = MarketExportFormat.from(format);
+        LocalDate start = from != null ? from : marketExportService.latestStatsDate();
+        LocalDate end = to != null ? to : start;
+        String filename = "market_stats_" + start + "_" + end + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(marketExportService.export(start, end, exportFormat));
+    }
+}
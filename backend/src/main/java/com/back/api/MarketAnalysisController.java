@@ -1,46 +1,235 @@
 package com.back.api;
 
 import com.back.domain.category.entity.Category;
+import com.back.domain.market.dimension.DimensionDictionary;
+import com.back.domain.market.dto.request.MarketBatchRequest;
+import com.back.domain.market.dto.request.MarketSimulationRequest;
+import com.back.domain.market.dto.response.MarketBatchResponse;
 import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.dto.response.MarketHistoryResponse;
 import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.dto.response.MarketMatrixResponse;
+import com.back.domain.market.dto.response.MarketNeighborhoodResponse;
+import com.back.domain.market.dto.response.MarketRankingResponse;
+import com.back.domain.market.dto.response.MarketRollupResponse;
+import com.back.domain.market.dto.response.MarketSimulationResponse;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.fallback.MarketFallbackStore;
+import com.back.domain.market.matrix.MarketMatrixService;
+import com.back.domain.market.neighborhood.MarketNeighborhoodService;
+import com.back.domain.market.neighborhood.NeighborhoodMode;
+import com.back.domain.market.ranking.MarketRankingService;
+import com.back.domain.market.ranking.RankingMetric;
+import com.back.domain.market.ranking.RankingOrder;
+import com.back.domain.market.rollup.MarketRollupService;
+import com.back.domain.market.rollup.RollupLevel;
 import com.back.domain.market.service.MarketAnalysisService;
+import com.back.domain.market.simulation.MarketSimulationService;
+import com.back.domain.market.snapshot.MarketDataVersion;
+import com.back.global.error.exception.BusinessException;
+import com.back.global.error.exception.CircuitOpenException;
+import com.back.global.web.EncodedResponseCache;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.util.function.Supplier;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/market")
 @RequiredArgsConstructor
 public class MarketAnalysisController {
 
     private final MarketAnalysisService marketAnalysisService;
+    private final MarketRankingService marketRankingService;
+    private final MarketRollupService marketRollupService;
+    private final MarketMatrixService marketMatrixService;
+    private final MarketNeighborhoodService marketNeighborhoodService;
+    private final MarketSimulationService marketSimulationService;
+    private final MarketFallbackStore marketFallbackStore;
+    private final DimensionDictionary dimensionDictionary;
+    private final EncodedResponseCache encodedResponseCache;
 
-    // 상권 상세 분석 조회
+    // 상권 상세 분석 조회 (본문: MarketDetailResponse)
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MarketDetailResponse.class)))
     @GetMapping("/analysis")
-    public ResponseEntity<MarketDetailResponse> getMarketAnalysis(
+    public ResponseEntity<byte[]> getMarketAnalysis(
             @RequestParam("admCode") String admCode,
-            @RequestParam("categoryId") Long categoryId
+            @RequestParam("categoryId") Long categoryId,
+            WebRequest request
     ) {
-        MarketDetailResponse response = marketAnalysisService.getAnalysis(admCode, categoryId);
-        return ResponseEntity.ok(response);
+        return respondOrStale(request, "analysis:" + admCode + "_" + categoryId,
+                () -> marketAnalysisService.getAnalysis(admCode, categoryId));
     }
 
+    /**
+     * 한 지역의 모든 업종 지표와 시·도 내 백분위 (본문: MarketMatrixResponse)
+     * 업종별 상세 조회를 여러 번 하는 대신 지역 화면을 한 번에 채운다.
+     */
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MarketMatrixResponse.class)))
+    @GetMapping("/analysis/matrix")
+    public ResponseEntity<byte[]> getMarketMatrix(
+            @RequestParam("admCode") String admCode,
+            WebRequest request
+    ) {
+        return respond(request, "matrix:" + admCode, () -> marketMatrixService.getMatrix(admCode));
+    }
 
+    // 여러 (지역, 업종) 상세 분석 일괄 조회 (최대 MarketBatchRequest.MAX_ITEMS건)
+    @PostMapping("/analysis/batch")
+    public ResponseEntity<MarketBatchResponse> getMarketAnalyses(
+            @RequestBody @Valid MarketBatchRequest request
+    ) {
+        return ResponseEntity.ok(marketAnalysisService.getAnalyses(request.items()));
+    }
+
+    // 지도 시각화용 데이터 조회 (본문: List<MarketMapResponse>)
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = MarketMapResponse.class))))
     @GetMapping("/map-info")
-    public ResponseEntity<List<MarketMapResponse>> getMapInfo(
+    public ResponseEntity<byte[]> getMapInfo(
             @RequestParam("province") String province,
-            @RequestParam("categoryId") Long categoryId
+            @RequestParam("categoryId") Long categoryId,
+            WebRequest request
     ) {
-        List<MarketMapResponse> mapInfo = marketAnalysisService.getMapInfo(province, categoryId);
-        return ResponseEntity.ok(mapInfo);
+        return respondOrStale(request, "map-info:" + province + "_" + categoryId,
+                () -> marketAnalysisService.getMapInfo(province, categoryId));
     }
 
-    // 업종 목록 조회
+    // 업종 목록 조회 (본문: List<Category>), market_stats와 무관하므로 차원 사전의 업종 목록 버전을 쓴다
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            array = @ArraySchema(schema = @Schema(implementation = Category.class))))
     @GetMapping("/categories")
-    public ResponseEntity<List<Category>> getCategories() {
-        return ResponseEntity.ok(marketAnalysisService.getAllCategories());
+    public ResponseEntity<byte[]> getCategories(WebRequest request) {
+        long version = dimensionDictionary.get().categoryVersion();
+        return encodedResponseCache.respond(request, "categories", version, -1, marketAnalysisService::getAllCategories);
+    }
+
+    /**
+     * 지역 x 업종 순위 (본문: MarketRankingResponse)
+     * 예: 서울 카페 GREEN 지역을 점포당 유동인구 순으로
+     *     ?metric=POPULATION_PER_STORE&categoryId=1&province=서울특별시&grade=GREEN
+     * categoryId가 없으면 모든 업종을 한 순위로 합친다. limit은 최대 MarketRankingService.MAX_LIMIT.
+     */
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MarketRankingResponse.class)))
+    @GetMapping("/rankings")
+    public ResponseEntity<byte[]> getRankings(
+            @RequestParam(value = "metric", defaultValue = "POPULATION_PER_STORE") RankingMetric metric,
+            @RequestParam(value = "order", defaultValue = "DESC") RankingOrder order,
+            @RequestParam(value = "categoryId", required = false) Long categoryId,
+            @RequestParam(value = "province", required = false) String province,
+            @RequestParam(value = "district", required = false) String district,
+            @RequestParam(value = "grade", required = false) MarketGrade grade,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            WebRequest request
+    ) {
+        String key = "rankings:" + metric + "_" + order + "_" + categoryId + "_" + province + "_" + district + "_" + grade + "_" + limit;
+        return respond(request, key,
+                () -> marketRankingService.getRankings(metric, order, categoryId, province, district, grade, limit));
+    }
+
+    /**
+     * 시·군·구 / 시·도 단위 집계 (본문: MarketRollupResponse) - 축소된 지도 화면용
+     * ?level=district&province=서울특별시&categoryId=1, ?level=province&categoryId=1
+     * district 단계에서 province가 없으면 전국 시·군·구를 준다.
+     */
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MarketRollupResponse.class)))
+    @GetMapping("/rollup")
+    public ResponseEntity<byte[]> getRollup(
+            @RequestParam(value = "level", defaultValue = "DISTRICT") RollupLevel level,
+            @RequestParam(value = "province", required = false) String province,
+            @RequestParam("categoryId") Long categoryId,
+            WebRequest request
+    ) {
+        return respond(request, "rollup:" + level + "_" + province + "_" + categoryId,
+                () -> marketRollupService.getRollup(level, province, categoryId));
+    }
+
+    /**
+     * 주변 행정동 지표와 합계 (본문: MarketNeighborhoodResponse)
+     * ?mode=nearest&admCode=11110515&categoryId=1&k=8, ?mode=radius&lat=37.57&lng=126.98&categoryId=1&radiusKm=1.5,
+     * ?mode=adjacent&admCode=11110515&categoryId=1
+     * k는 최대 MarketNeighborhoodService.MAX_K, radiusKm는 최대 MAX_RADIUS_KM.
+     */
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MarketNeighborhoodResponse.class)))
+    @GetMapping("/neighborhood")
+    public ResponseEntity<byte[]> getNeighborhood(
+            @RequestParam(value = "mode", defaultValue = "NEAREST") NeighborhoodMode mode,
+            @RequestParam(value = "admCode", required = false) String admCode,
+            @RequestParam(value = "lat", required = false) Double lat,
+            @RequestParam(value = "lng", required = false) Double lng,
+            @RequestParam("categoryId") Long categoryId,
+            @RequestParam(value = "k", defaultValue = "8") int k,
+            @RequestParam(value = "radiusKm", defaultValue = "1.0") double radiusKm,
+            WebRequest request
+    ) {
+        String key = "neighborhood:" + mode + "_" + admCode + "_" + lat + "_" + lng + "_" + categoryId + "_" + k + "_" + radiusKm;
+        return respond(request, key,
+                () -> marketNeighborhoodService.getNeighborhood(mode, admCode, lat, lng, categoryId, k, radiusKm));
+    }
+
+    /**
+     * 가정 시나리오 계산 (DB에 쓰지 않음): 지역별 점포 / 유동인구 증감을 적용했을 때 점포당 유동인구와 등급,
+     * 시·군·구 / 시·도 집계의 변경 전후. 변경은 최대 MarketSimulationRequest.MAX_CHANGES건,
+     * 예: {"categoryId":1,"changes":[{"admCode":"11110515","storeDelta":5}]}
+     */
+    @PostMapping("/simulation")
+    public ResponseEntity<MarketSimulationResponse> simulate(
+            @RequestBody @Valid MarketSimulationRequest request
+    ) {
+        return ResponseEntity.ok(marketSimulationService.simulate(request));
+    }
+
+    // 지역/업종 일별 추이 조회 (from, to: yyyy-MM-dd)
+    @GetMapping("/history")
+    public ResponseEntity<MarketHistoryResponse> getHistory(
+            @RequestParam("admCode") String admCode,
+            @RequestParam("categoryId") Long categoryId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(marketAnalysisService.getHistory(admCode, categoryId, from, to));
+    }
+
+    /**
+     * 데이터 버전 기준으로 직렬화된 응답을 재사용하고, 조건부 요청(ETag)이 일치하면 304로 끝낸다.
+     * 서비스는 바이트 캐시에 없을 때만 호출된다. 버전을 모르면(0) 캐시와 ETag 없이 매번 만든다.
+     */
+    private ResponseEntity<byte[]> respond(WebRequest request, String key, Supplier<?> bodySupplier) {
+        long version = marketAnalysisService.currentVersion().map(MarketDataVersion::id).orElse(0L);
+        return encodedResponseCache.respond(request, key, version, version > 0 ? version : -1, bodySupplier);
+    }
+
+    /**
+     * respond와 같고, DB / Redis 장애(서킷 열림 포함)로 본문을 만들지 못하면 마지막 정상 본문을 오래된 데이터 표시와 함께 준다.
+     * 없는 데이터(404) 같은 업무 예외는 그대로 던진다.
+     */
+    private ResponseEntity<byte[]> respondOrStale(WebRequest request, String key, Supplier<?> bodySupplier) {
+        try {
+            return respond(request, key, () -> marketFallbackStore.remember(key, bodySupplier.get()));
+        } catch (RuntimeException e) {
+            if (e instanceof BusinessException && !(e instanceof CircuitOpenException)) {
+                throw e;
+            }
+            MarketFallbackStore.Entry stale = marketFallbackStore.find(key).orElseThrow(() -> e);
+            return encodedResponseCache.respondStale(request, stale.body(), stale.savedAt());
+        }
     }
 
-}
\ No newline at end of file
+}
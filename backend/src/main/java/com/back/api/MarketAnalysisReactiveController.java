@@ -0,0 +1,49 @@
+package com.back.api;
+
+import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.reactive.ReactiveMarketAnalysisService;
+import com.back.domain.market.reactive.ReactiveMarketStatsRepository.CategoryRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * reactive 프로필(WebFlux)에서 MarketAnalysisController 대신 등록되는 읽기 API.
+ * 경로와 응답 본문은 같고, 응답 바이트 캐시/ETag(EncodedResponseCache)는 거치지 않는다.
+ */
+@RestController
+@RequestMapping("/api/market")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class MarketAnalysisReactiveController {
+
+    private final ReactiveMarketAnalysisService reactiveMarketAnalysisService;
+
+    @GetMapping("/analysis")
+    public Mono<MarketDetailResponse> getMarketAnalysis(
+            @RequestParam("admCode") String admCode,
+            @RequestParam("categoryId") Long categoryId
+    ) {
+        return reactiveMarketAnalysisService.getAnalysis(admCode, categoryId);
+    }
+
+    @GetMapping("/map-info")
+    public Mono<List<MarketMapResponse>> getMapInfo(
+            @RequestParam("province") String province,
+            @RequestParam("categoryId") Long categoryId
+    ) {
+        return reactiveMarketAnalysisService.getMapInfo(province, categoryId);
+    }
+
+    @GetMapping("/categories")
+    public Mono<List<CategoryRow>> getCategories() {
+        return reactiveMarketAnalysisService.getAllCategories();
+    }
+}
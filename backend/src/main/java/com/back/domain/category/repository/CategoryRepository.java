@@ -2,7 +2,19 @@ package com.back.domain.category.repository;
 
 import com.back.domain.category.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    // 차원 사전 변경 확인용: 2차 캐시를 거치지 않도록 엔티티 대신 컬럼 값만 PK 순으로 읽는다
+    @Query("select c.id as id, c.name as name from Category c order by c.id")
+    List<Columns> findAllColumns();
+
+    interface Columns {
+        Long getId();
+
+        String getName();
+    }
 }
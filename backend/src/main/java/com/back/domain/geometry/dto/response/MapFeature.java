@@ -0,0 +1,29 @@
+package com.back.domain.geometry.dto.response;
+
+import com.back.domain.market.entity.MarketGrade;
+
+public record MapFeature(
+        String type,
+        Properties properties,
+        Geometry geometry
+) {
+    public static MapFeature of(Properties properties, double[][][][] coordinates) {
+        return new MapFeature("Feature", properties, new Geometry("MultiPolygon", coordinates));
+    }
+
+    public record Properties(
+            String admCode,
+            String name,
+            String district,
+            Integer storeCount,     // 분석 데이터가 없으면 null
+            MarketGrade marketGrade,
+            String colorCode
+    ) {
+    }
+
+    public record Geometry(
+            String type,
+            double[][][][] coordinates
+    ) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.back.domain.geometry.dto.response;
+
+import java.util.List;
+
+// GeoJSON FeatureCollection (지도 폴리곤 + 상권 지표가 결합된 형태)
+public record MapFeatureCollection(
+        String type,
+        List<MapFeature> features
+) {
+    public static MapFeatureCollection of(List<MapFeature> features) {
+        return new MapFeatureCollection("FeatureCollection", features);
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.domain.geometry.error.exception;
+
+import com.back.global.error.ErrorCode;
+import com.back.global.error.exception.BusinessException;
+
+public class GeometryNotLoadedException extends BusinessException {
+    public GeometryNotLoadedException() {
+        super(ErrorCode.GEOMETRY_NOT_LOADED);
+    }
+}
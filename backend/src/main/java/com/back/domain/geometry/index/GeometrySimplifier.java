@@ -0,0 +1,85 @@
+package com.back.domain.geometry.index;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Douglas-Peucker 선 단순화.
+ * 폴리곤 링(시작점 = 끝점)을 받아 tolerance(좌표 단위, 도) 이내의 점을 제거한다.
+ */
+final class GeometrySimplifier {
+
+    private GeometrySimplifier() {
+    }
+
+    static double[][] simplifyRing(double[][] ring, double tolerance) {
+        int n = ring.length;
+        if (n <= 4) {
+            return ring;
+        }
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+
+        // 재귀 대신 스택으로 구간을 나눠 깊은 링에서도 스택 오버플로가 나지 않게 한다
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[]{0, n - 1});
+        double toleranceSquared = tolerance * tolerance;
+        while (!stack.isEmpty()) {
+            int[] range = stack.pop();
+            int start = range[0];
+            int end = range[1];
+            double maxDistance = -1;
+            int farthest = -1;
+            for (int i = start + 1; i < end; i++) {
+                double distance = segmentDistanceSquared(ring[i], ring[start], ring[end]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+            if (farthest >= 0 && maxDistance > toleranceSquared) {
+                keep[farthest] = true;
+                stack.push(new int[]{start, farthest});
+                stack.push(new int[]{farthest, end});
+            }
+        }
+
+        int kept = 0;
+        for (boolean k : keep) {
+            if (k) {
+                kept++;
+            }
+        }
+        // 닫힌 링은 최소 4점이 필요하므로 너무 줄어들면 원본을 유지한다
+        if (kept < 4) {
+            return ring;
+        }
+        double[][] simplified = new double[kept][];
+        int index = 0;
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                simplified[index++] = ring[i];
+            }
+        }
+        return simplified;
+    }
+
+    private static double segmentDistanceSquared(double[] p, double[] a, double[] b) {
+        double dx = b[0] - a[0];
+        double dy = b[1] - a[1];
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            double px = p[0] - a[0];
+            double py = p[1] - a[1];
+            return px * px + py * py;
+        }
+        double t = ((p[0] - a[0]) * dx + (p[1] - a[1]) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        double projX = a[0] + t * dx;
+        double projY = a[1] + t * dy;
+        double ex = p[0] - projX;
+        double ey = p[1] - projY;
+        return ex * ex + ey * ey;
+    }
+}
@@ -0,0 +1,112 @@
+package com.back.domain.geometry.index;
+
+import lombok.Getter;
+
+/**
+ * 행정동 하나의 경계 (GeoJSON MultiPolygon 좌표: [폴리곤][링][점][경도, 위도]).
+ * 줌 레벨별로 단순화한 좌표를 미리 만들어 둔다.
+ */
+public class RegionGeometry {
+
+    // 단순화 좌표를 미리 만들어 두는 줌 레벨 (이보다 큰 줌은 원본 좌표)
+    static final int[] ZOOM_LEVELS = {8, 11, 14};
+
+    @Getter
+    private final String admCode;
+    @Getter
+    private final String name;
+    private final double[][][][] coordinates;
+    private final double[][][][][] simplifiedByLevel;
+    // 외곽 링 기준 면적 가중 중심 (주변 지역 색인용)
+    @Getter
+    private final double centroidLon;
+    @Getter
+    private final double centroidLat;
+
+    RegionGeometry(String admCode, String name, double[][][][] coordinates) {
+        this.admCode = admCode;
+        this.name = name;
+        this.coordinates = coordinates;
+        this.simplifiedByLevel = new double[ZOOM_LEVELS.length][][][][];
+        for (int level = 0; level < ZOOM_LEVELS.length; level++) {
+            simplifiedByLevel[level] = simplify(coordinates, toleranceFor(ZOOM_LEVELS[level]));
+        }
+        double[] centroid = centroid(coordinates);
+        this.centroidLon = centroid[0];
+        this.centroidLat = centroid[1];
+    }
+
+    // 원본 좌표 (인접 판정용)
+    double[][][][] coordinates() {
+        return coordinates;
+    }
+
+    public double[][][][] coordinatesFor(int zoom) {
+        for (int level = 0; level < ZOOM_LEVELS.length; level++) {
+            if (zoom <= ZOOM_LEVELS[level]) {
+                return simplifiedByLevel[level];
+            }
+        }
+        return coordinates;
+    }
+
+    // 요청 줌을 실제로 사용하는 단순화 레벨로 정규화 (응답 캐시 키 수를 줄이기 위함)
+    public static int normalizeZoom(int zoom) {
+        for (int level : ZOOM_LEVELS) {
+            if (zoom <= level) {
+                return level;
+            }
+        }
+        return ZOOM_LEVELS[ZOOM_LEVELS.length - 1] + 1;
+    }
+
+    // 해당 줌에서 1픽셀(256px 타일 기준)에 해당하는 경도 폭
+    private static double toleranceFor(int zoom) {
+        return 360.0 / (256.0 * (1L << zoom));
+    }
+
+    /*
+     * 폴리곤별 외곽 링(ring 0)의 신발끈 공식 중심을 면적으로 가중 평균한다.
+     * 동 단위 면적에서는 경위도를 평면으로 봐도 오차가 작다. 면적이 0이면 꼭짓점 평균.
+     */
+    private static double[] centroid(double[][][][] polygons) {
+        double area = 0;
+        double cx = 0;
+        double cy = 0;
+        double sumX = 0;
+        double sumY = 0;
+        int points = 0;
+        for (double[][][] polygon : polygons) {
+            if (polygon.length == 0) {
+                continue;
+            }
+            double[][] ring = polygon[0];
+            for (int i = 0; i < ring.length; i++) {
+                double[] a = ring[i];
+                double[] b = ring[(i + 1) % ring.length];
+                double cross = a[0] * b[1] - b[0] * a[1];
+                area += cross;
+                cx += (a[0] + b[0]) * cross;
+                cy += (a[1] + b[1]) * cross;
+                sumX += a[0];
+                sumY += a[1];
+                points++;
+            }
+        }
+        if (Math.abs(area) < 1e-12) {
+            return points > 0 ? new double[]{sumX / points, sumY / points} : new double[]{0, 0};
+        }
+        return new double[]{cx / (3 * area), cy / (3 * area)};
+    }
+
+    private static double[][][][] simplify(double[][][][] polygons, double tolerance) {
+        double[][][][] result = new double[polygons.length][][][];
+        for (int p = 0; p < polygons.length; p++) {
+            result[p] = new double[polygons[p].length][][];
+            for (int r = 0; r < polygons[p].length; r++) {
+                result[p][r] = GeometrySimplifier.simplifyRing(polygons[p][r], tolerance);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+package com.back.domain.geometry.index;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 행정동 경계 GeoJSON을 한 번만 읽어 admCode 기준으로 색인한다.
+ * 파일이 수십 MB이므로 feature 단위로 스트리밍 파싱한다.
+ * admCode 규칙은 프론트엔드와 같다: adm_cd2가 있으면 앞 8자리, 없으면 adm_cd.
+ */
+@Slf4j
+@Component
+public class RegionGeometryIndex {
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String location;
+    private volatile Map<String, RegionGeometry> geometries = Map.of();
+    private volatile RegionSpatialIndex spatialIndex;
+
+    public RegionGeometryIndex(ResourceLoader resourceLoader, ObjectMapper objectMapper,
+                               @Value("${geometry.geojson-location:}") String location) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.location = location;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (location == null || location.isBlank()) {
+            log.warn("geometry.geojson-location이 설정되지 않아 지도 geometry / 주변 지역 기능을 사용할 수 없습니다");
+            return;
+        }
+        Resource resource = resourceLoader.getResource(location);
+        if (!resource.exists()) {
+            log.warn("행정동 경계 파일이 없어 지도 geometry 기능을 사용할 수 없습니다: {}", location);
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Map<String, RegionGeometry> loaded = new HashMap<>();
+        int skipped = 0;
+        try (InputStream in = resource.getInputStream();
+             JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() == JsonToken.FIELD_NAME && "features".equals(parser.currentName())) {
+                    parser.nextToken(); // START_ARRAY
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        JsonNode feature = objectMapper.readTree(parser);
+                        // 잘못된 feature 하나 때문에 기동 이벤트가 실패하지 않도록 건너뛰고 센다
+                        try {
+                            RegionGeometry geometry = toGeometry(feature);
+                            if (geometry != null) {
+                                loaded.put(geometry.getAdmCode(), geometry);
+                            } else {
+                                skipped++;
+                            }
+                        } catch (RuntimeException e) {
+                            skipped++;
+                            log.debug("행정동 경계 feature 건너뜀: {}", e.toString());
+                        }
+                    }
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            log.error("행정동 경계 파일 파싱 실패: {}", location, e);
+            return;
+        }
+        this.spatialIndex = RegionSpatialIndex.build(loaded.values());
+        this.geometries = Collections.unmodifiableMap(loaded);
+        if (skipped > 0) {
+            log.warn("형식이 잘못된 행정동 경계 {}건을 건너뛰었습니다: {}", skipped, location);
+        }
+        log.info("행정동 경계 {}건 색인 완료 ({}ms)", loaded.size(), System.currentTimeMillis() - start);
+    }
+
+    public boolean isLoaded() {
+        return !geometries.isEmpty();
+    }
+
+    public Optional<RegionGeometry> find(String admCode) {
+        return Optional.ofNullable(geometries.get(admCode));
+    }
+
+    // 중심점 KD-tree + 인접 관계, 로드 전이면 empty
+    public Optional<RegionSpatialIndex> spatialIndex() {
+        return Optional.ofNullable(spatialIndex);
+    }
+
+    public Collection<RegionGeometry> all() {
+        return geometries.values();
+    }
+
+    // 형식이 맞지 않으면 null (건너뜀)
+    private RegionGeometry toGeometry(JsonNode feature) {
+        JsonNode properties = feature.path("properties");
+        String admCode = properties.hasNonNull("adm_cd2")
+                ? properties.get("adm_cd2").asText()
+                : properties.path("adm_cd").asText(null);
+        if (admCode == null || admCode.length() < 8) {
+            return null;
+        }
+        admCode = admCode.substring(0, 8);
+        JsonNode geometry = feature.path("geometry");
+        JsonNode coordinates = geometry.path("coordinates");
+        double[][][][] polygons = switch (geometry.path("type").asText()) {
+            case "Polygon" -> new double[][][][]{toPolygon(coordinates)};
+            case "MultiPolygon" -> toMultiPolygon(coordinates);
+            default -> null;
+        };
+        if (polygons == null || polygons.length == 0) {
+            return null;
+        }
+        return new RegionGeometry(admCode, properties.path("adm_nm").asText(""), polygons);
+    }
+
+    private static double[][][][] toMultiPolygon(JsonNode node) {
+        requireArray(node);
+        double[][][][] polygons = new double[node.size()][][][];
+        for (int i = 0; i < node.size(); i++) {
+            polygons[i] = toPolygon(node.get(i));
+        }
+        return polygons;
+    }
+
+    // 외곽 링이 있고 링마다 점이 3개 이상, 점은 [경도, 위도] 숫자여야 한다
+    private static double[][][] toPolygon(JsonNode node) {
+        requireArray(node);
+        if (node.isEmpty()) {
+            throw new IllegalArgumentException("빈 폴리곤");
+        }
+        double[][][] rings = new double[node.size()][][];
+        for (int r = 0; r < node.size(); r++) {
+            JsonNode ring = requireArray(node.get(r));
+            if (ring.size() < 3) {
+                throw new IllegalArgumentException("점이 3개 미만인 링");
+            }
+            rings[r] = new double[ring.size()][];
+            for (int p = 0; p < ring.size(); p++) {
+                JsonNode point = requireArray(ring.get(p));
+                if (point.size() < 2 || !point.get(0).isNumber() || !point.get(1).isNumber()) {
+                    throw new IllegalArgumentException("좌표 형식 오류");
+                }
+                rings[r][p] = new double[]{point.get(0).asDouble(), point.get(1).asDouble()};
+            }
+        }
+        return rings;
+    }
+
+    private static JsonNode requireArray(JsonNode node) {
+        if (node == null || !node.isArray()) {
+            throw new IllegalArgumentException("좌표 배열이 아님");
+        }
+        return node;
+    }
+}
@@ -0,0 +1,279 @@
+package com.back.domain.geometry.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 행정동 중심점 KD-tree + 경계 인접 관계 (불변).
+ * 좌표는 기준 위도에서 등장방형 투영한 km 평면으로 바꿔 저장하므로 유클리드 거리가 곧 거리(km)다.
+ * 전국 약 3,500개 동에서 최근접 K개 / 반경 조회는 트리 깊이(약 12) 정도의 노드만 방문한다.
+ */
+public final class RegionSpatialIndex {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+    // 꼭짓점 일치 판정 단위 (1e-6도 = 약 0.1m)
+    private static final double VERTEX_SCALE = 1e6;
+    // 경계 상자 겹침 판정 여유 (꼭짓점 일치 단위와 맞춰, 반올림하면 같은 꼭짓점을 상자 비교에서 놓치지 않게 한다)
+    private static final double BOX_TOLERANCE = 1 / VERTEX_SCALE;
+
+    private final double kmPerDegreeLon;
+    // 트리 순서로 정렬된 노드: 구간 [lo, hi)의 중앙이 노드, 깊이 짝수는 x, 홀수는 y로 분할
+    private final String[] admCodes;
+    private final double[] xs;
+    private final double[] ys;
+    private final Map<String, Integer> nodeByAdmCode;
+    private final Map<String, List<String>> adjacency;
+
+    private RegionSpatialIndex(double kmPerDegreeLon, String[] admCodes, double[] xs, double[] ys,
+                               Map<String, List<String>> adjacency) {
+        this.kmPerDegreeLon = kmPerDegreeLon;
+        this.admCodes = admCodes;
+        this.xs = xs;
+        this.ys = ys;
+        this.adjacency = adjacency;
+        this.nodeByAdmCode = new HashMap<>();
+        for (int i = 0; i < admCodes.length; i++) {
+            nodeByAdmCode.put(admCodes[i], i);
+        }
+    }
+
+    public static RegionSpatialIndex build(Collection<RegionGeometry> geometries) {
+        List<RegionGeometry> regions = new ArrayList<>(geometries);
+        double meanLat = regions.stream().mapToDouble(RegionGeometry::getCentroidLat).average().orElse(0);
+        double kmPerDegreeLon = KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(meanLat));
+
+        int n = regions.size();
+        Integer[] order = new Integer[n];
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            x[i] = regions.get(i).getCentroidLon() * kmPerDegreeLon;
+            y[i] = regions.get(i).getCentroidLat() * KM_PER_DEGREE_LAT;
+        }
+        arrange(order, 0, n, 0, x, y);
+
+        String[] admCodes = new String[n];
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int node = 0; node < n; node++) {
+            int i = order[node];
+            admCodes[node] = regions.get(i).getAdmCode();
+            xs[node] = x[i];
+            ys[node] = y[i];
+        }
+        return new RegionSpatialIndex(kmPerDegreeLon, admCodes, xs, ys, adjacency(regions));
+    }
+
+    public boolean contains(String admCode) {
+        return nodeByAdmCode.containsKey(admCode);
+    }
+
+    public int size() {
+        return admCodes.length;
+    }
+
+    // 중심점 [경도, 위도], 없으면 null
+    public double[] centroidOf(String admCode) {
+        Integer node = nodeByAdmCode.get(admCode);
+        if (node == null) {
+            return null;
+        }
+        return new double[]{xs[node] / kmPerDegreeLon, ys[node] / KM_PER_DEGREE_LAT};
+    }
+
+    // 좌표에서 동 중심점까지 거리(km), 없는 동이면 NaN
+    public double distanceKm(double lon, double lat, String admCode) {
+        Integer node = nodeByAdmCode.get(admCode);
+        if (node == null) {
+            return Double.NaN;
+        }
+        return Math.hypot(xs[node] - lon * kmPerDegreeLon, ys[node] - lat * KM_PER_DEGREE_LAT);
+    }
+
+    // 가까운 순 K개 (중심 동 자신 포함)
+    public List<Neighbor> nearest(double lon, double lat, int k) {
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(Comparator.comparingDouble(Neighbor::distanceKm).reversed());
+        nearest(0, admCodes.length, 0, lon * kmPerDegreeLon, lat * KM_PER_DEGREE_LAT, k, heap);
+        List<Neighbor> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return result;
+    }
+
+    // 중심점이 반경 안에 있는 동 (가까운 순)
+    public List<Neighbor> within(double lon, double lat, double radiusKm) {
+        List<Neighbor> result = new ArrayList<>();
+        within(0, admCodes.length, 0, lon * kmPerDegreeLon, lat * KM_PER_DEGREE_LAT, radiusKm, result);
+        result.sort(Comparator.comparingDouble(Neighbor::distanceKm));
+        return result;
+    }
+
+    // 경계가 맞닿은 동 (자신 제외)
+    public List<String> adjacentTo(String admCode) {
+        return adjacency.getOrDefault(admCode, List.of());
+    }
+
+    public record Neighbor(String admCode, double distanceKm) {
+    }
+
+    private void nearest(int lo, int hi, int depth, double qx, double qy, int k, PriorityQueue<Neighbor> heap) {
+        if (lo >= hi) {
+            return;
+        }
+        int node = (lo + hi) >>> 1;
+        double distance = Math.hypot(xs[node] - qx, ys[node] - qy);
+        if (heap.size() < k) {
+            heap.add(new Neighbor(admCodes[node], distance));
+        } else if (distance < heap.peek().distanceKm()) {
+            heap.poll();
+            heap.add(new Neighbor(admCodes[node], distance));
+        }
+        double diff = (depth % 2 == 0) ? qx - xs[node] : qy - ys[node];
+        // 질의점이 있는 쪽을 먼저 보고, 반대쪽은 분할면까지 거리가 현재 K번째보다 가까울 때만 본다
+        if (diff < 0) {
+            nearest(lo, node, depth + 1, qx, qy, k, heap);
+            if (heap.size() < k || -diff < heap.peek().distanceKm()) {
+                nearest(node + 1, hi, depth + 1, qx, qy, k, heap);
+            }
+        } else {
+            nearest(node + 1, hi, depth + 1, qx, qy, k, heap);
+            if (heap.size() < k || diff < heap.peek().distanceKm()) {
+                nearest(lo, node, depth + 1, qx, qy, k, heap);
+            }
+        }
+    }
+
+    private void within(int lo, int hi, int depth, double qx, double qy, double radius, List<Neighbor> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int node = (lo + hi) >>> 1;
+        double distance = Math.hypot(xs[node] - qx, ys[node] - qy);
+        if (distance <= radius) {
+            result.add(new Neighbor(admCodes[node], distance));
+        }
+        double diff = (depth % 2 == 0) ? qx - xs[node] : qy - ys[node];
+        if (diff - radius <= 0) {
+            within(lo, node, depth + 1, qx, qy, radius, result);
+        }
+        if (diff + radius >= 0) {
+            within(node + 1, hi, depth + 1, qx, qy, radius, result);
+        }
+    }
+
+    // 구간을 분할 축 기준으로 정렬해 중앙을 노드로 두고 양쪽을 재귀 배치 (n log^2 n, 시작 시 한 번)
+    private static void arrange(Integer[] order, int lo, int hi, int depth, double[] x, double[] y) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        double[] axis = (depth % 2 == 0) ? x : y;
+        Arrays.sort(order, lo, hi, Comparator.comparingDouble(i -> axis[i]));
+        int mid = (lo + hi) >>> 1;
+        arrange(order, lo, mid, depth + 1, x, y);
+        arrange(order, mid + 1, hi, depth + 1, x, y);
+    }
+
+    /*
+     * 경계를 공유하는 동은 같은 꼭짓점을 가진다 (행정동 경계 파일은 인접 경계 좌표가 일치).
+     * 경계 상자가 겹치는 쌍만 골라, 정렬된 꼭짓점 키 배열을 병합하듯 비교해 공유 꼭짓점이 있는지 본다.
+     */
+    private static Map<String, List<String>> adjacency(List<RegionGeometry> regions) {
+        int n = regions.size();
+        long[][] vertexKeys = new long[n][];
+        double[][] boxes = new double[n][];
+        for (int i = 0; i < n; i++) {
+            vertexKeys[i] = vertexKeys(regions.get(i).coordinates());
+            boxes[i] = boundingBox(regions.get(i).coordinates());
+        }
+
+        Integer[] byMinLon = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            byMinLon[i] = i;
+        }
+        Arrays.sort(byMinLon, Comparator.comparingDouble(i -> boxes[i][0]));
+
+        Map<String, Set<String>> neighbors = new HashMap<>();
+        for (int a = 0; a < n; a++) {
+            int i = byMinLon[a];
+            for (int b = a + 1; b < n; b++) {
+                int j = byMinLon[b];
+                if (boxes[j][0] > boxes[i][2] + BOX_TOLERANCE) {
+                    break; // 이후 동은 경도 범위가 겹치지 않는다
+                }
+                if (boxes[j][1] > boxes[i][3] + BOX_TOLERANCE || boxes[j][3] < boxes[i][1] - BOX_TOLERANCE) {
+                    continue;
+                }
+                if (sharesVertex(vertexKeys[i], vertexKeys[j])) {
+                    String codeI = regions.get(i).getAdmCode();
+                    String codeJ = regions.get(j).getAdmCode();
+                    neighbors.computeIfAbsent(codeI, c -> new TreeSet<>()).add(codeJ);
+                    neighbors.computeIfAbsent(codeJ, c -> new TreeSet<>()).add(codeI);
+                }
+            }
+        }
+        Map<String, List<String>> adjacency = new HashMap<>();
+        neighbors.forEach((code, set) -> adjacency.put(code, List.copyOf(set)));
+        return Collections.unmodifiableMap(adjacency);
+    }
+
+    private static long[] vertexKeys(double[][][][] polygons) {
+        int count = 0;
+        for (double[][][] polygon : polygons) {
+            for (double[][] ring : polygon) {
+                count += ring.length;
+            }
+        }
+        long[] keys = new long[count];
+        int k = 0;
+        for (double[][][] polygon : polygons) {
+            for (double[][] ring : polygon) {
+                for (double[] point : ring) {
+                    keys[k++] = (Math.round(point[0] * VERTEX_SCALE) << 32) ^ (Math.round(point[1] * VERTEX_SCALE) & 0xFFFFFFFFL);
+                }
+            }
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    // [minLon, minLat, maxLon, maxLat]
+    private static double[] boundingBox(double[][][][] polygons) {
+        double[] box = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (double[][][] polygon : polygons) {
+            for (double[][] ring : polygon) {
+                for (double[] point : ring) {
+                    box[0] = Math.min(box[0], point[0]);
+                    box[1] = Math.min(box[1], point[1]);
+                    box[2] = Math.max(box[2], point[0]);
+                    box[3] = Math.max(box[3], point[1]);
+                }
+            }
+        }
+        return box;
+    }
+
+    private static boolean sharesVertex(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                return true;
+            }
+            if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+}
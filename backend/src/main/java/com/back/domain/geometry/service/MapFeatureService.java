@@ -0,0 +1,74 @@
+package com.back.domain.geometry.service;
+
+import com.back.domain.geometry.dto.response.MapFeature;
+import com.back.domain.geometry.dto.response.MapFeatureCollection;
+import com.back.domain.geometry.error.exception.GeometryNotLoadedException;
+import com.back.domain.geometry.index.RegionGeometry;
+import com.back.domain.geometry.index.RegionGeometryIndex;
+import com.back.domain.market.dimension.DimensionDictionary;
+import com.back.domain.market.dimension.Dimensions;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.service.MarketAnalysisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 광역자치단체 단위로 경계 폴리곤과 상권 지표(등급, 점포 수)를 미리 결합한 GeoJSON을 만든다.
+ * 브라우저는 전국 GeoJSON을 내려받아 필터링/조인할 필요 없이 이 결과를 그대로 그린다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MapFeatureService {
+
+  private final RegionGeometryIndex regionGeometryIndex;
+  private final DimensionDictionary dimensionDictionary;
+  private final MarketAnalysisService marketAnalysisService;
+
+  public MapFeatureCollection getFeatures(String province, Long categoryId, int zoom) {
+    if (!regionGeometryIndex.isLoaded()) {
+      throw new GeometryNotLoadedException();
+    }
+
+    Map<String, MarketMapResponse> statsByAdmCode = new HashMap<>();
+    for (MarketMapResponse stats : findMapInfo(province, categoryId)) {
+      statsByAdmCode.put(stats.admCode(), stats);
+    }
+
+    Dimensions dimensions = dimensionDictionary.get();
+    List<MapFeature> features = new ArrayList<>();
+    for (int regionIndex : dimensions.regionIndexesOf(province)) {
+      String admCode = dimensions.admCodeAt(regionIndex);
+      Optional<RegionGeometry> geometry = regionGeometryIndex.find(admCode);
+      if (geometry.isEmpty()) {
+        continue;
+      }
+      MarketMapResponse stats = statsByAdmCode.get(admCode);
+      MapFeature.Properties properties = new MapFeature.Properties(
+              admCode,
+              geometry.get().getName(),
+              dimensions.districtAt(regionIndex),
+              stats != null ? stats.storeCount() : null,
+              stats != null ? stats.marketGrade() : null,
+              stats != null ? stats.marketGrade().getColorCode() : null
+      );
+      features.add(MapFeature.of(properties, geometry.get().coordinatesFor(zoom)));
+    }
+    return MapFeatureCollection.of(features);
+  }
+
+  // 업종 지표가 아직 없는 시·도라도 폴리곤은 등급 없이 그린다
+  private List<MarketMapResponse> findMapInfo(String province, Long categoryId) {
+    try {
+      return marketAnalysisService.getMapInfo(province, categoryId);
+    } catch (MarketAnalysisNotFoundException e) {
+      return List.of();
+    }
+  }
+}
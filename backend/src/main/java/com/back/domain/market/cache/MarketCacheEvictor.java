@@ -0,0 +1,61 @@
+package com.back.domain.market.cache;
+
+import com.back.domain.market.snapshot.MarketDataChangedEvent;
+import com.back.global.resilience.CircuitBreaker;
+import com.back.global.web.EncodedResponseCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 새 적재일이 감지되면 이전 날짜 기준으로 채워진 상권 캐시를 비운다.
+ * 캐시 키에는 날짜가 없으므로 비우지 않으면 TTL(1시간) 동안 이전 데이터가 보인다.
+ * 응답 바이트 캐시는 키에 버전이 있지만, 교체 도중 만들어진 항목이 남지 않도록 함께 비운다.
+ * 캐시를 채운 데이터 버전은 Redis(VERSION_KEY)에 남겨, 재시작 직후 첫 확인에서도 Redis 항목이 이전 버전이면 비운다.
+ */
+@Slf4j
+@Component
+public class MarketCacheEvictor {
+
+    static final List<String> MARKET_CACHES = List.of("marketAnalysis", "marketMap");
+    static final String VERSION_KEY = "market:cache-version";
+
+    private final CacheManager cacheManager;
+    private final EncodedResponseCache encodedResponseCache;
+    private final StringRedisTemplate redisTemplate;
+    private final CircuitBreaker redisCircuitBreaker;
+
+    public MarketCacheEvictor(CacheManager cacheManager, EncodedResponseCache encodedResponseCache,
+                              StringRedisTemplate redisTemplate,
+                              @Qualifier("redisCircuitBreaker") CircuitBreaker redisCircuitBreaker) {
+        this.cacheManager = cacheManager;
+        this.encodedResponseCache = encodedResponseCache;
+        this.redisTemplate = redisTemplate;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+    }
+
+    @EventListener
+    public void onMarketDataChanged(MarketDataChangedEvent event) {
+        String version = String.valueOf(event.current().id());
+        // Redis를 못 읽으면 null -> 비우는 쪽으로 처리
+        String cachedVersion = redisCircuitBreaker.callOrElse(
+                () -> redisTemplate.opsForValue().getAndSet(VERSION_KEY, version), null);
+        if (event.previous() == null && version.equals(cachedVersion)) {
+            return; // 기동 직후 첫 확인이고 Redis 캐시도 같은 버전으로 채워져 있음
+        }
+        for (String cacheName : MARKET_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        encodedResponseCache.clear();
+        log.info("상권 캐시 초기화: {} (version {} -> {})", MARKET_CACHES, cachedVersion, version);
+    }
+}
@@ -0,0 +1,62 @@
+package com.back.domain.market.cache;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.service.MarketAnalysisService;
+import com.back.domain.region.repository.RegionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캐시가 비워진 직후(적재, 재시작) 첫 요청들이 한꺼번에 DB로 가지 않도록 업종 목록과 지도 캐시(광역 x 업종)를 미리 채운다.
+ * 동시에 market.warmup.parallelism 개까지만 조회해 예열이 커넥션 풀을 다 쓰지 않게 한다.
+ * 스냅샷이 준비되어 있으면 지도 조회는 캐시를 거치지 않으므로 메모리 조회 경로(JIT)만 데운다.
+ */
+@Slf4j
+@Component
+public class MarketCacheWarmer {
+
+    private final MarketAnalysisService marketAnalysisService;
+    private final RegionRepository regionRepository;
+    private final int parallelism;
+
+    public MarketCacheWarmer(MarketAnalysisService marketAnalysisService,
+                             RegionRepository regionRepository,
+                             @Value("${market.warmup.parallelism:4}") int parallelism) {
+        this.marketAnalysisService = marketAnalysisService;
+        this.regionRepository = regionRepository;
+        this.parallelism = parallelism;
+    }
+
+    // @return 채운 지도 항목 수
+    public int warm() {
+        long start = System.currentTimeMillis();
+        List<Category> categories = marketAnalysisService.getAllCategories();
+        List<String> provinces = regionRepository.findDistinctProvinces();
+        AtomicInteger warmed = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            for (String province : provinces) {
+                for (Category category : categories) {
+                    executor.execute(() -> {
+                        try {
+                            marketAnalysisService.getMapInfo(province, category.getId());
+                            warmed.incrementAndGet();
+                        } catch (MarketAnalysisNotFoundException e) {
+                            // 데이터가 없는 조합은 건너뛴다
+                        } catch (RuntimeException e) {
+                            log.warn("지도 캐시 예열 실패: {} / {}", province, category.getId(), e);
+                        }
+                    });
+                }
+            }
+        } // close(): 제출한 작업이 모두 끝날 때까지 기다린다
+        log.info("지도 캐시 예열 완료: {}건 ({}ms)", warmed.get(), System.currentTimeMillis() - start);
+        return warmed.get();
+    }
+}
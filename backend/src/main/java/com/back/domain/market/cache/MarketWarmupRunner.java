@@ -0,0 +1,65 @@
+package com.back.domain.market.cache;
+
+import com.back.domain.market.snapshot.MarketDataVersionTracker;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 시 예열: 스냅샷 파일 복원 → 데이터 버전 확인(필요하면 DB에서 스냅샷 적재) → 업종/지도 캐시 예열.
+ * ApplicationRunner는 ApplicationReadyEvent 전에 실행되므로 끝날 때까지 readiness가 REFUSING_TRAFFIC으로 남고
+ * (/actuator/health/readiness 503), 로드밸런서는 예열이 끝난 노드로만 트래픽을 보낸다.
+ * 시작 전체 시간은 Boot 기본 지표 application.started.time / application.ready.time으로 본다.
+ */
+@Slf4j
+@Component
+public class MarketWarmupRunner implements ApplicationRunner {
+
+    private final MarketSnapshotEngine marketSnapshotEngine;
+    private final MarketDataVersionTracker marketDataVersionTracker;
+    private final MarketCacheWarmer marketCacheWarmer;
+    private volatile long durationMillis;
+    private volatile boolean restoredFromFile;
+
+    public MarketWarmupRunner(MarketSnapshotEngine marketSnapshotEngine,
+                              MarketDataVersionTracker marketDataVersionTracker,
+                              MarketCacheWarmer marketCacheWarmer,
+                              MeterRegistry meterRegistry) {
+        this.marketSnapshotEngine = marketSnapshotEngine;
+        this.marketDataVersionTracker = marketDataVersionTracker;
+        this.marketCacheWarmer = marketCacheWarmer;
+        TimeGauge.builder("market.warmup.duration", this, TimeUnit.MILLISECONDS, runner -> runner.durationMillis)
+                .description("시작 시 예열에 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("market.warmup.snapshot.restored", this, runner -> runner.restoredFromFile ? 1 : 0)
+                .description("시작 시 스냅샷을 파일에서 복원했는지 (1: 파일, 0: DB)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        restoredFromFile = marketSnapshotEngine.restoreFromFile();
+        try {
+            marketDataVersionTracker.refresh();
+        } catch (RuntimeException e) {
+            // DB를 못 읽어도 복원한 스냅샷으로 서비스한다 (버전 추적기가 주기적으로 다시 확인)
+            log.warn("시작 시 데이터 버전 확인 실패: snapshotFromFile={}", restoredFromFile, e);
+        }
+        try {
+            marketCacheWarmer.warm();
+        } catch (RuntimeException e) {
+            // 예열 실패로 기동을 막지는 않는다 (첫 요청이 느릴 뿐)
+            log.warn("시작 시 캐시 예열 실패", e);
+        }
+        durationMillis = System.currentTimeMillis() - start;
+        log.info("시작 시 예열 완료: snapshotFromFile={}, {}ms", restoredFromFile, durationMillis);
+    }
+}
@@ -0,0 +1,127 @@
+package com.back.domain.market.dimension;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.repository.CategoryRepository;
+import com.back.domain.market.snapshot.MarketDataChangedEvent;
+import com.back.domain.region.entity.Region;
+import com.back.domain.region.repository.RegionRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * regions / categories를 한 번 읽어 메모리에 두는 차원 사전.
+ * 조회 쿼리는 admCode, province 문자열 대신 이 사전에서 얻은 PK로만 market_stats를 거르고,
+ * 표시 이름은 미리 만들어 둔 값을 쓴다 (MarketStatsRepositoryImpl, MarketDetailMapper).
+ * 데이터 버전이 바뀔 때와 주기 확인에서 내용(컬럼 값 체크섬)이 달라졌을 때 다시 읽는다. 행 수만 보면 이름 변경을 놓친다.
+ * <p>
+ * Region / Category 엔티티는 Hibernate 2차 캐시(@Cacheable)에도 두어, market_stats를 PK로만 읽어도
+ * 지연 로딩이 DB로 가지 않게 한다. ETL은 Hibernate를 거치지 않고 regions를 쓰므로 캐시 영역에 만료를 두는 대신
+ * 다시 읽을 때마다 두 영역을 비운다: 사전과 2차 캐시가 같은 시점의 행을 본다.
+ * <p>
+ * 적재는 DB I/O를 하므로 synchronized 대신 ReentrantLock으로 막는다 (가상 스레드 고정 방지, virtual_threads.md).
+ */
+@Slf4j
+@Component
+public class DimensionDictionary {
+
+    private final RegionRepository regionRepository;
+    private final CategoryRepository categoryRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Dimensions current;
+
+    public DimensionDictionary(RegionRepository regionRepository, CategoryRepository categoryRepository,
+                               EntityManagerFactory entityManagerFactory) {
+        this.regionRepository = regionRepository;
+        this.categoryRepository = categoryRepository;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // 처음 호출 시 적재 (기동 직후 이벤트보다 요청이 먼저 올 수 있다)
+    public Dimensions get() {
+        Dimensions dimensions = current;
+        if (dimensions == null) {
+            reloadLock.lock();
+            try {
+                if (current == null) {
+                    reload();
+                }
+                dimensions = current;
+            } finally {
+                reloadLock.unlock();
+            }
+        }
+        return dimensions;
+    }
+
+    // 새 적재일에 지역/업종이 추가되었을 수 있으므로 스냅샷(@Order(0))보다 먼저 다시 읽는다
+    @Order(-1)
+    @EventListener
+    public void onMarketDataChanged(MarketDataChangedEvent event) {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${market.dimension.check-interval:PT10M}")
+    public void refreshIfChanged() {
+        Dimensions dimensions = current;
+        if (dimensions == null) {
+            return;
+        }
+        if (regionChecksum(regionRepository.findAllColumns()) != dimensions.regionVersion()
+                || categoryChecksum(categoryRepository.findAllColumns()) != dimensions.categoryVersion()) {
+            reload();
+        }
+    }
+
+    private void reload() {
+        reloadLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            entityManagerFactory.getCache().evict(Region.class);
+            entityManagerFactory.getCache().evict(Category.class);
+            Dimensions dimensions = Dimensions.of(regionRepository.findAll(), categoryRepository.findAll());
+            this.current = dimensions;
+            log.info("차원 사전 적재: regions={}, categories={} ({}ms)",
+                    dimensions.regionCount(), dimensions.categoryCount(), System.currentTimeMillis() - start);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Dimensions가 적재한 배열과 같은 순서(PK 순), 같은 컬럼으로 체크섬을 만든다
+    private static long regionChecksum(List<RegionRepository.Columns> rows) {
+        int count = rows.size();
+        long[] ids = new long[count];
+        String[] admCodes = new String[count];
+        String[] provinces = new String[count];
+        String[] districts = new String[count];
+        String[] towns = new String[count];
+        for (int i = 0; i < count; i++) {
+            RegionRepository.Columns row = rows.get(i);
+            ids[i] = row.getId();
+            admCodes[i] = row.getAdmCode();
+            provinces[i] = row.getProvince();
+            districts[i] = row.getDistrict();
+            towns[i] = row.getTown();
+        }
+        return Dimensions.checksum(ids, admCodes, provinces, districts, towns);
+    }
+
+    private static long categoryChecksum(List<CategoryRepository.Columns> rows) {
+        int count = rows.size();
+        long[] ids = new long[count];
+        String[] names = new String[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = rows.get(i).getId();
+            names[i] = rows.get(i).getName();
+        }
+        return Dimensions.checksum(ids, names);
+    }
+}
@@ -0,0 +1,202 @@
+package com.back.domain.market.dimension;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.region.entity.Region;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 지역 / 업종 차원의 불변 사전.
+ * 지역은 PK 오름차순으로 0부터 시작하는 밀집 id(인덱스)를 가진다.
+ * admCode -> 인덱스는 StringIntMap, PK -> 인덱스는 정렬된 PK 배열의 이진 탐색으로 찾는다.
+ */
+public final class Dimensions {
+
+    private final long[] regionIds;
+    private final String[] admCodes;
+    private final String[] provinces;
+    private final String[] districts;
+    private final String[] towns;
+    private final String[] regionNames;
+    private final StringIntMap regionIndexByAdmCode;
+    private final Map<String, int[]> regionIndexesByProvince;
+    private final Map<String, long[]> regionIdsByProvince;
+
+    private final long[] categoryIds;
+    private final String[] categoryNames;
+    private final long regionVersion;
+    private final long categoryVersion;
+
+    private Dimensions(long[] regionIds, String[] admCodes, String[] provinces, String[] districts, String[] towns,
+                       long[] categoryIds, String[] categoryNames) {
+        this.regionIds = regionIds;
+        this.admCodes = admCodes;
+        this.provinces = provinces;
+        this.districts = districts;
+        this.towns = towns;
+        this.categoryIds = categoryIds;
+        this.categoryNames = categoryNames;
+        this.regionVersion = checksum(regionIds, admCodes, provinces, districts, towns);
+        this.categoryVersion = checksum(categoryIds, categoryNames);
+        this.regionNames = new String[regionIds.length];
+        this.regionIndexByAdmCode = new StringIntMap(admCodes);
+
+        Map<String, List<Integer>> provinceRegions = new LinkedHashMap<>();
+        for (int i = 0; i < regionIds.length; i++) {
+            regionNames[i] = provinces[i] + " " + districts[i] + " " + towns[i];
+            provinceRegions.computeIfAbsent(provinces[i], p -> new ArrayList<>()).add(i);
+        }
+        Map<String, int[]> indexesByProvince = new LinkedHashMap<>();
+        Map<String, long[]> idsByProvince = new LinkedHashMap<>();
+        provinceRegions.forEach((province, indexes) -> {
+            int[] regionIndexes = indexes.stream().mapToInt(Integer::intValue).toArray();
+            indexesByProvince.put(province, regionIndexes);
+            idsByProvince.put(province, Arrays.stream(regionIndexes).mapToLong(index -> regionIds[index]).toArray());
+        });
+        this.regionIndexesByProvince = Collections.unmodifiableMap(indexesByProvince);
+        this.regionIdsByProvince = Collections.unmodifiableMap(idsByProvince);
+    }
+
+    public static Dimensions of(List<Region> regions, List<Category> categories) {
+        List<Region> sortedRegions = new ArrayList<>(regions);
+        sortedRegions.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        int regionCount = sortedRegions.size();
+        long[] regionIds = new long[regionCount];
+        String[] admCodes = new String[regionCount];
+        String[] provinces = new String[regionCount];
+        String[] districts = new String[regionCount];
+        String[] towns = new String[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            Region region = sortedRegions.get(i);
+            regionIds[i] = region.getId();
+            admCodes[i] = region.getAdmCode();
+            provinces[i] = region.getProvince();
+            districts[i] = region.getDistrict();
+            towns[i] = region.getTown();
+        }
+
+        List<Category> sortedCategories = new ArrayList<>(categories);
+        sortedCategories.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        long[] categoryIds = new long[sortedCategories.size()];
+        String[] categoryNames = new String[sortedCategories.size()];
+        for (int i = 0; i < categoryIds.length; i++) {
+            categoryIds[i] = sortedCategories.get(i).getId();
+            categoryNames[i] = sortedCategories.get(i).getName();
+        }
+        return new Dimensions(regionIds, admCodes, provinces, districts, towns, categoryIds, categoryNames);
+    }
+
+    public int regionCount() {
+        return regionIds.length;
+    }
+
+    public int categoryCount() {
+        return categoryIds.length;
+    }
+
+    // 지역 목록(PK, admCode, 이름)이 바뀌면 달라지는 값, 항상 0보다 크다
+    public long regionVersion() {
+        return regionVersion;
+    }
+
+    // 업종 목록(PK, 이름)이 바뀌면 달라지는 값, 항상 0보다 크다 (업종 목록 응답의 데이터 버전)
+    public long categoryVersion() {
+        return categoryVersion;
+    }
+
+    // 밀집 id, 없으면 -1
+    public int regionIndexOf(String admCode) {
+        return regionIndexByAdmCode.get(admCode);
+    }
+
+    // regions.region_id, 없으면 -1
+    public long regionIdOf(String admCode) {
+        int index = regionIndexOf(admCode);
+        return index >= 0 ? regionIds[index] : -1;
+    }
+
+    // PK로 밀집 id 찾기, 없으면 -1
+    public int regionIndexOfId(long regionId) {
+        int index = Arrays.binarySearch(regionIds, regionId);
+        return index >= 0 ? index : -1;
+    }
+
+    public long[] regionIdsOf(String province) {
+        return regionIdsByProvince.getOrDefault(province, new long[0]);
+    }
+
+    // 시·도에 속한 지역의 밀집 id (PK 순), 반환 배열은 수정하지 않는다
+    public int[] regionIndexesOf(String province) {
+        return regionIndexesByProvince.getOrDefault(province, new int[0]);
+    }
+
+    public List<String> provinces() {
+        return List.copyOf(regionIdsByProvince.keySet());
+    }
+
+    public long regionIdAt(int index) {
+        return regionIds[index];
+    }
+
+    public String admCodeAt(int index) {
+        return admCodes[index];
+    }
+
+    public String provinceAt(int index) {
+        return provinces[index];
+    }
+
+    public String districtAt(int index) {
+        return districts[index];
+    }
+
+    public String townAt(int index) {
+        return towns[index];
+    }
+
+    // "시·도 시·군·구 동"
+    public String regionNameAt(int index) {
+        return regionNames[index];
+    }
+
+    public boolean hasCategory(long categoryId) {
+        return Arrays.binarySearch(categoryIds, categoryId) >= 0;
+    }
+
+    // 없으면 null
+    public String categoryNameOf(long categoryId) {
+        int index = Arrays.binarySearch(categoryIds, categoryId);
+        return index >= 0 ? categoryNames[index] : null;
+    }
+
+    /*
+     * PK 순으로 정렬된 행들의 CRC32. 0은 "버전 모름"으로 쓰이므로 32번째 비트를 켜서 돌려준다.
+     * 칸 경계("ab"+"c"와 "a"+"bc")와 null / 빈 문자열을 구분하도록 칸마다 끝 바이트를 넣는다.
+     */
+    static long checksum(long[] ids, String[]... columns) {
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < ids.length; i++) {
+            long id = ids[i];
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                crc.update((int) (id >>> shift));
+            }
+            for (String[] column : columns) {
+                String value = column[i];
+                if (value == null) {
+                    crc.update(0xFF); // UTF-8에 나오지 않는 바이트
+                } else {
+                    crc.update(value.getBytes(StandardCharsets.UTF_8));
+                    crc.update(0);
+                }
+            }
+        }
+        return (1L << 32) | crc.getValue();
+    }
+}
@@ -0,0 +1,56 @@
+package com.back.domain.market.dimension;
+
+import java.util.Arrays;
+
+/**
+ * 불변 String -> int 해시 표 (개방 주소법, 선형 탐사).
+ * 키 수의 4배 이상 크기의 표를 써서 대부분 한 번의 탐사로 끝나고, Integer 박싱과 Entry 객체가 없다.
+ * 행정동 코드처럼 생성 후 바뀌지 않는 키 집합 전용.
+ */
+final class StringIntMap {
+
+    private final String[] keys;
+    private final int[] values;
+    private final int mask;
+
+    StringIntMap(String[] keysByValue) {
+        int capacity = Integer.highestOneBit(Math.max(4, keysByValue.length * 4) - 1) << 1;
+        this.keys = new String[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(values, -1);
+        for (int value = 0; value < keysByValue.length; value++) {
+            String key = keysByValue[value];
+            if (key == null) {
+                continue;
+            }
+            int slot = slotOf(key);
+            while (keys[slot] != null && !keys[slot].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+    }
+
+    // 없으면 -1
+    int get(String key) {
+        if (key == null) {
+            return -1;
+        }
+        int slot = slotOf(key);
+        String candidate;
+        while ((candidate = keys[slot]) != null) {
+            if (candidate.equals(key)) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slotOf(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
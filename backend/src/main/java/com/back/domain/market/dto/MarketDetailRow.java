@@ -0,0 +1,20 @@
+package com.back.domain.market.dto;
+
+import com.back.domain.market.entity.MarketGrade;
+
+// 상세 분석 응답에 필요한 컬럼만 담은 projection (MarketDetailMapper에서 응답으로 변환)
+public record MarketDetailRow(
+        Long statsId,
+        String admCode,
+        Long categoryId,
+        String province,
+        String district,
+        String town,
+        String categoryName,
+        Integer storeCount,
+        Integer floatingPopulation,
+        Integer malePopulation,
+        MarketGrade marketGrade,
+        String ageGroup
+) {
+}
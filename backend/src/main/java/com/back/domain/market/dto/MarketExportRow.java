@@ -0,0 +1,28 @@
+package com.back.domain.market.dto;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.time.LocalDateTime;
+
+// 내보내기 한 행 (지역/업종 이름 포함, 필드 이름은 적재 입력과 같은 snake_case)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record MarketExportRow(
+        LocalDateTime createdAt,
+        Long regionId,
+        String admCode,
+        String province,
+        String district,
+        String town,
+        Long categoryId,
+        String categoryName,
+        Integer storeCount,
+        Integer floatingPopulation,
+        Integer malePopulation,
+        Integer femalePopulation,
+        String ageGroup,
+        Double populationPerStore,
+        MarketGrade marketGrade
+) {
+}
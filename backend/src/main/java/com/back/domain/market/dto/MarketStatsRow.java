@@ -0,0 +1,18 @@
+package com.back.domain.market.dto;
+
+import com.back.domain.market.entity.MarketGrade;
+
+// 엔티티 대신 스칼라 컬럼만 조회할 때 쓰는 행 (영속성 컨텍스트에 올리지 않음)
+public record MarketStatsRow(
+        Long statsId,
+        Long regionId,
+        Long categoryId,
+        Integer storeCount,
+        Integer floatingPopulation,
+        Integer malePopulation,
+        Integer femalePopulation,
+        String ageGroup,
+        Double populationPerStore,
+        MarketGrade marketGrade
+) {
+}
@@ -0,0 +1,23 @@
+package com.back.domain.market.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record MarketBatchRequest(
+        @NotEmpty
+        @Size(max = MAX_ITEMS)
+        List<@Valid Item> items
+) {
+    public static final int MAX_ITEMS = 200;
+
+    public record Item(
+            @NotBlank String admCode,
+            @NotNull Long categoryId
+    ) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.back.domain.market.dto.request;
+
+import com.back.domain.market.grade.GradeMode;
+import com.back.domain.market.grade.ThresholdGradePolicy;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.Map;
+
+// 비어 있는 값은 설정(market.grade.*) 값을 사용
+public record MarketRegradeRequest(
+        GradeMode mode,
+        @PositiveOrZero Double opportunityThreshold,
+        @PositiveOrZero Double overcrowdedThreshold,
+        Map<Long, ThresholdGradePolicy.Thresholds> categoryThresholds,
+        @DecimalMin("0") @DecimalMax("1") Double greenRatio,
+        @DecimalMin("0") @DecimalMax("1") Double redRatio
+) {
+    public static MarketRegradeRequest empty() {
+        return new MarketRegradeRequest(null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.back.domain.market.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 가정 시나리오: 한 업종에 대해 지역별 점포 수 / 유동인구 변화를 준다.
+ * policy를 생략하면 설정(market.grade.*) 등급 기준을 사용한다.
+ */
+public record MarketSimulationRequest(
+        @NotNull Long categoryId,
+        @NotEmpty
+        @Size(max = MAX_CHANGES)
+        List<@Valid Change> changes,
+        @Valid MarketRegradeRequest policy
+) {
+    public static final int MAX_CHANGES = 500;
+
+    /**
+     * admCode(행정동 하나) 또는 province(시·도 전체) 중 하나를 지정한다.
+     * 같은 지역에 여러 변경이 겹치면 증감은 더하고 배율은 곱한다.
+     * 적용 후 유동인구 = 기존 유동인구 * populationFactor + populationDelta (0 미만은 0)
+     */
+    public record Change(
+            String admCode,
+            String province,
+            int storeDelta,
+            int populationDelta,
+            @PositiveOrZero Double populationFactor
+    ) {
+    }
+}
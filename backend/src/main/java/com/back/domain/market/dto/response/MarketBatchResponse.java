@@ -0,0 +1,14 @@
+package com.back.domain.market.dto.response;
+
+import java.util.List;
+
+public record MarketBatchResponse(
+        List<Item> results // 요청 순서와 동일
+) {
+    public record Item(
+            String admCode,
+            Long categoryId,
+            MarketDetailResponse analysis // 데이터가 없으면 null
+    ) {
+    }
+}
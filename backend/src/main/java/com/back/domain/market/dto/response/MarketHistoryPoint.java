@@ -0,0 +1,20 @@
+package com.back.domain.market.dto.response;
+
+import com.back.domain.market.entity.MarketGrade;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record MarketHistoryPoint(
+        LocalDate date,
+        Integer storeCount,
+        Integer floatingPopulation,
+        Double populationPerStore,
+        MarketGrade marketGrade
+) {
+    // QueryDSL projection용 (적재 시각 → 적재일)
+    public MarketHistoryPoint(LocalDateTime createdAt, Integer storeCount, Integer floatingPopulation,
+                              Double populationPerStore, MarketGrade marketGrade) {
+        this(createdAt.toLocalDate(), storeCount, floatingPopulation, populationPerStore, marketGrade);
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.domain.market.dto.response;
+
+import java.util.List;
+
+public record MarketHistoryResponse(
+        String admCode,
+        Long categoryId,
+        List<MarketHistoryPoint> points // 적재일 오름차순
+) {
+}
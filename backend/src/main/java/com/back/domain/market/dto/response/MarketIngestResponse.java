@@ -0,0 +1,11 @@
+package com.back.domain.market.dto.response;
+
+import java.time.LocalDate;
+
+public record MarketIngestResponse(
+        LocalDate statsDate,
+        int rows,          // 적재된 행 수
+        int replacedRows,  // 교체되어 삭제된 기존 행 수
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,28 @@
+package com.back.domain.market.dto.response;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.ranking.RankingMetric;
+
+import java.util.List;
+import java.util.Map;
+
+public record MarketMatrixResponse(
+        String admCode,
+        String regionName,
+        int provinceRegionCount,    // 백분위 비교 대상 시·도의 행정동 수
+        List<Item> items
+) {
+    public record Item(
+            Long categoryId,
+            String categoryName,
+            Integer storeCount,
+            Integer floatingPopulation,
+            Double populationPerStore,
+            MarketGrade marketGrade,
+            Integer malePercent,
+            Integer femalePercent,
+            String ageGroup,
+            Map<RankingMetric, Double> percentiles // 시·도 내 백분위 (0~100, 클수록 값이 큼)
+    ) {
+    }
+}
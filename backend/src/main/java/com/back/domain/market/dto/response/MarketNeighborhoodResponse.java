@@ -0,0 +1,37 @@
+package com.back.domain.market.dto.response;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.neighborhood.NeighborhoodMode;
+
+import java.util.List;
+import java.util.Map;
+
+public record MarketNeighborhoodResponse(
+        NeighborhoodMode mode,
+        String centerAdmCode,       // 좌표로 조회하면 null
+        double centerLat,
+        double centerLng,
+        Long categoryId,
+        Summary summary,
+        List<Item> items            // 가까운 순, 해당 업종 데이터가 있는 동만
+) {
+    public record Summary(
+            int regionCount,
+            long storeCount,
+            long floatingPopulation,
+            double populationPerStore,  // 유동인구 합 / 점포 수 합
+            Map<MarketGrade, Integer> gradeCounts
+    ) {
+    }
+
+    public record Item(
+            String admCode,
+            String regionName,
+            double distanceKm,          // 중심점 간 거리
+            int storeCount,
+            int floatingPopulation,
+            double populationPerStore,
+            MarketGrade marketGrade
+    ) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.back.domain.market.dto.response;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.ranking.RankingMetric;
+
+import java.util.List;
+
+public record MarketRankingResponse(
+        RankingMetric metric,
+        String order,   // DESC(큰 값 순) / ASC
+        List<Item> items
+) {
+    public record Item(
+            int rank,
+            String admCode,
+            String regionName,
+            Long categoryId,
+            String categoryName,
+            Integer storeCount,
+            Integer floatingPopulation,
+            Double populationPerStore,
+            MarketGrade marketGrade
+    ) {
+    }
+}
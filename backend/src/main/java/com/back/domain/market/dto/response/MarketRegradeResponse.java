@@ -0,0 +1,11 @@
+package com.back.domain.market.dto.response;
+
+public record MarketRegradeResponse(
+        String policy,
+        int rows,         // 재계산한 전체 행 수
+        int changedRows,  // 값이 바뀌어 다시 쓴 행 수
+        long loadMillis,
+        long computeMillis,
+        long writeMillis
+) {
+}
@@ -0,0 +1,26 @@
+package com.back.domain.market.dto.response;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.rollup.RollupLevel;
+
+import java.util.List;
+import java.util.Map;
+
+public record MarketRollupResponse(
+        RollupLevel level,
+        Long categoryId,
+        List<Item> items
+) {
+    public record Item(
+            String province,
+            String district,            // 시·도 단계에서는 null
+            int regionCount,            // 집계에 포함된 행정동 수
+            long storeCount,
+            long floatingPopulation,
+            long malePopulation,
+            long femalePopulation,
+            double populationPerStore,  // 유동인구 합 / 점포 수 합
+            Map<MarketGrade, Integer> gradeCounts // 등급별 행정동 수
+    ) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.domain.market.dto.response;
+
+import com.back.domain.market.entity.MarketGrade;
+
+import java.util.List;
+import java.util.Map;
+
+public record MarketSimulationResponse(
+        Long categoryId,
+        String categoryName,
+        String policy,
+        int affectedRegions,        // 시나리오가 적용된 행정동 수
+        int changedGrades,          // 등급이 바뀐 행정동 수 (상대 등급이면 적용 지역 밖도 포함)
+        List<String> unmatched,     // 해당 업종 데이터가 없어 제외된 admCode / province
+        List<RegionDiff> regions,   // 적용 지역 + 등급이 바뀐 지역
+        List<RollupDiff> districts,
+        List<RollupDiff> provinces,
+        long computeMicros
+) {
+    public record RegionDiff(
+            String admCode,
+            String regionName,
+            Metrics before,
+            Metrics after
+    ) {
+    }
+
+    public record Metrics(
+            int storeCount,
+            int floatingPopulation,
+            double populationPerStore,
+            MarketGrade marketGrade
+    ) {
+    }
+
+    public record RollupDiff(
+            String province,
+            String district,        // 시·도 단위에서는 null
+            Totals before,
+            Totals after
+    ) {
+    }
+
+    public record Totals(
+            long storeCount,
+            long floatingPopulation,
+            double populationPerStore,  // 유동인구 합 / 점포 수 합
+            Map<MarketGrade, Integer> gradeCounts
+    ) {
+    }
+}
@@ -11,7 +11,13 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "market_stats")
+@Table(name = "market_stats", indexes = {
+        // (지역, 업종) 조회 + 적재일 범위 조건을 하나의 인덱스로 처리
+        @Index(name = "idx_market_stats_region_category_created", columnList = "region_id, category_id, created_at"),
+        // 데이터 버전 확인(max(created_at), max(updated_at))을 전체 스캔 대신 인덱스 끝 값 조회로 처리
+        @Index(name = "idx_market_stats_created_at", columnList = "created_at"),
+        @Index(name = "idx_market_stats_updated_at", columnList = "updated_at")
+})
 public class MarketStats extends BaseTimeEntity {
 
     @Id
@@ -0,0 +1,10 @@
+package com.back.domain.market.error.exception;
+
+import com.back.global.error.ErrorCode;
+import com.back.global.error.exception.BusinessException;
+
+public class ExportBusyException extends BusinessException {
+    public ExportBusyException() {
+        super(ErrorCode.EXPORT_BUSY);
+    }
+}
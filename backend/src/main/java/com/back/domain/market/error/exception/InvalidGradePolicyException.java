@@ -0,0 +1,10 @@
+package com.back.domain.market.error.exception;
+
+import com.back.global.error.ErrorCode;
+import com.back.global.error.exception.BusinessException;
+
+public class InvalidGradePolicyException extends BusinessException {
+    public InvalidGradePolicyException() {
+        super(ErrorCode.INVALID_GRADE_POLICY);
+    }
+}
@@ -0,0 +1,10 @@
+package com.back.domain.market.error.exception;
+
+import com.back.global.error.ErrorCode;
+import com.back.global.error.exception.BusinessException;
+
+public class InvalidIngestDataException extends BusinessException {
+    public InvalidIngestDataException() {
+        super(ErrorCode.INVALID_INGEST_DATA);
+    }
+}
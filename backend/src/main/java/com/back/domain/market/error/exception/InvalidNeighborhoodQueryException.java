@@ -0,0 +1,10 @@
+package com.back.domain.market.error.exception;
+
+import com.back.global.error.ErrorCode;
+import com.back.global.error.exception.BusinessException;
+
+public class InvalidNeighborhoodQueryException extends BusinessException {
+    public InvalidNeighborhoodQueryException() {
+        super(ErrorCode.INVALID_NEIGHBORHOOD_QUERY);
+    }
+}
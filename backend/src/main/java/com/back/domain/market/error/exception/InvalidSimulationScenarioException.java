@@ -0,0 +1,10 @@
+package com.back.domain.market.error.exception;
+
+import com.back.global.error.ErrorCode;
+import com.back.global.error.exception.BusinessException;
+
+public class InvalidSimulationScenarioException extends BusinessException {
+    public InvalidSimulationScenarioException() {
+        super(ErrorCode.INVALID_SIMULATION_SCENARIO);
+    }
+}
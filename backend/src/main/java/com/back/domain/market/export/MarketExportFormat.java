@@ -0,0 +1,28 @@
+package com.back.domain.market.export;
+
+import org.springframework.http.MediaType;
+
+public enum MarketExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv"); // 첫 줄은 헤더 (snake_case 컬럼 이름)
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    MarketExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static MarketExportFormat from(String format) {
+        return "csv".equalsIgnoreCase(format) ? CSV : NDJSON;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,107 @@
+package com.back.domain.market.export;
+
+import com.back.domain.market.dto.MarketExportRow;
+import com.back.domain.market.error.exception.ExportBusyException;
+import com.back.domain.market.error.exception.InvalidHistoryPeriodException;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.repository.MarketStatsRepository;
+import com.back.domain.market.snapshot.MarketDataVersion;
+import com.back.domain.market.snapshot.MarketDataVersionTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * market_stats를 기간 단위로 NDJSON/CSV로 내보낸다.
+ * 전진 전용 커서(fetch size) → 행 단위 직렬화 → 응답 스트림으로 이어지므로 기간이 길어도 API 노드 메모리 사용량은 일정하다.
+ * 내보내기 하나가 끝날 때까지 커넥션 하나를 잡고 있으므로 동시 실행 수를 제한한다.
+ */
+@Slf4j
+@Service
+public class MarketExportService {
+
+    private final MarketStatsRepository marketStatsRepository;
+    private final MarketDataVersionTracker marketDataVersionTracker;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+    private final int fetchSize;
+
+    public MarketExportService(MarketStatsRepository marketStatsRepository,
+                               MarketDataVersionTracker marketDataVersionTracker,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${market.export.fetch-size:1000}") int fetchSize,
+                               @Value("${market.export.max-concurrent:2}") int maxConcurrent) {
+        this.marketStatsRepository = marketStatsRepository;
+        this.marketDataVersionTracker = marketDataVersionTracker;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.permits = new Semaphore(maxConcurrent);
+        this.fetchSize = fetchSize;
+    }
+
+    // 기간을 생략하면 현재 서비스 중인 적재일 하루치 (스냅샷 전체)
+    public LocalDate latestStatsDate() {
+        return marketDataVersionTracker.current()
+                .map(MarketDataVersion::statsDate)
+                .orElseThrow(MarketAnalysisNotFoundException::new);
+    }
+
+    /**
+     * 실행 슬롯을 먼저 확보해 초과 요청은 응답을 쓰기 전에 거절하고, 실제 조회/쓰기는 반환된 본문이 실행될 때 한다.
+     */
+    public StreamingResponseBody export(LocalDate from, LocalDate to, MarketExportFormat format) {
+        if (from.isAfter(to)) {
+            throw new InvalidHistoryPeriodException();
+        }
+        if (!permits.tryAcquire()) {
+            throw new ExportBusyException();
+        }
+        return out -> {
+            try {
+                long start = System.nanoTime();
+                long rows = readOnlyTransaction.execute(status -> {
+                    try (Stream<MarketExportRow> stream = marketStatsRepository.streamExportRows(
+                            from.atStartOfDay(), to.plusDays(1).atStartOfDay(), fetchSize)) {
+                        return write(stream.iterator(), MarketExportWriter.open(format, out, objectMapper));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                log.info("상권 데이터 내보내기 완료: {} ~ {}, format={}, rows={}, {}ms",
+                        from, to, format, rows, (System.nanoTime() - start) / 1_000_000);
+            } catch (UncheckedIOException e) {
+                // 대부분 클라이언트가 중간에 연결을 끊은 경우
+                log.warn("상권 데이터 내보내기 중단: {} ~ {}, {}", from, to, e.getCause().getMessage());
+                throw e.getCause();
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private long write(Iterator<MarketExportRow> rows, MarketExportWriter writer) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            writer.write(rows.next());
+            if (++count % fetchSize == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+}
@@ -0,0 +1,110 @@
+package com.back.domain.market.export;
+
+import com.back.domain.market.dto.MarketExportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 내보내기 행을 한 줄씩 출력 스트림에 쓴다. 버퍼 크기만큼만 메모리에 들고 있다.
+ * 서블릿 출력 스트림은 클라이언트가 읽는 속도보다 빨리 쓰면 블로킹되므로, 느린 클라이언트는 DB 커서 진행도 늦춘다.
+ * 응답 스트림은 컨테이너가 닫으므로 여기서는 flush만 한다.
+ */
+abstract class MarketExportWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static MarketExportWriter open(MarketExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        return switch (format) {
+            case CSV -> new Csv(writer);
+            case NDJSON -> new Ndjson(writer, objectMapper);
+        };
+    }
+
+    abstract void write(MarketExportRow row) throws IOException;
+
+    // 버퍼에 쌓인 행을 클라이언트로 내보낸다 (진행 상황이 보이도록 fetch 단위로, 마지막에 한 번 더 호출)
+    abstract void flush() throws IOException;
+
+    private static final class Ndjson extends MarketExportWriter {
+
+        private final SequenceWriter sequenceWriter;
+
+        private Ndjson(Writer writer, ObjectMapper objectMapper) throws IOException {
+            this.sequenceWriter = objectMapper.writerFor(MarketExportRow.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(writer);
+        }
+
+        @Override
+        void write(MarketExportRow row) throws IOException {
+            sequenceWriter.write(row);
+        }
+
+        @Override
+        void flush() throws IOException {
+            sequenceWriter.flush();
+        }
+    }
+
+    private static final class Csv extends MarketExportWriter {
+
+        private static final String HEADER = "created_at,region_id,adm_code,province,district,town,category_id,category_name,"
+                + "store_count,floating_population,male_population,female_population,age_group,population_per_store,market_grade";
+
+        private final Writer writer;
+
+        private Csv(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(HEADER);
+            writer.write('\n');
+        }
+
+        @Override
+        void write(MarketExportRow row) throws IOException {
+            writer.write(String.valueOf(row.createdAt()));
+            field(row.regionId());
+            field(row.admCode());
+            field(row.province());
+            field(row.district());
+            field(row.town());
+            field(row.categoryId());
+            field(row.categoryName());
+            field(row.storeCount());
+            field(row.floatingPopulation());
+            field(row.malePopulation());
+            field(row.femalePopulation());
+            field(row.ageGroup());
+            field(row.populationPerStore());
+            field(row.marketGrade() != null ? row.marketGrade().name() : null);
+            writer.write('\n');
+        }
+
+        private void field(Object value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+
+        @Override
+        void flush() throws IOException {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.back.domain.market.fallback;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 마지막으로 정상 응답한 상권 본문(MarketDetailResponse, List&lt;MarketMapResponse&gt;)을 응답 키별로 보관한다.
+ * DB / Redis 장애로 응답을 만들 수 없을 때 이 값을 오래된 데이터임을 표시해 내려준다 (MarketAnalysisController).
+ * 데이터 버전이 바뀌어도 비우지 않는다: 장애 중에는 이전 날짜 데이터라도 실패보다 낫다.
+ * <ul>
+ *   <li>market.fallback.served - 대체 응답 수</li>
+ * </ul>
+ */
+@Component
+public class MarketFallbackStore {
+
+    private final Cache<String, Entry> entries;
+    private final Counter served;
+
+    public MarketFallbackStore(MeterRegistry meterRegistry,
+                               @Value("${market.fallback.maximum-size:20000}") long maximumSize) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.served = Counter.builder("market.fallback.served")
+                .description("장애 중 마지막 정상 응답으로 대체한 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T remember(String key, T body) {
+        entries.put(key, new Entry(body, Instant.now()));
+        return body;
+    }
+
+    public Optional<Entry> find(String key) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null) {
+            served.increment();
+        }
+        return Optional.ofNullable(entry);
+    }
+
+    public record Entry(Object body, Instant savedAt) {
+    }
+}
@@ -0,0 +1,6 @@
+package com.back.domain.market.grade;
+
+public enum GradeMode {
+    THRESHOLD,  // 고정 기준값 (업종별 지정 가능)
+    PERCENTILE  // 업종·날짜 내 상대 순위
+}
@@ -0,0 +1,13 @@
+package com.back.domain.market.grade;
+
+/**
+ * 점포당 유동인구로 상권 등급을 매기는 규칙.
+ * 같은 (업종, 적재일) 묶음 하나를 받아 grades[from, to)에 MarketGrade ordinal을 채운다.
+ * 묶음마다 독립적으로 호출되므로 구현은 상태를 두지 않아야 한다 (여러 스레드에서 동시에 호출됨).
+ */
+public interface GradePolicy {
+
+    String name();
+
+    void grade(long categoryId, double[] populationPerStores, byte[] grades, int from, int to);
+}
@@ -0,0 +1,41 @@
+package com.back.domain.market.grade;
+
+import com.back.domain.market.dto.request.MarketRegradeRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 값이 있으면 요청 값, 없으면 설정(MarketGradeProperties) 값으로 GradePolicy를 만든다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GradePolicyFactory {
+
+    private final MarketGradeProperties properties;
+
+    public GradePolicy create(MarketRegradeRequest request) {
+        MarketRegradeRequest overrides = request != null ? request : MarketRegradeRequest.empty();
+        GradeMode mode = overrides.mode() != null ? overrides.mode() : properties.mode();
+
+        if (mode == GradeMode.PERCENTILE) {
+            return new PercentileGradePolicy(
+                    overrides.greenRatio() != null ? overrides.greenRatio() : properties.greenRatio(),
+                    overrides.redRatio() != null ? overrides.redRatio() : properties.redRatio());
+        }
+
+        ThresholdGradePolicy.Thresholds defaults = new ThresholdGradePolicy.Thresholds(
+                overrides.opportunityThreshold() != null ? overrides.opportunityThreshold() : properties.opportunityThreshold(),
+                overrides.overcrowdedThreshold() != null ? overrides.overcrowdedThreshold() : properties.overcrowdedThreshold());
+        Map<Long, ThresholdGradePolicy.Thresholds> byCategory = new HashMap<>();
+        if (properties.categories() != null) {
+            byCategory.putAll(properties.categories());
+        }
+        if (overrides.categoryThresholds() != null) {
+            byCategory.putAll(overrides.categoryThresholds());
+        }
+        return new ThresholdGradePolicy(defaults, byCategory);
+    }
+}
@@ -0,0 +1,186 @@
+package com.back.domain.market.grade;
+
+import com.back.domain.market.dto.response.MarketRegradeResponse;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.ingest.MarketDataWriteLock;
+import com.back.domain.market.snapshot.MarketDataVersionTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 전체 market_stats 행의 점포당 유동인구와 등급을 다시 계산한다.
+ * <ol>
+ *   <li>(업종, 적재일) 순으로 정렬해 필요한 컬럼만 원시 배열로 읽는다</li>
+ *   <li>점포당 유동인구 계산과 (업종, 적재일) 묶음별 등급 계산을 fork-join(parallel stream)으로 나눠 실행한다</li>
+ *   <li>값이 바뀐 행만 JDBC 배치로 다시 쓰고, updated_at을 갱신해 데이터 버전을 올린다</li>
+ * </ol>
+ * 엔티티를 거치지 않으므로 행 수가 수십만 건이어도 계산은 수십 ms 수준이고, 비용은 대부분 읽기/쓰기 I/O다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketGradeEngine {
+
+    private static final MarketGrade[] GRADES = MarketGrade.values();
+    private static final int WRITE_BATCH_SIZE = 1000;
+    private static final String LOAD_SQL = """
+            SELECT stats_id, category_id, created_at, store_count, floating_population, population_per_store, market_grade
+            FROM market_stats
+            ORDER BY category_id, created_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MarketDataVersionTracker marketDataVersionTracker;
+    private final MarketDataWriteLock writeLock;
+
+    public MarketRegradeResponse regrade(GradePolicy policy) {
+        return writeLock.runExclusively(() -> {
+            long start = System.nanoTime();
+            GradeColumns columns = load();
+            long loaded = System.nanoTime();
+
+            double[] populationPerStores = new double[columns.size];
+            byte[] grades = new byte[columns.size];
+            compute(columns, policy, populationPerStores, grades);
+            long computed = System.nanoTime();
+
+            List<Integer> changed = changedRows(columns, populationPerStores, grades);
+            write(columns, changed, populationPerStores, grades);
+            long written = System.nanoTime();
+
+            if (!changed.isEmpty()) {
+                marketDataVersionTracker.refresh(); // 스냅샷 교체 + 캐시 초기화
+            }
+
+            MarketRegradeResponse response = new MarketRegradeResponse(policy.name(), columns.size, changed.size(),
+                    (loaded - start) / 1_000_000, (computed - loaded) / 1_000_000, (written - computed) / 1_000_000);
+            log.info("상권 등급 재계산 완료: {}", response);
+            return response;
+        });
+    }
+
+    private GradeColumns load() {
+        GradeColumns columns = new GradeColumns();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(LOAD_SQL);
+            ps.setFetchSize(WRITE_BATCH_SIZE); // 결과를 한 번에 메모리로 받지 않고 나눠 받는다
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            Object populationPerStore = rs.getObject(6);
+            columns.add(
+                    rs.getLong(1),
+                    rs.getLong(2),
+                    rs.getTimestamp(3).toLocalDateTime().toLocalDate().toEpochDay(),
+                    rs.getInt(4),
+                    rs.getInt(5),
+                    populationPerStore != null ? ((Number) populationPerStore).doubleValue() : Double.NaN,
+                    (byte) MarketGrade.valueOf(rs.getString(7)).ordinal());
+        });
+        return columns;
+    }
+
+    private static void compute(GradeColumns columns, GradePolicy policy, double[] populationPerStores, byte[] grades) {
+        IntStream.range(0, columns.size).parallel().forEach(i ->
+                populationPerStores[i] = PopulationPerStore.of(columns.floatingPopulations[i], columns.storeCounts[i]));
+
+        int[] boundaries = groupBoundaries(columns);
+        IntStream.range(0, boundaries.length - 1).parallel().forEach(g -> {
+            int from = boundaries[g];
+            policy.grade(columns.categoryIds[from], populationPerStores, grades, from, boundaries[g + 1]);
+        });
+    }
+
+    // (업종, 적재일)이 바뀌는 위치 (정렬된 상태이므로 한 번 훑으면 된다)
+    private static int[] groupBoundaries(GradeColumns columns) {
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(0);
+        for (int i = 1; i < columns.size; i++) {
+            if (columns.categoryIds[i] != columns.categoryIds[i - 1] || columns.statsDays[i] != columns.statsDays[i - 1]) {
+                boundaries.add(i);
+            }
+        }
+        boundaries.add(columns.size);
+        return boundaries.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static List<Integer> changedRows(GradeColumns columns, double[] populationPerStores, byte[] grades) {
+        List<Integer> changed = new ArrayList<>();
+        for (int i = 0; i < columns.size; i++) {
+            if (grades[i] != columns.gradeOrdinals[i]
+                    || Double.isNaN(columns.populationPerStores[i])
+                    || Math.abs(populationPerStores[i] - columns.populationPerStores[i]) > 1e-9) {
+                changed.add(i);
+            }
+        }
+        return changed;
+    }
+
+    private void write(GradeColumns columns, List<Integer> changed, double[] populationPerStores, byte[] grades) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "UPDATE market_stats SET population_per_store = ?, market_grade = ?, updated_at = ? WHERE stats_id = ?",
+                changed,
+                WRITE_BATCH_SIZE,
+                (ps, i) -> {
+                    ps.setDouble(1, populationPerStores[i]);
+                    ps.setString(2, GRADES[grades[i]].name());
+                    ps.setTimestamp(3, now);
+                    ps.setLong(4, columns.statsIds[i]);
+                }));
+    }
+
+    // 재계산에 필요한 컬럼만 담는 가변 길이 원시 배열
+    private static final class GradeColumns {
+
+        private int size;
+        private long[] statsIds = new long[1024];
+        private long[] categoryIds = new long[1024];
+        private long[] statsDays = new long[1024];
+        private int[] storeCounts = new int[1024];
+        private int[] floatingPopulations = new int[1024];
+        private double[] populationPerStores = new double[1024];
+        private byte[] gradeOrdinals = new byte[1024];
+
+        void add(long statsId, long categoryId, long statsDay, int storeCount, int floatingPopulation,
+                 double populationPerStore, byte gradeOrdinal) {
+            if (size == statsIds.length) {
+                grow();
+            }
+            statsIds[size] = statsId;
+            categoryIds[size] = categoryId;
+            statsDays[size] = statsDay;
+            storeCounts[size] = storeCount;
+            floatingPopulations[size] = floatingPopulation;
+            populationPerStores[size] = populationPerStore;
+            gradeOrdinals[size] = gradeOrdinal;
+            size++;
+        }
+
+        private void grow() {
+            int capacity = statsIds.length * 2;
+            statsIds = Arrays.copyOf(statsIds, capacity);
+            categoryIds = Arrays.copyOf(categoryIds, capacity);
+            statsDays = Arrays.copyOf(statsDays, capacity);
+            storeCounts = Arrays.copyOf(storeCounts, capacity);
+            floatingPopulations = Arrays.copyOf(floatingPopulations, capacity);
+            populationPerStores = Arrays.copyOf(populationPerStores, capacity);
+            gradeOrdinals = Arrays.copyOf(gradeOrdinals, capacity);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.back.domain.market.grade;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * 등급 재계산 기본 설정. 기준값 기본값은 ETL(DATA/src/config/constants.py)과 같다.
+ * 업종별 기준값: market.grade.categories[업종ID].opportunity / .overcrowded
+ */
+@ConfigurationProperties(prefix = "market.grade")
+public record MarketGradeProperties(
+        @DefaultValue("THRESHOLD") GradeMode mode,
+        @DefaultValue("500") double opportunityThreshold,
+        @DefaultValue("100") double overcrowdedThreshold,
+        Map<Long, ThresholdGradePolicy.Thresholds> categories,
+        @DefaultValue("0.2") double greenRatio,
+        @DefaultValue("0.2") double redRatio
+) {
+}
@@ -0,0 +1,60 @@
+package com.back.domain.market.grade;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidGradePolicyException;
+
+import java.util.Arrays;
+
+/**
+ * 상대 등급: 같은 업종·같은 날짜 안에서 점포당 유동인구 상위 greenRatio는 GREEN, 하위 redRatio는 RED.
+ * 업종마다 적정 밀도가 달라 고정 기준값이 맞지 않을 때 사용한다.
+ */
+public class PercentileGradePolicy implements GradePolicy {
+
+    private static final byte GREEN = (byte) MarketGrade.GREEN.ordinal();
+    private static final byte YELLOW = (byte) MarketGrade.YELLOW.ordinal();
+    private static final byte RED = (byte) MarketGrade.RED.ordinal();
+
+    private final double greenRatio;
+    private final double redRatio;
+
+    public PercentileGradePolicy(double greenRatio, double redRatio) {
+        if (greenRatio < 0 || redRatio < 0 || greenRatio + redRatio > 1) {
+            throw new InvalidGradePolicyException();
+        }
+        this.greenRatio = greenRatio;
+        this.redRatio = redRatio;
+    }
+
+    @Override
+    public String name() {
+        return "PERCENTILE";
+    }
+
+    @Override
+    public void grade(long categoryId, double[] populationPerStores, byte[] grades, int from, int to) {
+        int size = to - from;
+        if (size == 0) {
+            return;
+        }
+        double[] sorted = Arrays.copyOfRange(populationPerStores, from, to);
+        Arrays.sort(sorted);
+
+        int greenCount = (int) Math.floor(size * greenRatio);
+        int redCount = (int) Math.floor(size * redRatio);
+        // 경계값과 같은 값은 같은 등급이 되도록 값 기준으로 자른다
+        double greenCutoff = greenCount > 0 ? sorted[size - greenCount] : Double.POSITIVE_INFINITY;
+        double redCutoff = redCount > 0 ? sorted[redCount - 1] : Double.NEGATIVE_INFINITY;
+
+        for (int i = from; i < to; i++) {
+            double value = populationPerStores[i];
+            if (value >= greenCutoff) {
+                grades[i] = GREEN;
+            } else if (value <= redCutoff) {
+                grades[i] = RED;
+            } else {
+                grades[i] = YELLOW;
+            }
+        }
+    }
+}
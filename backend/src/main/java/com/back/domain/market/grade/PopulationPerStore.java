@@ -0,0 +1,16 @@
+package com.back.domain.market.grade;
+
+/**
+ * 점포당 유동인구 계산 규칙 (ETL DATA/src/service/calculator.py와 같음).
+ * 점포 수 0은 1로 보고 소수 둘째 자리에서 반올림한다.
+ * 행 단위 값(등급 재계산, 상세 응답)과 합계 값(집계, 주변 지역, 시뮬레이션)이 모두 이 규칙을 쓴다.
+ */
+public final class PopulationPerStore {
+
+    private PopulationPerStore() {
+    }
+
+    public static double of(long floatingPopulation, long storeCount) {
+        return Math.round((double) floatingPopulation / Math.max(storeCount, 1) * 100) / 100.0;
+    }
+}
@@ -0,0 +1,60 @@
+package com.back.domain.market.grade;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidGradePolicyException;
+
+import java.util.Map;
+
+/**
+ * 고정 기준값 등급 (ETL의 MarketMetricsCalculator._determine_grade와 같은 규칙).
+ * 점포당 유동인구가 opportunity 이상이면 GREEN, overcrowded 이하이면 RED, 그 사이는 YELLOW.
+ * 업종별 기준값이 있으면 그 값을 우선한다.
+ */
+public class ThresholdGradePolicy implements GradePolicy {
+
+    private final Thresholds defaults;
+    private final Map<Long, Thresholds> byCategory;
+
+    public ThresholdGradePolicy(Thresholds defaults, Map<Long, Thresholds> byCategory) {
+        this.defaults = defaults;
+        this.byCategory = byCategory != null ? Map.copyOf(byCategory) : Map.of();
+        validate(defaults);
+        this.byCategory.values().forEach(ThresholdGradePolicy::validate);
+    }
+
+    private static void validate(Thresholds thresholds) {
+        if (thresholds.opportunity() <= thresholds.overcrowded()) {
+            throw new InvalidGradePolicyException();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "THRESHOLD";
+    }
+
+    @Override
+    public void grade(long categoryId, double[] populationPerStores, byte[] grades, int from, int to) {
+        Thresholds thresholds = byCategory.getOrDefault(categoryId, defaults);
+        for (int i = from; i < to; i++) {
+            grades[i] = thresholds.gradeOf(populationPerStores[i]);
+        }
+    }
+
+    public record Thresholds(double opportunity, double overcrowded) {
+
+        private static final byte GREEN = (byte) MarketGrade.GREEN.ordinal();
+        private static final byte YELLOW = (byte) MarketGrade.YELLOW.ordinal();
+        private static final byte RED = (byte) MarketGrade.RED.ordinal();
+
+        byte gradeOf(double populationPerStore) {
+            if (populationPerStore >= opportunity) {
+                return GREEN;
+            }
+            if (populationPerStore <= overcrowded) {
+                return RED;
+            }
+            return YELLOW;
+        }
+    }
+}
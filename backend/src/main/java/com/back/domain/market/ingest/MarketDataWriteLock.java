@@ -0,0 +1,74 @@
+package com.back.domain.market.ingest;
+
+import com.back.domain.market.error.exception.IngestInProgressException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * market_stats 일괄 쓰기 작업(적재, 등급 재계산)을 클러스터 전체에서 하나씩만 실행한다.
+ * 스테이징 테이블이 노드 간에 공유되므로 노드 안 잠금(ReentrantLock) 뒤에 DB 이름 잠금(GET_LOCK)도 잡는다.
+ * 이름 잠금은 잡은 커넥션에 묶이므로 작업 동안 전용 커넥션 하나를 쥐고 있고, 노드가 죽어 커넥션이 끊기면 DB가 풀어 준다.
+ * 이미 실행 중이면 기다리지 않고 바로 거절한다.
+ */
+@Slf4j
+@Component
+public class MarketDataWriteLock {
+
+    static final String LOCK_NAME = "open_insight.market_stats_write";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final DataSource dataSource;
+
+    public MarketDataWriteLock(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public <T> T runExclusively(Supplier<T> task) {
+        if (!lock.tryLock()) {
+            throw new IngestInProgressException();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (!acquire(connection)) {
+                throw new IngestInProgressException();
+            }
+            try {
+                return task.get();
+            } finally {
+                release(connection);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("market_stats 쓰기 잠금 획득 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 대기 없이 시도 (1 = 획득, 0 = 다른 세션이 보유)
+    private static boolean acquire(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    // 풀에 돌아간 커넥션이 잠금을 계속 쥐지 않도록 명시적으로 푼다
+    private static void release(Connection connection) {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.execute();
+        } catch (SQLException e) {
+            log.error("market_stats 쓰기 잠금 해제 실패: {}", LOCK_NAME, e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.back.domain.market.ingest;
+
+import org.springframework.http.MediaType;
+
+public enum MarketIngestFormat {
+    CSV,    // 첫 줄은 헤더 (snake_case 컬럼 이름)
+    NDJSON; // 한 줄에 JSON 객체 하나
+
+    public static MarketIngestFormat from(MediaType contentType) {
+        if (contentType != null && "csv".equalsIgnoreCase(contentType.getSubtype())) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
@@ -0,0 +1,191 @@
+package com.back.domain.market.ingest;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidIngestDataException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 입력 스트림을 한 행씩 읽는다. 전체를 메모리에 올리지 않으므로 입력 크기와 무관하게 메모리 사용량이 일정하다.
+ */
+@Slf4j
+abstract class MarketIngestReader implements Closeable {
+
+    private long lineNumber;
+
+    static MarketIngestReader open(MarketIngestFormat format, InputStream in, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(in);
+            case NDJSON -> new Ndjson(in, objectMapper);
+        };
+    }
+
+    /**
+     * @return 다음 행, 끝이면 null
+     */
+    MarketIngestRow next() {
+        try {
+            MarketIngestRow row = read();
+            if (row == null) {
+                return null;
+            }
+            lineNumber++;
+            if (!row.isValid()) {
+                throw invalid("필수 값 누락", null);
+            }
+            return row;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (IllegalArgumentException e) {
+            throw invalid(e.getMessage(), e);
+        }
+    }
+
+    protected abstract MarketIngestRow read() throws IOException;
+
+    private InvalidIngestDataException invalid(String reason, Exception cause) {
+        log.warn("적재 입력 {}번째 행 오류: {}", lineNumber + 1, reason, cause);
+        return new InvalidIngestDataException();
+    }
+
+    private static final class Ndjson extends MarketIngestReader {
+
+        private final MappingIterator<MarketIngestRow> iterator;
+
+        private Ndjson(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.iterator = objectMapper.readerFor(MarketIngestRow.class).readValues(in);
+        }
+
+        @Override
+        protected MarketIngestRow read() throws IOException {
+            try {
+                return iterator.hasNextValue() ? iterator.nextValue() : null;
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException(e.getOriginalMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+
+    static final class Csv extends MarketIngestReader {
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        private Csv(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String header = reader.readLine();
+            if (header == null) {
+                return;
+            }
+            if (header.startsWith("\uFEFF")) {
+                header = header.substring(1); // 엑셀에서 저장한 UTF-8 BOM
+            }
+            List<String> names = split(header);
+            for (int i = 0; i < names.size(); i++) {
+                columns.put(names.get(i).trim(), i);
+            }
+        }
+
+        @Override
+        protected MarketIngestRow read() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            List<String> values = split(line);
+            return new MarketIngestRow(
+                    toLong(value(values, "region_id")),
+                    toLong(value(values, "category_id")),
+                    toInt(value(values, "store_count")),
+                    toInt(value(values, "floating_population")),
+                    toInt(value(values, "male_population")),
+                    toInt(value(values, "female_population")),
+                    value(values, "age_group"),
+                    toDouble(value(values, "population_per_store")),
+                    toGrade(value(values, "market_grade"))
+            );
+        }
+
+        private String value(List<String> values, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size()) {
+                return null;
+            }
+            String value = values.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        // 쉼표 구분, 큰따옴표로 감싼 값("a,b", "say ""hi""") 지원
+        static List<String> split(String line) {
+            List<String> values = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            values.add(current.toString());
+            return values;
+        }
+
+        private static Long toLong(String value) {
+            return value != null ? Long.valueOf(value) : null;
+        }
+
+        private static Integer toInt(String value) {
+            return value != null ? Integer.valueOf(value) : null;
+        }
+
+        private static Double toDouble(String value) {
+            return value != null ? Double.valueOf(value) : null;
+        }
+
+        private static MarketGrade toGrade(String value) {
+            return value != null ? MarketGrade.valueOf(value) : null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.back.domain.market.ingest;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+// 적재 입력 한 행 (필드 이름은 ETL 산출물과 같은 snake_case: region_id, store_count, ...)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record MarketIngestRow(
+        Long regionId,
+        Long categoryId,
+        Integer storeCount,
+        Integer floatingPopulation,
+        Integer malePopulation,
+        Integer femalePopulation,
+        String ageGroup,
+        Double populationPerStore,
+        MarketGrade marketGrade
+) {
+    boolean isValid() {
+        return regionId != null && categoryId != null && floatingPopulation != null && marketGrade != null;
+    }
+}
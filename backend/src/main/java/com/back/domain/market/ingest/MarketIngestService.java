@@ -0,0 +1,99 @@
+package com.back.domain.market.ingest;
+
+import com.back.domain.market.cache.MarketCacheWarmer;
+import com.back.domain.market.dto.response.MarketIngestResponse;
+import com.back.domain.market.error.exception.InvalidIngestDataException;
+import com.back.domain.market.snapshot.MarketDataVersionTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 하루치 상권 데이터를 일괄 적재한다.
+ * 입력 스트림 → 스테이징 테이블(JDBC 배치) → 검증 → 운영 테이블 교체(한 트랜잭션) → 버전 갱신(스냅샷 교체, 캐시 초기화) → 캐시 예열.
+ * ETL이 (지역, 업종)마다 DELETE를 날리고 행 단위로 INSERT 하던 방식을 대체하며, 적재 중인 날짜가 반쯤 보이는 일이 없다.
+ */
+@Slf4j
+@Service
+public class MarketIngestService {
+
+    private final MarketStagingWriter stagingWriter;
+    private final MarketDataVersionTracker marketDataVersionTracker;
+    private final MarketCacheWarmer marketCacheWarmer;
+    private final ObjectMapper objectMapper;
+    private final MarketDataWriteLock writeLock;
+    private final int batchSize;
+
+    public MarketIngestService(MarketStagingWriter stagingWriter,
+                               MarketDataVersionTracker marketDataVersionTracker,
+                               MarketCacheWarmer marketCacheWarmer,
+                               ObjectMapper objectMapper,
+                               MarketDataWriteLock writeLock,
+                               @Value("${market.ingest.batch-size:1000}") int batchSize) {
+        this.stagingWriter = stagingWriter;
+        this.marketDataVersionTracker = marketDataVersionTracker;
+        this.marketCacheWarmer = marketCacheWarmer;
+        this.objectMapper = objectMapper;
+        this.writeLock = writeLock;
+        this.batchSize = batchSize;
+    }
+
+    // 스테이징 테이블을 하나만 쓰므로 동시 적재(및 재계산)는 막는다
+    public MarketIngestResponse ingest(LocalDate statsDate, MarketIngestFormat format, InputStream in) {
+        return writeLock.runExclusively(() -> {
+            long start = System.nanoTime();
+            // 같은 날짜를 다시 적재해도 데이터 버전(최신 created_at)이 바뀌도록 적재 시각을 붙인다
+            LocalDateTime createdAt = statsDate.atTime(LocalTime.now().truncatedTo(ChronoUnit.SECONDS));
+
+            stagingWriter.prepare();
+            int rows = stage(format, in, createdAt);
+            if (rows == 0) {
+                throw new InvalidIngestDataException();
+            }
+            int replaced = stagingWriter.swap(statsDate);
+            long loadedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            marketDataVersionTracker.refresh();
+            marketCacheWarmer.warm();
+
+            long totalMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("상권 데이터 적재 완료: date={}, rows={}, replaced={}, load={}ms, total={}ms",
+                    statsDate, rows, replaced, loadedMillis, totalMillis);
+            return new MarketIngestResponse(statsDate, rows, replaced, totalMillis);
+        });
+    }
+
+    private int stage(MarketIngestFormat format, InputStream in, LocalDateTime createdAt) {
+        int rows = 0;
+        List<MarketIngestRow> batch = new ArrayList<>(batchSize);
+        try (MarketIngestReader reader = MarketIngestReader.open(format, in, objectMapper)) {
+            MarketIngestRow row;
+            while ((row = reader.next()) != null) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    stagingWriter.write(batch, createdAt);
+                    rows += batch.size();
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            stagingWriter.write(batch, createdAt);
+            rows += batch.size();
+        }
+        return rows;
+    }
+}
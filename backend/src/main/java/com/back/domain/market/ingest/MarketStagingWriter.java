@@ -0,0 +1,100 @@
+package com.back.domain.market.ingest;
+
+import com.back.domain.market.error.exception.InvalidIngestDataException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 적재 데이터를 스테이징 테이블에 JDBC 배치로 쓰고, 검증 후 한 트랜잭션에서 market_stats의 해당 날짜 데이터와 교체한다.
+ * 교체는 DELETE + INSERT ... SELECT 한 트랜잭션이므로 조회 쪽은 이전 데이터 또는 새 데이터 전체만 본다 (InnoDB MVCC).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketStagingWriter {
+
+    static final String STAGING_TABLE = "market_stats_staging";
+
+    private static final String COLUMNS = "region_id, category_id, store_count, floating_population, male_population, "
+            + "female_population, age_group, population_per_store, market_grade, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 스테이징 테이블 준비 (운영 테이블의 적재 컬럼만, PK/FK/인덱스 없음). CREATE TABLE ... LIKE는 H2에 없어 CTAS로 만든다
+    public void prepare() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + STAGING_TABLE + " AS SELECT " + COLUMNS + " FROM market_stats WHERE 1 = 0");
+        jdbcTemplate.execute("TRUNCATE TABLE " + STAGING_TABLE);
+    }
+
+    public void write(List<MarketIngestRow> rows, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + STAGING_TABLE + " (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.regionId());
+                    ps.setLong(2, row.categoryId());
+                    ps.setObject(3, row.storeCount(), Types.INTEGER);
+                    ps.setInt(4, row.floatingPopulation());
+                    ps.setInt(5, row.malePopulation() != null ? row.malePopulation() : 0);
+                    ps.setInt(6, row.femalePopulation() != null ? row.femalePopulation() : 0);
+                    ps.setString(7, row.ageGroup());
+                    ps.setObject(8, row.populationPerStore(), Types.DOUBLE);
+                    ps.setString(9, row.marketGrade().name());
+                    ps.setTimestamp(10, timestamp);
+                    ps.setTimestamp(11, timestamp);
+                });
+    }
+
+    /**
+     * 스테이징 데이터를 검증한 뒤 statsDate 하루치를 통째로 교체한다.
+     * @return 교체로 삭제된 기존 행 수
+     */
+    public int swap(LocalDate statsDate) {
+        validateStaging();
+        Timestamp from = Timestamp.valueOf(statsDate.atStartOfDay());
+        Timestamp to = Timestamp.valueOf(statsDate.plusDays(1).atStartOfDay());
+        Integer deleted = transactionTemplate.execute(status -> {
+            int removed = jdbcTemplate.update("DELETE FROM market_stats WHERE created_at >= ? AND created_at < ?", from, to);
+            jdbcTemplate.update("INSERT INTO market_stats (" + COLUMNS + ") SELECT " + COLUMNS + " FROM " + STAGING_TABLE);
+            return removed;
+        });
+        jdbcTemplate.execute("TRUNCATE TABLE " + STAGING_TABLE);
+        return deleted != null ? deleted : 0;
+    }
+
+    // 교체 전에 검증해야 운영 테이블이 잠기는 시간을 줄이고, 실패 시 기존 데이터가 그대로 남는다
+    private void validateStaging() {
+        Integer unknownKeys = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM %s s
+                LEFT JOIN regions r ON r.region_id = s.region_id
+                LEFT JOIN categories c ON c.category_id = s.category_id
+                WHERE r.region_id IS NULL OR c.category_id IS NULL
+                """.formatted(STAGING_TABLE), Integer.class);
+        if (unknownKeys != null && unknownKeys > 0) {
+            log.warn("적재 데이터에 존재하지 않는 지역/업종 ID가 {}건 있습니다.", unknownKeys);
+            throw new InvalidIngestDataException();
+        }
+        // COUNT(DISTINCT a, b)는 MariaDB 확장이라 GROUP BY로 센다
+        Integer duplicates = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM (
+                    SELECT region_id, category_id FROM %s GROUP BY region_id, category_id HAVING COUNT(*) > 1
+                ) d
+                """.formatted(STAGING_TABLE), Integer.class);
+        if (duplicates != null && duplicates > 0) {
+            log.warn("적재 데이터에 중복된 (지역, 업종)이 {}건 있습니다.", duplicates);
+            throw new InvalidIngestDataException();
+        }
+    }
+}
@@ -1,40 +1,92 @@
 package com.back.domain.market.mapper;
 
+import com.back.domain.market.dimension.DimensionDictionary;
+import com.back.domain.market.dimension.Dimensions;
+import com.back.domain.market.dto.MarketDetailRow;
 import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.entity.MarketGrade;
 import com.back.domain.market.entity.MarketStats;
+import com.back.domain.market.grade.PopulationPerStore;
 import org.springframework.stereotype.Component;
 
 @Component
 public class MarketDetailMapper {
 
+  // 미리 만들어 둔 지역 이름을 쓰고, 사전에 아직 없는 동이면 그때 이어 붙인다
+  private final DimensionDictionary dimensionDictionary;
+
+  public MarketDetailMapper(DimensionDictionary dimensionDictionary) {
+    this.dimensionDictionary = dimensionDictionary;
+  }
+
   public MarketDetailResponse toDetailResponse(MarketStats stats) {
-    double popPerStore = (stats.getStoreCount() > 0)
-            ? (double) stats.getFloatingPopulation() / stats.getStoreCount()
-            : 0.0;
-    int totalPop = stats.getFloatingPopulation();
+    String regionName = regionName(stats.getRegion().getAdmCode(),
+            stats.getRegion().getProvince(), stats.getRegion().getDistrict(), stats.getRegion().getTown());
+
+    return toDetailResponse(
+            stats.getId(),
+            regionName,
+            stats.getCategory().getName(),
+            zeroIfNull(stats.getStoreCount()),
+            zeroIfNull(stats.getFloatingPopulation()),
+            zeroIfNull(stats.getMalePopulation()),
+            stats.getMarketGrade(),
+            stats.getAgeGroup()
+    );
+  }
+
+  public MarketDetailResponse toDetailResponse(MarketDetailRow row) {
+    String regionName = regionName(row.admCode(), row.province(), row.district(), row.town());
+
+    return toDetailResponse(
+            row.statsId(),
+            regionName,
+            row.categoryName(),
+            zeroIfNull(row.storeCount()),
+            zeroIfNull(row.floatingPopulation()),
+            zeroIfNull(row.malePopulation()),
+            row.marketGrade(),
+            row.ageGroup()
+    );
+  }
+
+  // 엔티티 없이 스칼라 값만으로 응답 생성 (스냅샷, projection 조회용)
+  public MarketDetailResponse toDetailResponse(Long statsId, String regionName, String categoryName,
+                                               int storeCount, int floatingPopulation, int malePopulation,
+                                               MarketGrade marketGrade, String ageGroup) {
     int malePer = 0;
     int femalePer = 0;
 
-    if (totalPop > 0) {
-        malePer = (int) Math.round(((double) stats.getMalePopulation() / totalPop) * 100);
+    if (floatingPopulation > 0) {
+        malePer = (int) Math.round(((double) malePopulation / floatingPopulation) * 100);
         femalePer = 100 - malePer;
     }
 
-    String regionName = stats.getRegion().getProvince() + " " + stats.getRegion().getDistrict() + " " + stats.getRegion().getTown();
-    String ageGroup = stats.getAgeGroup() != null ? stats.getAgeGroup() : "분석중";
-
     return new MarketDetailResponse(
-            stats.getId(),
+            statsId,
             regionName,
-            stats.getCategory().getName(),
-            stats.getStoreCount(),
-            stats.getFloatingPopulation(),
-            Math.round(popPerStore * 10) / 10.0,
-            stats.getMarketGrade(),
-            stats.getMarketGrade().getDescription(),
+            categoryName,
+            storeCount,
+            floatingPopulation,
+            PopulationPerStore.of(floatingPopulation, storeCount),
+            marketGrade,
+            marketGrade.getDescription(),
             malePer,
             femalePer,
-            ageGroup
+            ageGroup != null ? ageGroup : "분석중"
     );
   }
+
+  private String regionName(String admCode, String province, String district, String town) {
+    Dimensions dimensions = dimensionDictionary.get();
+    int regionIndex = dimensions.regionIndexOf(admCode);
+    if (regionIndex >= 0) {
+      return dimensions.regionNameAt(regionIndex);
+    }
+    return province + " " + district + " " + town;
+  }
+
+  private static int zeroIfNull(Integer value) {
+    return value != null ? value : 0;
+  }
 }
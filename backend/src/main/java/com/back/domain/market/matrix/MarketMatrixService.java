@@ -0,0 +1,108 @@
+package com.back.domain.market.matrix;
+
+import com.back.domain.market.dto.response.MarketMatrixResponse;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.error.exception.SnapshotNotReadyException;
+import com.back.domain.market.ranking.RankingMetric;
+import com.back.domain.market.snapshot.MarketSnapshot;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 지역의 모든 업종 지표를 한 번에 제공한다.
+ * 스냅샷은 지역 단위로 업종 셀이 연속해 있으므로 (regionIndex * 업종 수 ~ +업종 수) 지역 조회 한 번으로 모든 업종 행을 읽는다.
+ * 백분위는 같은 시·도 안에서 해당 업종 데이터가 있는 지역끼리 비교한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MarketMatrixService {
+
+    private static final RankingMetric[] METRICS = RankingMetric.values();
+
+    private final MarketSnapshotEngine marketSnapshotEngine;
+
+    public MarketMatrixResponse getMatrix(String admCode) {
+        MarketSnapshot snapshot = marketSnapshotEngine.snapshot().orElseThrow(SnapshotNotReadyException::new);
+        int regionIndex = snapshot.regionIndexOf(admCode);
+        if (regionIndex < 0) {
+            throw new MarketAnalysisNotFoundException();
+        }
+        int[] provinceRegions = snapshot.regionIndexesOf(snapshot.getProvinces()[regionIndex]);
+
+        List<MarketMatrixResponse.Item> items = new ArrayList<>(snapshot.categoryCount());
+        for (int categoryIndex = 0; categoryIndex < snapshot.categoryCount(); categoryIndex++) {
+            int cell = snapshot.cellOf(regionIndex, categoryIndex);
+            if (!snapshot.hasCell(cell)) {
+                continue;
+            }
+            items.add(toItem(snapshot, provinceRegions, categoryIndex, cell));
+        }
+        if (items.isEmpty()) {
+            throw new MarketAnalysisNotFoundException();
+        }
+        return new MarketMatrixResponse(
+                admCode,
+                snapshot.regionNameOf(regionIndex),
+                provinceRegions.length,
+                items
+        );
+    }
+
+    private static MarketMatrixResponse.Item toItem(MarketSnapshot snapshot, int[] provinceRegions, int categoryIndex, int cell) {
+        int floatingPopulation = snapshot.getFloatingPopulations()[cell];
+        int malePercent = floatingPopulation > 0
+                ? (int) Math.round((double) snapshot.getMalePopulations()[cell] / floatingPopulation * 100)
+                : 0;
+        Map<RankingMetric, Double> percentiles = new EnumMap<>(RankingMetric.class);
+        for (RankingMetric metric : METRICS) {
+            percentiles.put(metric, percentileRank(snapshot, provinceRegions, categoryIndex, metric, metric.valueAt(snapshot, cell)));
+        }
+        return new MarketMatrixResponse.Item(
+                snapshot.getCategoryIds()[categoryIndex],
+                snapshot.getCategoryNames()[categoryIndex],
+                snapshot.getStoreCounts()[cell],
+                floatingPopulation,
+                snapshot.getPopulationPerStores()[cell],
+                snapshot.gradeAt(cell),
+                malePercent,
+                floatingPopulation > 0 ? 100 - malePercent : 0,
+                snapshot.getAgeGroups()[cell] != null ? snapshot.getAgeGroups()[cell] : "분석중",
+                percentiles
+        );
+    }
+
+    /**
+     * 시·도 안에서 값이 더 작은 지역 비율 (동점은 절반으로 계산), 0~100.
+     * 비교 대상이 자기 자신뿐이면 100.
+     */
+    private static double percentileRank(MarketSnapshot snapshot, int[] provinceRegions, int categoryIndex,
+                                         RankingMetric metric, double value) {
+        int below = 0;
+        int equal = 0;
+        int total = 0;
+        for (int regionIndex : provinceRegions) {
+            int cell = snapshot.cellOf(regionIndex, categoryIndex);
+            if (!snapshot.hasCell(cell)) {
+                continue;
+            }
+            double other = metric.valueAt(snapshot, cell);
+            if (other < value) {
+                below++;
+            } else if (other == value) {
+                equal++;
+            }
+            total++;
+        }
+        if (total <= 1) {
+            return 100.0;
+        }
+        double rank = (below + (equal - 1) / 2.0) / (total - 1) * 100;
+        return Math.round(rank * 10) / 10.0;
+    }
+}
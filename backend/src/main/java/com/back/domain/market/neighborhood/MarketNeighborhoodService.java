@@ -0,0 +1,131 @@
+package com.back.domain.market.neighborhood;
+
+import com.back.domain.geometry.error.exception.GeometryNotLoadedException;
+import com.back.domain.geometry.index.RegionGeometryIndex;
+import com.back.domain.geometry.index.RegionSpatialIndex;
+import com.back.domain.market.dto.response.MarketNeighborhoodResponse;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidNeighborhoodQueryException;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.error.exception.SnapshotNotReadyException;
+import com.back.domain.market.grade.PopulationPerStore;
+import com.back.domain.market.snapshot.MarketSnapshot;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 행정동(또는 좌표) 주변 동의 업종 지표와 합계를 한 번에 제공한다.
+ * 주변 동 선택은 경계 파일에서 만든 공간 색인(RegionSpatialIndex), 지표는 스냅샷에서 읽으므로 DB를 거치지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MarketNeighborhoodService {
+
+    public static final int MAX_K = 50;
+    public static final double MAX_RADIUS_KM = 10.0;
+
+    private static final MarketGrade[] GRADES = MarketGrade.values();
+
+    private final RegionGeometryIndex regionGeometryIndex;
+    private final MarketSnapshotEngine marketSnapshotEngine;
+
+    /**
+     * admCode가 있으면 그 동의 중심점, 없으면 lat/lng를 중심으로 한다.
+     * k는 1~MAX_K, radiusKm는 MAX_RADIUS_KM 이하로 맞춘다.
+     */
+    public MarketNeighborhoodResponse getNeighborhood(NeighborhoodMode mode, String admCode, Double lat, Double lng,
+                                                      Long categoryId, int k, double radiusKm) {
+        RegionSpatialIndex index = regionGeometryIndex.spatialIndex().orElseThrow(GeometryNotLoadedException::new);
+        MarketSnapshot snapshot = marketSnapshotEngine.snapshot().orElseThrow(SnapshotNotReadyException::new);
+        int categoryIndex = snapshot.categoryIndexOf(categoryId);
+        if (categoryIndex < 0) {
+            throw new MarketAnalysisNotFoundException();
+        }
+
+        double centerLng;
+        double centerLat;
+        if (admCode != null) {
+            double[] centroid = index.centroidOf(admCode);
+            if (centroid == null) {
+                throw new MarketAnalysisNotFoundException();
+            }
+            centerLng = centroid[0];
+            centerLat = centroid[1];
+        } else if (lat != null && lng != null && mode != NeighborhoodMode.ADJACENT) {
+            centerLng = lng;
+            centerLat = lat;
+        } else {
+            throw new InvalidNeighborhoodQueryException();
+        }
+
+        List<RegionSpatialIndex.Neighbor> neighbors = switch (mode) {
+            case NEAREST -> index.nearest(centerLng, centerLat, Math.min(Math.max(k, 1), MAX_K));
+            case RADIUS -> index.within(centerLng, centerLat, Math.min(Math.max(radiusKm, 0), MAX_RADIUS_KM));
+            case ADJACENT -> adjacent(index, admCode, centerLng, centerLat);
+        };
+
+        List<MarketNeighborhoodResponse.Item> items = new ArrayList<>(neighbors.size());
+        long storeSum = 0;
+        long floatingSum = 0;
+        int[] gradeCounts = new int[GRADES.length];
+        for (RegionSpatialIndex.Neighbor neighbor : neighbors) {
+            int regionIndex = snapshot.regionIndexOf(neighbor.admCode());
+            if (regionIndex < 0) {
+                continue; // 경계 파일에만 있는 동 (통계 미수집)
+            }
+            int cell = snapshot.cellOf(regionIndex, categoryIndex);
+            if (!snapshot.hasCell(cell)) {
+                continue;
+            }
+            int storeCount = snapshot.getStoreCounts()[cell];
+            int floatingPopulation = snapshot.getFloatingPopulations()[cell];
+            MarketGrade grade = snapshot.gradeAt(cell);
+            storeSum += storeCount;
+            floatingSum += floatingPopulation;
+            gradeCounts[grade.ordinal()]++;
+            items.add(new MarketNeighborhoodResponse.Item(
+                    neighbor.admCode(),
+                    snapshot.regionNameOf(regionIndex),
+                    Math.round(neighbor.distanceKm() * 1000) / 1000.0,
+                    storeCount,
+                    floatingPopulation,
+                    snapshot.getPopulationPerStores()[cell],
+                    grade
+            ));
+        }
+
+        Map<MarketGrade, Integer> grades = new EnumMap<>(MarketGrade.class);
+        for (MarketGrade grade : GRADES) {
+            grades.put(grade, gradeCounts[grade.ordinal()]);
+        }
+        double populationPerStore = PopulationPerStore.of(floatingSum, storeSum);
+        return new MarketNeighborhoodResponse(
+                mode,
+                admCode,
+                centerLat,
+                centerLng,
+                categoryId,
+                new MarketNeighborhoodResponse.Summary(items.size(), storeSum, floatingSum, populationPerStore, grades),
+                items
+        );
+    }
+
+    // 자신 + 인접 동, 거리순
+    private static List<RegionSpatialIndex.Neighbor> adjacent(RegionSpatialIndex index, String admCode,
+                                                             double centerLng, double centerLat) {
+        List<RegionSpatialIndex.Neighbor> neighbors = new ArrayList<>();
+        neighbors.add(new RegionSpatialIndex.Neighbor(admCode, 0.0));
+        for (String adjacent : index.adjacentTo(admCode)) {
+            neighbors.add(new RegionSpatialIndex.Neighbor(adjacent, index.distanceKm(centerLng, centerLat, adjacent)));
+        }
+        neighbors.sort(Comparator.comparingDouble(RegionSpatialIndex.Neighbor::distanceKm));
+        return neighbors;
+    }
+}
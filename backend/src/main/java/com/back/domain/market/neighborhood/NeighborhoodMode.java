@@ -0,0 +1,8 @@
+package com.back.domain.market.neighborhood;
+
+// 주변 지역 선택 방식
+public enum NeighborhoodMode {
+    NEAREST,   // 중심점이 가까운 K개
+    RADIUS,    // 중심점이 반경 안
+    ADJACENT   // 경계가 맞닿은 동 (+ 자신)
+}
@@ -0,0 +1,183 @@
+package com.back.domain.market.ranking;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.snapshot.MarketSnapshot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 업종별 · 지표별로 값이 큰 순서로 정렬한 셀 목록.
+ * 같은 목록을 (등급), (시·도, 등급), (시·군·구, 등급)별로 나눈 부분 목록(순서 유지)도 함께 만들어,
+ * 지역 / 등급 조건이 있어도 상위 K개는 조건에 맞는 목록의 앞에서부터 K개만 보면 된다.
+ * 등급 조건이 없으면 같은 지역의 등급별 목록(3개)을 합쳐 읽는다. 스냅샷을 만들 때 한 번 계산한다.
+ */
+public final class MarketRankingIndex {
+
+    private static final RankingMetric[] METRICS = RankingMetric.values();
+    private static final MarketGrade[] GRADES = MarketGrade.values();
+    private static final String SEPARATOR = "\u0000";
+
+    // [지표 ordinal][업종 인덱스] -> 값 내림차순 셀 배열 (데이터가 있는 셀만)
+    private final int[][][] sortedCells;
+    // [지표 ordinal][업종 인덱스][지역 그룹 * 등급 수 + 등급 ordinal] -> sortedCells를 나눈 부분 목록
+    private final int[][][][] byGrade;
+    private final int[][][][] byProvince;
+    private final int[][][][] byDistrict;
+    private final Map<String, Integer> provinceGroups;
+    // 구 이름은 시·도마다 겹칠 수 있으므로(예: 중구) "시·도\0시·군·구"로 구분하고, 이름만 주면 같은 이름의 그룹을 모두 쓴다
+    private final Map<String, Integer> districtGroups;
+    private final Map<String, int[]> districtGroupsByName;
+
+    private MarketRankingIndex(int[][][] sortedCells, int[][][][] byGrade, int[][][][] byProvince, int[][][][] byDistrict,
+                               Map<String, Integer> provinceGroups, Map<String, Integer> districtGroups,
+                               Map<String, int[]> districtGroupsByName) {
+        this.sortedCells = sortedCells;
+        this.byGrade = byGrade;
+        this.byProvince = byProvince;
+        this.byDistrict = byDistrict;
+        this.provinceGroups = provinceGroups;
+        this.districtGroups = districtGroups;
+        this.districtGroupsByName = districtGroupsByName;
+    }
+
+    public static MarketRankingIndex build(MarketSnapshot snapshot) {
+        int categoryCount = snapshot.categoryCount();
+        int regionCount = snapshot.regionCount();
+
+        Map<String, Integer> provinceGroups = new HashMap<>();
+        Map<String, Integer> districtGroups = new HashMap<>();
+        Map<String, List<Integer>> districtNames = new HashMap<>();
+        int[] provinceOfRegion = new int[regionCount];
+        int[] districtOfRegion = new int[regionCount];
+        for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+            String province = snapshot.getProvinces()[regionIndex];
+            String district = snapshot.getDistricts()[regionIndex];
+            provinceOfRegion[regionIndex] = provinceGroups.computeIfAbsent(province, p -> provinceGroups.size());
+            districtOfRegion[regionIndex] = districtGroups.computeIfAbsent(province + SEPARATOR + district, key -> {
+                districtNames.computeIfAbsent(district, d -> new ArrayList<>()).add(districtGroups.size());
+                return districtGroups.size();
+            });
+        }
+        Map<String, int[]> districtGroupsByName = new HashMap<>();
+        districtNames.forEach((district, groups) ->
+                districtGroupsByName.put(district, groups.stream().mapToInt(Integer::intValue).toArray()));
+
+        int[][][] sortedCells = new int[METRICS.length][categoryCount][];
+        int[][][][] byGrade = new int[METRICS.length][categoryCount][][];
+        int[][][][] byProvince = new int[METRICS.length][categoryCount][][];
+        int[][][][] byDistrict = new int[METRICS.length][categoryCount][][];
+        IntStream.range(0, categoryCount).parallel().forEach(categoryIndex -> {
+            int[] populated = IntStream.range(0, regionCount)
+                    .map(regionIndex -> snapshot.cellOf(regionIndex, categoryIndex))
+                    .filter(snapshot::hasCell)
+                    .toArray();
+            for (RankingMetric metric : METRICS) {
+                int[] sorted = IntStream.of(populated)
+                        .boxed()
+                        .sorted(Comparator.comparingDouble((Integer cell) -> metric.valueAt(snapshot, cell)).reversed())
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+                sortedCells[metric.ordinal()][categoryIndex] = sorted;
+                byGrade[metric.ordinal()][categoryIndex] = partition(sorted, snapshot, null, 1, categoryCount);
+                byProvince[metric.ordinal()][categoryIndex] =
+                        partition(sorted, snapshot, provinceOfRegion, provinceGroups.size(), categoryCount);
+                byDistrict[metric.ordinal()][categoryIndex] =
+                        partition(sorted, snapshot, districtOfRegion, districtGroups.size(), categoryCount);
+            }
+        });
+        return new MarketRankingIndex(sortedCells, byGrade, byProvince, byDistrict,
+                provinceGroups, districtGroups, districtGroupsByName);
+    }
+
+    // 정렬 순서를 유지한 채 (지역 그룹, 등급)별로 나눈다 (O(셀 수)). groupOfRegion이 null이면 등급으로만 나눈다
+    private static int[][] partition(int[] sorted, MarketSnapshot snapshot, int[] groupOfRegion, int regionGroupCount,
+                                     int categoryCount) {
+        int partCount = regionGroupCount * GRADES.length;
+        int[] partOfCell = new int[sorted.length];
+        int[] sizes = new int[partCount];
+        for (int i = 0; i < sorted.length; i++) {
+            int cell = sorted[i];
+            int regionGroup = groupOfRegion != null ? groupOfRegion[cell / categoryCount] : 0;
+            partOfCell[i] = regionGroup * GRADES.length + snapshot.gradeAt(cell).ordinal();
+            sizes[partOfCell[i]]++;
+        }
+        int[][] parts = new int[partCount][];
+        for (int part = 0; part < partCount; part++) {
+            parts[part] = new int[sizes[part]];
+        }
+        int[] filled = new int[partCount];
+        for (int i = 0; i < sorted.length; i++) {
+            int part = partOfCell[i];
+            parts[part][filled[part]++] = sorted[i];
+        }
+        return parts;
+    }
+
+    /**
+     * 지역 / 등급 조건에 맞는 정렬 목록들 (각각 값 내림차순, 목록 안의 셀은 모두 조건에 맞는다).
+     * 없는 시·도 / 시·군·구면 빈 목록.
+     *
+     * @param categoryIndex 음수면 모든 업종
+     * @param grade         null이면 모든 등급
+     */
+    List<int[]> cells(RankingMetric metric, int categoryIndex, String province, String district, MarketGrade grade) {
+        int[][][] partitions;
+        int[] regionGroups;
+        if (district != null) {
+            partitions = byDistrict[metric.ordinal()];
+            if (province != null) {
+                Integer group = districtGroups.get(province + SEPARATOR + district);
+                regionGroups = group != null ? new int[]{group} : new int[0];
+            } else {
+                regionGroups = districtGroupsByName.getOrDefault(district, new int[0]);
+            }
+        } else if (province != null) {
+            partitions = byProvince[metric.ordinal()];
+            Integer group = provinceGroups.get(province);
+            regionGroups = group != null ? new int[]{group} : new int[0];
+        } else if (grade != null) {
+            partitions = byGrade[metric.ordinal()];
+            regionGroups = new int[]{0};
+        } else {
+            partitions = null;
+            regionGroups = null;
+        }
+
+        int[][] byCategory = sortedCells[metric.ordinal()];
+        int from = categoryIndex < 0 ? 0 : categoryIndex;
+        int to = categoryIndex < 0 ? byCategory.length : categoryIndex + 1;
+        List<int[]> lists = new ArrayList<>();
+        for (int c = from; c < to; c++) {
+            if (partitions == null) {
+                lists.add(byCategory[c]);
+                continue;
+            }
+            for (int regionGroup : regionGroups) {
+                if (grade != null) {
+                    lists.add(partitions[c][regionGroup * GRADES.length + grade.ordinal()]);
+                    continue;
+                }
+                for (MarketGrade each : GRADES) {
+                    lists.add(partitions[c][regionGroup * GRADES.length + each.ordinal()]);
+                }
+            }
+        }
+        return lists;
+    }
+
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (int[][] byCategory : sortedCells) {
+            for (int[] cells : byCategory) {
+                bytes += 16L + (long) cells.length * Integer.BYTES;
+            }
+        }
+        // 부분 목록은 셀을 한 번씩 더 담는다 (등급, 시·도 x 등급, 시·군·구 x 등급)
+        return bytes * 4;
+    }
+}
@@ -0,0 +1,134 @@
+package com.back.domain.market.ranking;
+
+import com.back.domain.market.dto.response.MarketRankingResponse;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.snapshot.MarketDataChangedEvent;
+import com.back.domain.market.snapshot.MarketSnapshot;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import com.back.domain.market.snapshot.SnapshotDerived;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 스냅샷 위에서 지역 x 업종 순위(상위 K개)를 조회한다.
+ * 정렬 인덱스는 스냅샷이 바뀔 때 함께 다시 만들고, 조회는 인덱스와 같은 스냅샷을 읽어 값이 섞이지 않게 한다.
+ */
+@Service
+public class MarketRankingService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private final SnapshotDerived<MarketRankingIndex> rankingIndex;
+
+    public MarketRankingService(MarketSnapshotEngine marketSnapshotEngine) {
+        this.rankingIndex = new SnapshotDerived<>("순위 인덱스", marketSnapshotEngine, MarketRankingIndex::build);
+    }
+
+    @Order(1)
+    @EventListener
+    public void onMarketDataChanged(MarketDataChangedEvent event) {
+        rankingIndex.refresh();
+    }
+
+    /**
+     * @param categoryId 없으면 모든 업종을 한 순위로 합친다
+     * @param order      ASC면 값이 작은 순 (예: 점포당 유동인구가 가장 낮은 과밀 지역)
+     */
+    public MarketRankingResponse getRankings(RankingMetric metric, RankingOrder order, Long categoryId,
+                                             String province, String district, MarketGrade grade, int limit) {
+        SnapshotDerived.Entry<MarketRankingIndex> ranked = rankingIndex.get();
+        MarketSnapshot snapshot = ranked.snapshot();
+        int k = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        boolean ascending = order == RankingOrder.ASC;
+
+        List<Integer> cells;
+        int categoryIndex = categoryId != null ? snapshot.categoryIndexOf(categoryId) : -1;
+        if (categoryId != null && categoryIndex < 0) {
+            cells = List.of();
+        } else {
+            // 지역 / 등급 조건은 부분 목록 선택으로 처리되므로, 목록에서 K개(합칠 때는 목록 수만큼 더)만 읽는다
+            List<int[]> lists = ranked.value().cells(metric, categoryIndex, province, district, grade);
+            cells = lists.size() == 1
+                    ? topK(lists.get(0), ascending, k)
+                    : mergedTopK(snapshot, lists, metric, ascending, k);
+        }
+
+        List<MarketRankingResponse.Item> items = new ArrayList<>(cells.size());
+        for (int i = 0; i < cells.size(); i++) {
+            items.add(toItem(snapshot, cells.get(i), i + 1));
+        }
+        return new MarketRankingResponse(metric, order.name(), items);
+    }
+
+    // 정렬된 셀의 앞(또는 뒤) K개
+    private static List<Integer> topK(int[] sorted, boolean ascending, int k) {
+        List<Integer> result = new ArrayList<>(Math.min(k, sorted.length));
+        for (int i = 0; i < sorted.length && result.size() < k; i++) {
+            result.add(sorted[ascending ? sorted.length - 1 - i : i]);
+        }
+        return result;
+    }
+
+    // 여러 정렬 목록(업종별, 등급별, 같은 이름의 시·군·구별)을 k-way merge (목록 수 L일 때 O(L + K log L))
+    private static List<Integer> mergedTopK(MarketSnapshot snapshot, List<int[]> lists, RankingMetric metric,
+                                            boolean ascending, int k) {
+        Comparator<Cursor> byValue = Comparator.comparingDouble(cursor -> metric.valueAt(snapshot, cursor.cell()));
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(ascending ? byValue : byValue.reversed());
+
+        for (int[] sorted : lists) {
+            Cursor cursor = Cursor.first(sorted, ascending);
+            if (cursor != null) {
+                heap.add(cursor);
+            }
+        }
+
+        List<Integer> result = new ArrayList<>(k);
+        while (!heap.isEmpty() && result.size() < k) {
+            Cursor cursor = heap.poll();
+            result.add(cursor.cell());
+            Cursor next = cursor.next();
+            if (next != null) {
+                heap.add(next);
+            }
+        }
+        return result;
+    }
+
+    private static MarketRankingResponse.Item toItem(MarketSnapshot snapshot, int cell, int rank) {
+        int regionIndex = cell / snapshot.categoryCount();
+        int categoryIndex = cell % snapshot.categoryCount();
+        return new MarketRankingResponse.Item(
+                rank,
+                snapshot.getAdmCodes()[regionIndex],
+                snapshot.regionNameOf(regionIndex),
+                snapshot.getCategoryIds()[categoryIndex],
+                snapshot.getCategoryNames()[categoryIndex],
+                snapshot.getStoreCounts()[cell],
+                snapshot.getFloatingPopulations()[cell],
+                snapshot.getPopulationPerStores()[cell],
+                snapshot.gradeAt(cell)
+        );
+    }
+
+    private record Cursor(int[] sorted, boolean ascending, int position) {
+
+        static Cursor first(int[] sorted, boolean ascending) {
+            return sorted.length > 0 ? new Cursor(sorted, ascending, 0) : null;
+        }
+
+        int cell() {
+            return sorted[ascending ? sorted.length - 1 - position : position];
+        }
+
+        Cursor next() {
+            return position + 1 < sorted.length ? new Cursor(sorted, ascending, position + 1) : null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.back.domain.market.ranking;
+
+import com.back.domain.market.snapshot.MarketSnapshot;
+
+// 순위 기준 지표
+public enum RankingMetric {
+    POPULATION_PER_STORE,
+    STORE_COUNT,
+    FLOATING_POPULATION;
+
+    public double valueAt(MarketSnapshot snapshot, int cell) {
+        return switch (this) {
+            case POPULATION_PER_STORE -> snapshot.getPopulationPerStores()[cell];
+            case STORE_COUNT -> snapshot.getStoreCounts()[cell];
+            case FLOATING_POPULATION -> snapshot.getFloatingPopulations()[cell];
+        };
+    }
+}
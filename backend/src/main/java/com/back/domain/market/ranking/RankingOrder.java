@@ -0,0 +1,7 @@
+package com.back.domain.market.ranking;
+
+// 순위 정렬 방향
+public enum RankingOrder {
+    DESC, // 큰 값 순
+    ASC   // 작은 값 순 (예: 점포당 유동인구가 가장 낮은 과밀 지역)
+}
@@ -0,0 +1,95 @@
+package com.back.domain.market.reactive;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.mapper.MarketDetailMapper;
+import com.back.domain.market.reactive.ReactiveMarketStatsRepository.CategoryRow;
+import com.back.domain.market.snapshot.MarketDataVersion;
+import com.back.domain.market.snapshot.MarketDataVersionTracker;
+import com.back.domain.market.snapshot.MarketSnapshot;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MarketAnalysisService의 읽기 API를 논블로킹으로 옮긴 것 (reactive 프로필).
+ * 조회 순서는 같다: 메모리 스냅샷 → Redis → DB. 스냅샷/Redis 적중은 이벤트 루프 스레드에서 끝나고,
+ * 미스일 때만 R2DBC로 읽어 Redis에 다시 채운다 (서블릿 노드와 같은 캐시 키).
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMarketAnalysisService {
+
+    private final ReactiveMarketStatsRepository reactiveMarketStatsRepository;
+    private final ReactiveMarketCache reactiveMarketCache;
+    private final MarketSnapshotEngine marketSnapshotEngine;
+    private final MarketDataVersionTracker marketDataVersionTracker;
+    private final MarketDetailMapper marketDetailMapper;
+
+    public Mono<MarketDetailResponse> getAnalysis(String admCode, Long categoryId) {
+        if (marketSnapshotEngine.isReady()) {
+            return Mono.justOrEmpty(marketSnapshotEngine.findAnalysis(admCode, categoryId))
+                    .switchIfEmpty(Mono.error(MarketAnalysisNotFoundException::new));
+        }
+        String key = admCode + "_" + categoryId;
+        return reactiveMarketCache.get("marketAnalysis", key)
+                .cast(MarketDetailResponse.class)
+                .switchIfEmpty(Mono.defer(() -> latestStatsDate()
+                        .flatMap(statsDate -> reactiveMarketStatsRepository.findDetailRow(admCode, categoryId, statsDate))
+                        .map(marketDetailMapper::toDetailResponse)
+                        .flatMap(response -> reactiveMarketCache.put("marketAnalysis", key, response))))
+                .switchIfEmpty(Mono.error(MarketAnalysisNotFoundException::new));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Mono<List<MarketMapResponse>> getMapInfo(String province, Long categoryId) {
+        if (marketSnapshotEngine.isReady()) {
+            return Mono.just(marketSnapshotEngine.findMapInfo(province, categoryId))
+                    .filter(mapInfo -> !mapInfo.isEmpty())
+                    .switchIfEmpty(Mono.error(MarketAnalysisNotFoundException::new));
+        }
+        String key = province + "_" + categoryId;
+        return reactiveMarketCache.get("marketMap", key)
+                .map(cached -> (List<MarketMapResponse>) cached)
+                .switchIfEmpty(Mono.defer(() -> latestStatsDate()
+                        .flatMap(statsDate -> reactiveMarketStatsRepository.findMapResponses(province, categoryId, statsDate)
+                                .collectList())
+                        .filter(mapInfo -> !mapInfo.isEmpty())
+                        .flatMap(mapInfo -> reactiveMarketCache.put("marketMap", key, mapInfo))))
+                .switchIfEmpty(Mono.error(MarketAnalysisNotFoundException::new));
+    }
+
+    /**
+     * 업종 목록은 스냅샷에도 있으므로 스냅샷 → Redis(엔티티 목록) → DB 순으로 읽는다.
+     * DB에서 읽은 행은 엔티티가 아니어서 서블릿 노드가 읽는 캐시에는 쓰지 않는다.
+     */
+    public Mono<List<CategoryRow>> getAllCategories() {
+        MarketSnapshot snapshot = marketSnapshotEngine.snapshot().orElse(null);
+        if (snapshot != null) {
+            List<CategoryRow> categories = new ArrayList<>(snapshot.categoryCount());
+            for (int i = 0; i < snapshot.categoryCount(); i++) {
+                categories.add(new CategoryRow(snapshot.getCategoryIds()[i], snapshot.getCategoryNames()[i]));
+            }
+            return Mono.just(categories);
+        }
+        return reactiveMarketCache.get("categories", "all")
+                .map(cached -> ((List<?>) cached).stream()
+                        .map(category -> CategoryRow.from((Category) category))
+                        .toList())
+                .switchIfEmpty(Mono.defer(() -> reactiveMarketStatsRepository.findAllCategories().collectList()));
+    }
+
+    // 현재 서비스 중인 적재일 (버전 확인은 서블릿 경로와 같은 MarketDataVersionTracker가 주기적으로 한다)
+    private Mono<LocalDate> latestStatsDate() {
+        return Mono.justOrEmpty(marketDataVersionTracker.current().map(MarketDataVersion::statsDate));
+    }
+}
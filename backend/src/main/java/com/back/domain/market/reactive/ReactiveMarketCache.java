@@ -0,0 +1,40 @@
+package com.back.domain.market.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 서블릿 경로의 Redis 캐시(RedisCacheManager)를 Lettuce reactive 명령으로 직접 읽고 쓴다.
+ * 키("cacheName::key"), 값 직렬화기, TTL이 RedisConfig와 같으므로 두 경로가 같은 캐시 항목을 공유한다.
+ * 로컬(Caffeine) 계층은 거치지 않는다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMarketCache {
+
+    private static final Duration TTL = Duration.ofHours(1);
+
+    private final ReactiveRedisTemplate<String, Object> reactiveCacheRedisTemplate;
+
+    public ReactiveMarketCache(ReactiveRedisTemplate<String, Object> reactiveCacheRedisTemplate) {
+        this.reactiveCacheRedisTemplate = reactiveCacheRedisTemplate;
+    }
+
+    // 없으면 empty
+    public Mono<Object> get(String cacheName, String key) {
+        return reactiveCacheRedisTemplate.opsForValue().get(redisKey(cacheName, key));
+    }
+
+    public <T> Mono<T> put(String cacheName, String key, T value) {
+        return reactiveCacheRedisTemplate.opsForValue().set(redisKey(cacheName, key), value, TTL)
+                .thenReturn(value);
+    }
+
+    private static String redisKey(String cacheName, String key) {
+        return cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,105 @@
+package com.back.domain.market.reactive;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.market.dto.MarketDetailRow;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.entity.MarketGrade;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * MarketStatsRepositoryImpl(QueryDSL/JPA) 조회 중 읽기 API에 필요한 것만 R2DBC로 옮긴 것.
+ * 같은 인덱스를 타도록 조건(적재일 하루 범위)은 그대로 두고, 결과는 projection 행으로만 읽는다.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMarketStatsRepository {
+
+    private static final String DETAIL_SQL = """
+            SELECT ms.stats_id, r.adm_code, c.category_id, r.province, r.district, r.town, c.name,
+                   ms.store_count, ms.floating_population, ms.male_population, ms.market_grade, ms.age_group
+            FROM market_stats ms
+            JOIN regions r ON r.region_id = ms.region_id
+            JOIN categories c ON c.category_id = ms.category_id
+            WHERE r.adm_code = :admCode AND c.category_id = :categoryId
+              AND ms.created_at >= :dayStart AND ms.created_at < :nextDayStart
+            """;
+
+    private static final String MAP_SQL = """
+            SELECT r.adm_code, r.district, ms.store_count, ms.market_grade
+            FROM market_stats ms
+            JOIN regions r ON r.region_id = ms.region_id
+            WHERE r.province = :province AND ms.category_id = :categoryId
+              AND ms.created_at >= :dayStart AND ms.created_at < :nextDayStart
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveMarketStatsRepository(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    public Mono<MarketDetailRow> findDetailRow(String admCode, Long categoryId, LocalDate statsDate) {
+        return databaseClient.sql(DETAIL_SQL)
+                .bind("admCode", admCode)
+                .bind("categoryId", categoryId)
+                .bind("dayStart", statsDate.atStartOfDay())
+                .bind("nextDayStart", statsDate.plusDays(1).atStartOfDay())
+                .map(row -> new MarketDetailRow(
+                        row.get("stats_id", Long.class),
+                        row.get("adm_code", String.class),
+                        row.get("category_id", Long.class),
+                        row.get("province", String.class),
+                        row.get("district", String.class),
+                        row.get("town", String.class),
+                        row.get("name", String.class),
+                        row.get("store_count", Integer.class),
+                        row.get("floating_population", Integer.class),
+                        row.get("male_population", Integer.class),
+                        grade(row),
+                        row.get("age_group", String.class)))
+                .one();
+    }
+
+    public Flux<MarketMapResponse> findMapResponses(String province, Long categoryId, LocalDate statsDate) {
+        return databaseClient.sql(MAP_SQL)
+                .bind("province", province)
+                .bind("categoryId", categoryId)
+                .bind("dayStart", statsDate.atStartOfDay())
+                .bind("nextDayStart", statsDate.plusDays(1).atStartOfDay())
+                .map(row -> new MarketMapResponse(
+                        row.get("adm_code", String.class),
+                        row.get("district", String.class),
+                        row.get("store_count", Integer.class),
+                        grade(row)))
+                .all();
+    }
+
+    // 응답 형식은 Category 엔티티와 같은 {id, name}
+    public Flux<CategoryRow> findAllCategories() {
+        return databaseClient.sql("SELECT category_id, name FROM categories")
+                .map(row -> new CategoryRow(row.get("category_id", Long.class), row.get("name", String.class)))
+                .all();
+    }
+
+    private static MarketGrade grade(Readable row) {
+        return MarketGrade.valueOf(row.get("market_grade", String.class));
+    }
+
+    /**
+     * Category 엔티티 대신 쓰는 읽기 전용 행 (JSON 모양은 같다).
+     * Redis의 categories 캐시에는 엔티티 목록이 들어 있으므로 이 행은 캐시에 쓰지 않는다.
+     */
+    public record CategoryRow(Long id, String name) {
+        static CategoryRow from(Category category) {
+            return new CategoryRow(category.getId(), category.getName());
+        }
+    }
+}
@@ -1,14 +1,45 @@
 package com.back.domain.market.repository;
 
-import com.back.domain.market.entity.MarketStats;
+import com.back.domain.market.dto.MarketDetailRow;
+import com.back.domain.market.dto.MarketExportRow;
+import com.back.domain.market.dto.MarketStatsRow;
+import com.back.domain.market.dto.response.MarketHistoryPoint;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.snapshot.MarketDataVersion;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+/**
+ * market_stats는 하루 단위로 쌓이므로 단건/지도 조회는 항상 적재일(statsDate)을 함께 받는다.
+ */
 public interface MarketStatsRepositoryCustom {
-    Optional<MarketStats> findByAdmCodeAndCategoryId(String admCode, Long categoryId);
+    // 엔티티 대신 응답에 필요한 컬럼만 바로 조회 (dirty checking 스냅샷, 프록시 없음)
+    Optional<MarketDetailRow> findDetailRowByAdmCodeAndCategoryId(String admCode, Long categoryId, LocalDate statsDate);
 
-    List<MarketStats> findAllByProvinceAndCategoryId(String province, Long categoryId);
-    
+    // 여러 (지역, 업종)을 IN 조건 한 번으로 조회 (요청 쌍의 상위 집합을 반환하므로 호출 측에서 걸러낸다)
+    List<MarketDetailRow> findDetailRows(Collection<String> admCodes, Collection<Long> categoryIds, LocalDate statsDate);
+
+    List<MarketMapResponse> findMapResponsesByProvinceAndCategoryId(String province, Long categoryId, LocalDate statsDate);
+
+    // [from, to] 기간의 일별 추이
+    List<MarketHistoryPoint> findHistory(String admCode, Long categoryId, LocalDate from, LocalDate to);
+
+    // 가장 최근 적재 시각 + 수정 시각 (새 데이터 적재, 등급 재계산 여부를 판단하는 기준)
+    Optional<MarketDataVersion> findLatestVersion();
+
+    // [from, to) 구간에 적재된 전체 행 (스냅샷 적재용)
+    List<MarketStatsRow> findAllRowsCreatedBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * [from, to) 구간의 전체 행을 전진 전용 커서로 읽는다 (내보내기용).
+     * fetchSize 단위로 드라이버가 나눠 가져오므로 결과 크기와 무관하게 메모리 사용량이 일정하다.
+     * 트랜잭션 안에서 호출하고, 다 읽은 뒤 반드시 닫아야 한다.
+     */
+    Stream<MarketExportRow> streamExportRows(LocalDateTime from, LocalDateTime to, int fetchSize);
 
 }
@@ -1,47 +1,282 @@
 package com.back.domain.market.repository;
 
-import com.back.domain.market.entity.MarketStats;
+import com.back.domain.market.dto.MarketDetailRow;
+import com.back.domain.market.dto.MarketExportRow;
+import com.back.domain.market.dto.MarketStatsRow;
+import com.back.domain.market.dto.response.MarketHistoryPoint;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.dimension.DimensionDictionary;
+import com.back.domain.market.dimension.Dimensions;
+import com.back.domain.market.snapshot.MarketDataVersion;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.back.global.metrics.QueryMetrics;
+import com.back.global.resilience.CircuitBreaker;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Qualifier;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static com.back.domain.market.entity.QMarketStats.marketStats;
 import static com.back.domain.category.entity.QCategory.category;
 import static com.back.domain.region.entity.QRegion.region;
 
-@RequiredArgsConstructor
 public class MarketStatsRepositoryImpl implements MarketStatsRepositoryCustom {
 
    private final JPAQueryFactory queryFactory;
+   private final QueryMetrics queryMetrics;
+   private final CircuitBreaker circuitBreaker;
+   private final DimensionDictionary dimensionDictionary;
 
+    /**
+     * admCode / province 조건은 차원 사전에서 region_id로 바꿔 market_stats 인덱스(region_id, category_id, created_at)만으로 거른다.
+     * 사전에 없는 코드는 DB에 묻지 않고 빈 결과를 돌려준다.
+     */
+    public MarketStatsRepositoryImpl(JPAQueryFactory queryFactory, MeterRegistry meterRegistry,
+                                     @Qualifier("databaseCircuitBreaker") CircuitBreaker circuitBreaker,
+                                     DimensionDictionary dimensionDictionary) {
+        this.queryFactory = queryFactory;
+        this.queryMetrics = new QueryMetrics(meterRegistry, "marketStats");
+        this.circuitBreaker = circuitBreaker;
+        this.dimensionDictionary = dimensionDictionary;
+    }
+
+
+    @Override
+    public Optional<MarketDetailRow> findDetailRowByAdmCodeAndCategoryId(String admCode, Long categoryId, LocalDate statsDate) {
+        Dimensions dimensions = dimensionDictionary.get();
+        long regionId = dimensions.regionIdOf(admCode);
+        if (regionId < 0 || !dimensions.hasCategory(categoryId)) {
+            return Optional.empty();
+        }
+        return optional("findDetailRowByAdmCodeAndCategoryId", () -> {
+            Tuple result = queryFactory
+                    .select(detailColumns())
+                    .from(marketStats)
+                    .where(
+                            marketStats.region.id.eq(regionId),
+                            marketStats.category.id.eq(categoryId),
+                            createdOn(statsDate)
+                    )
+                    .fetchOne();
+            return Optional.ofNullable(result).map(tuple -> toDetailRow(dimensions, tuple));
+        });
+    }
+
+    @Override
+    public List<MarketDetailRow> findDetailRows(Collection<String> admCodes, Collection<Long> categoryIds, LocalDate statsDate) {
+        Dimensions dimensions = dimensionDictionary.get();
+        List<Long> regionIds = new ArrayList<>(admCodes.size());
+        for (String admCode : admCodes) {
+            long regionId = dimensions.regionIdOf(admCode);
+            if (regionId >= 0) {
+                regionIds.add(regionId);
+            }
+        }
+        if (regionIds.isEmpty()) {
+            return List.of();
+        }
+        return list("findDetailRows", () -> queryFactory
+                .select(detailColumns())
+                .from(marketStats)
+                .where(
+                        marketStats.region.id.in(regionIds),
+                        marketStats.category.id.in(categoryIds),
+                        createdOn(statsDate)
+                )
+                .fetch()
+                .stream()
+                .map(tuple -> toDetailRow(dimensions, tuple))
+                .toList());
+    }
+
+    @Override
+    public List<MarketMapResponse> findMapResponsesByProvinceAndCategoryId(String province, Long categoryId, LocalDate statsDate) {
+        Dimensions dimensions = dimensionDictionary.get();
+        long[] regionIds = dimensions.regionIdsOf(province);
+        if (regionIds.length == 0) {
+            return List.of();
+        }
+        return list("findMapResponsesByProvinceAndCategoryId", () -> queryFactory
+                .select(marketStats.region.id, marketStats.storeCount, marketStats.marketGrade)
+                .from(marketStats)
+                .where(
+                        marketStats.region.id.in(boxed(regionIds)),
+                        marketStats.category.id.eq(categoryId),
+                        createdOn(statsDate)
+                )
+                .fetch()
+                .stream()
+                .map(tuple -> {
+                    int regionIndex = dimensions.regionIndexOfId(tuple.get(marketStats.region.id));
+                    return new MarketMapResponse(
+                            dimensions.admCodeAt(regionIndex),
+                            dimensions.districtAt(regionIndex),
+                            tuple.get(marketStats.storeCount),
+                            tuple.get(marketStats.marketGrade)
+                    );
+                })
+                .toList());
+    }
+
+    @Override
+    public List<MarketHistoryPoint> findHistory(String admCode, Long categoryId, LocalDate from, LocalDate to) {
+        long regionId = dimensionDictionary.get().regionIdOf(admCode);
+        if (regionId < 0) {
+            return List.of();
+        }
+        return list("findHistory", () -> queryFactory
+                .select(Projections.constructor(MarketHistoryPoint.class,
+                        marketStats.createdAt,
+                        marketStats.storeCount,
+                        marketStats.floatingPopulation,
+                        marketStats.populationPerStore,
+                        marketStats.marketGrade
+                ))
+                .from(marketStats)
+                .where(
+                        marketStats.region.id.eq(regionId),
+                        marketStats.category.id.eq(categoryId),
+                        marketStats.createdAt.goe(from.atStartOfDay()),
+                        marketStats.createdAt.lt(to.plusDays(1).atStartOfDay())
+                )
+                .orderBy(marketStats.createdAt.asc())
+                .fetch());
+    }
+
+    @Override
+    public Optional<MarketDataVersion> findLatestVersion() {
+        return optional("findLatestVersion", () -> {
+            Tuple latest = queryFactory
+                    .select(marketStats.createdAt.max(), marketStats.updatedAt.max())
+                    .from(marketStats)
+                    .fetchOne();
+            if (latest == null || latest.get(0, LocalDateTime.class) == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new MarketDataVersion(latest.get(0, LocalDateTime.class), latest.get(1, LocalDateTime.class)));
+        });
+    }
 
     @Override
-    public Optional<MarketStats> findByAdmCodeAndCategoryId(String admCode, Long categoryId) {
-        MarketStats result = queryFactory
-                .selectFrom(marketStats)
-                .join(marketStats.region, region).fetchJoin()
-                .join(marketStats.category, category).fetchJoin()
+    public List<MarketStatsRow> findAllRowsCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return list("findAllRowsCreatedBetween", () -> queryFactory
+                .select(Projections.constructor(MarketStatsRow.class,
+                        marketStats.id,
+                        marketStats.region.id,
+                        marketStats.category.id,
+                        marketStats.storeCount,
+                        marketStats.floatingPopulation,
+                        marketStats.malePopulation,
+                        marketStats.femalePopulation,
+                        marketStats.ageGroup,
+                        marketStats.populationPerStore,
+                        marketStats.marketGrade
+                ))
+                .from(marketStats)
                 .where(
-                        region.admCode.eq(admCode),
-                        category.id.eq(categoryId)
+                        marketStats.createdAt.goe(from),
+                        marketStats.createdAt.lt(to)
                 )
-                .fetchOne();
-        return Optional.ofNullable(result);
+                .fetch());
     }
 
     @Override
-    public List<MarketStats> findAllByProvinceAndCategoryId(String province, Long categoryId) {
+    public Stream<MarketExportRow> streamExportRows(LocalDateTime from, LocalDateTime to, int fetchSize) {
+        // 스트림은 호출 측에서 소비하므로 쿼리 시간/행 수 지표(QueryMetrics)는 남기지 않는다
         return queryFactory
-                .selectFrom(marketStats)
-                .join(marketStats.region, region).fetchJoin()
-                .join(marketStats.category, category).fetchJoin()
+                .select(Projections.constructor(MarketExportRow.class,
+                        marketStats.createdAt,
+                        region.id,
+                        region.admCode,
+                        region.province,
+                        region.district,
+                        region.town,
+                        category.id,
+                        category.name,
+                        marketStats.storeCount,
+                        marketStats.floatingPopulation,
+                        marketStats.malePopulation,
+                        marketStats.femalePopulation,
+                        marketStats.ageGroup,
+                        marketStats.populationPerStore,
+                        marketStats.marketGrade
+                ))
+                .from(marketStats)
+                .join(marketStats.region, region)
+                .join(marketStats.category, category)
                 .where(
-                        region.province.eq(province),
-                        category.id.eq(categoryId)
+                        marketStats.createdAt.goe(from),
+                        marketStats.createdAt.lt(to)
                 )
-                .fetch();
+                .orderBy(marketStats.createdAt.asc(), marketStats.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    // 상세 응답에 필요한 market_stats 컬럼만 (지역/업종 이름은 차원 사전에서 채운다)
+    private static Expression<?>[] detailColumns() {
+        return new Expression<?>[]{
+                marketStats.id,
+                marketStats.region.id,
+                marketStats.category.id,
+                marketStats.storeCount,
+                marketStats.floatingPopulation,
+                marketStats.malePopulation,
+                marketStats.marketGrade,
+                marketStats.ageGroup
+        };
+    }
+
+    private static MarketDetailRow toDetailRow(Dimensions dimensions, Tuple tuple) {
+        int regionIndex = dimensions.regionIndexOfId(tuple.get(marketStats.region.id));
+        Long categoryId = tuple.get(marketStats.category.id);
+        return new MarketDetailRow(
+                tuple.get(marketStats.id),
+                dimensions.admCodeAt(regionIndex),
+                categoryId,
+                dimensions.provinceAt(regionIndex),
+                dimensions.districtAt(regionIndex),
+                dimensions.townAt(regionIndex),
+                dimensions.categoryNameOf(categoryId),
+                tuple.get(marketStats.storeCount),
+                tuple.get(marketStats.floatingPopulation),
+                tuple.get(marketStats.malePopulation),
+                tuple.get(marketStats.marketGrade),
+                tuple.get(marketStats.ageGroup)
+        );
     }
-    
+
+    private static List<Long> boxed(long[] ids) {
+        return Arrays.stream(ids).boxed().toList();
+    }
+
+    // DB가 느려지거나 죽으면 서킷이 열려 커넥션 풀에 줄 서지 않고 바로 CircuitOpenException(503)
+    private <T> List<T> list(String method, Supplier<List<T>> query) {
+        return circuitBreaker.call(() -> queryMetrics.list(method, query));
+    }
+
+    private <T> Optional<T> optional(String method, Supplier<Optional<T>> query) {
+        return circuitBreaker.call(() -> queryMetrics.optional(method, query));
+    }
+
+    // 적재일 하루 범위 조건 (created_at 인덱스 범위 스캔)
+    private BooleanExpression createdOn(LocalDate statsDate) {
+        return marketStats.createdAt.goe(statsDate.atStartOfDay())
+                .and(marketStats.createdAt.lt(statsDate.plusDays(1).atStartOfDay()));
+    }
+
 }
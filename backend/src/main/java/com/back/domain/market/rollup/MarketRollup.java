@@ -0,0 +1,124 @@
+package com.back.domain.market.rollup;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.grade.PopulationPerStore;
+import com.back.domain.market.snapshot.MarketSnapshot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스냅샷 하나에 대한 시·군·구 / 시·도 단위 집계 (업종별).
+ * 집계 셀 위치는 (그룹 인덱스 * 업종 수 + 업종 인덱스)로 스냅샷과 같은 방식이다.
+ * 스냅샷의 셀을 한 번 훑어 만들므로 비용은 O(지역 수 x 업종 수)이고 적재(스냅샷 교체)마다 다시 만든다.
+ */
+public final class MarketRollup {
+
+    private static final int GRADE_COUNT = MarketGrade.values().length;
+
+    private final int categoryCount;
+    private final Level province;
+    private final Level district;
+
+    private MarketRollup(int categoryCount, Level province, Level district) {
+        this.categoryCount = categoryCount;
+        this.province = province;
+        this.district = district;
+    }
+
+    public static MarketRollup build(MarketSnapshot snapshot) {
+        int regionCount = snapshot.regionCount();
+        int categoryCount = snapshot.categoryCount();
+
+        Map<String, Integer> provinceIndex = new LinkedHashMap<>();
+        Map<String, Integer> districtIndex = new LinkedHashMap<>();
+        List<String[]> districtNames = new ArrayList<>();
+        int[] provinceOfRegion = new int[regionCount];
+        int[] districtOfRegion = new int[regionCount];
+
+        for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+            String provinceName = snapshot.getProvinces()[regionIndex];
+            String districtName = snapshot.getDistricts()[regionIndex];
+            provinceOfRegion[regionIndex] = provinceIndex.computeIfAbsent(provinceName, p -> provinceIndex.size());
+            // 구 이름은 시·도마다 겹칠 수 있으므로(예: 중구) 시·도와 묶어 구분한다
+            districtOfRegion[regionIndex] = districtIndex.computeIfAbsent(provinceName + "\u0000" + districtName, key -> {
+                districtNames.add(new String[]{provinceName, districtName});
+                return districtIndex.size();
+            });
+        }
+
+        List<String[]> provinceNames = provinceIndex.keySet().stream().map(p -> new String[]{p, null}).toList();
+        Level province = new Level(provinceNames, categoryCount);
+        Level district = new Level(districtNames, categoryCount);
+
+        for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+            for (int categoryIndex = 0; categoryIndex < categoryCount; categoryIndex++) {
+                int cell = snapshot.cellOf(regionIndex, categoryIndex);
+                if (!snapshot.hasCell(cell)) {
+                    continue;
+                }
+                province.add(provinceOfRegion[regionIndex] * categoryCount + categoryIndex, snapshot, cell);
+                district.add(districtOfRegion[regionIndex] * categoryCount + categoryIndex, snapshot, cell);
+            }
+        }
+        return new MarketRollup(categoryCount, province, district);
+    }
+
+    Level level(RollupLevel level) {
+        return level == RollupLevel.PROVINCE ? province : district;
+    }
+
+    int categoryCount() {
+        return categoryCount;
+    }
+
+    /**
+     * 한 단계(시·도 또는 시·군·구)의 집계 컬럼.
+     * names[g] = {시·도, 시·군·구(시·도 단계는 null)}
+     */
+    static final class Level {
+
+        final List<String[]> names;
+        final int[] regionCounts;
+        final long[] storeCounts;
+        final long[] floatingPopulations;
+        final long[] malePopulations;
+        final long[] femalePopulations;
+        final int[] gradeCounts; // [집계 셀 * 등급 수 + 등급 ordinal]
+
+        private Level(List<String[]> names, int categoryCount) {
+            int cells = names.size() * categoryCount;
+            this.names = names;
+            this.regionCounts = new int[cells];
+            this.storeCounts = new long[cells];
+            this.floatingPopulations = new long[cells];
+            this.malePopulations = new long[cells];
+            this.femalePopulations = new long[cells];
+            this.gradeCounts = new int[cells * GRADE_COUNT];
+        }
+
+        private void add(int rollupCell, MarketSnapshot snapshot, int cell) {
+            regionCounts[rollupCell]++;
+            storeCounts[rollupCell] += snapshot.getStoreCounts()[cell];
+            floatingPopulations[rollupCell] += snapshot.getFloatingPopulations()[cell];
+            malePopulations[rollupCell] += snapshot.getMalePopulations()[cell];
+            femalePopulations[rollupCell] += snapshot.getFemalePopulations()[cell];
+            gradeCounts[rollupCell * GRADE_COUNT + snapshot.getGradeOrdinals()[cell]]++;
+        }
+
+        int groupCount() {
+            return names.size();
+        }
+
+        // 점포 수 가중 점포당 유동인구 (= 유동인구 합 / 점포 수 합)
+        double populationPerStore(int rollupCell) {
+            return PopulationPerStore.of(floatingPopulations[rollupCell], storeCounts[rollupCell]);
+        }
+
+        int gradeCount(int rollupCell, MarketGrade grade) {
+            return gradeCounts[rollupCell * GRADE_COUNT + grade.ordinal()];
+        }
+    }
+}
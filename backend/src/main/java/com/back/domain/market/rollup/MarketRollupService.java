@@ -0,0 +1,86 @@
+package com.back.domain.market.rollup;
+
+import com.back.domain.market.dto.response.MarketRollupResponse;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.snapshot.MarketDataChangedEvent;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import com.back.domain.market.snapshot.SnapshotDerived;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지도를 축소했을 때 쓰는 시·군·구 / 시·도 단위 집계를 제공한다.
+ * 집계는 스냅샷 교체 시 함께 다시 만들고, 조회는 미리 계산된 값만 읽는다.
+ */
+@Service
+public class MarketRollupService {
+
+    private static final MarketGrade[] GRADES = MarketGrade.values();
+
+    private final SnapshotDerived<MarketRollup> rollup;
+
+    public MarketRollupService(MarketSnapshotEngine marketSnapshotEngine) {
+        this.rollup = new SnapshotDerived<>("상권 집계", marketSnapshotEngine, MarketRollup::build);
+    }
+
+    @Order(1)
+    @EventListener
+    public void onMarketDataChanged(MarketDataChangedEvent event) {
+        rollup.refresh();
+    }
+
+    /**
+     * @param province 시·군·구 단계에서만 사용 (없으면 전국 시·군·구)
+     */
+    public MarketRollupResponse getRollup(RollupLevel level, String province, Long categoryId) {
+        SnapshotDerived.Entry<MarketRollup> rolled = rollup.get();
+        int categoryIndex = rolled.snapshot().categoryIndexOf(categoryId);
+        if (categoryIndex < 0) {
+            throw new MarketAnalysisNotFoundException();
+        }
+
+        MarketRollup.Level rollupLevel = rolled.value().level(level);
+        int categoryCount = rolled.value().categoryCount();
+        List<MarketRollupResponse.Item> items = new ArrayList<>();
+        for (int group = 0; group < rollupLevel.groupCount(); group++) {
+            String[] names = rollupLevel.names.get(group);
+            if (level == RollupLevel.DISTRICT && province != null && !province.equals(names[0])) {
+                continue;
+            }
+            int cell = group * categoryCount + categoryIndex;
+            if (rollupLevel.regionCounts[cell] == 0) {
+                continue;
+            }
+            items.add(toItem(rollupLevel, names, cell));
+        }
+        if (items.isEmpty()) {
+            throw new MarketAnalysisNotFoundException();
+        }
+        return new MarketRollupResponse(level, categoryId, items);
+    }
+
+    private static MarketRollupResponse.Item toItem(MarketRollup.Level level, String[] names, int cell) {
+        Map<MarketGrade, Integer> gradeCounts = new EnumMap<>(MarketGrade.class);
+        for (MarketGrade grade : GRADES) {
+            gradeCounts.put(grade, level.gradeCount(cell, grade));
+        }
+        return new MarketRollupResponse.Item(
+                names[0],
+                names[1],
+                level.regionCounts[cell],
+                level.storeCounts[cell],
+                level.floatingPopulations[cell],
+                level.malePopulations[cell],
+                level.femalePopulations[cell],
+                level.populationPerStore(cell),
+                gradeCounts
+        );
+    }
+}
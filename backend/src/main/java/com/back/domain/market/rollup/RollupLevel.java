@@ -0,0 +1,6 @@
+package com.back.domain.market.rollup;
+
+public enum RollupLevel {
+    PROVINCE, // 시·도
+    DISTRICT  // 시·군·구
+}
@@ -2,20 +2,38 @@ package com.back.domain.market.service;
 
 import com.back.domain.category.entity.Category;
 import com.back.domain.category.repository.CategoryRepository;
+import com.back.domain.market.dto.MarketDetailRow;
+import com.back.domain.market.dto.request.MarketBatchRequest;
+import com.back.domain.market.dto.response.MarketBatchResponse;
 import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.dto.response.MarketHistoryResponse;
 import com.back.domain.market.dto.response.MarketMapResponse;
-import com.back.domain.market.entity.MarketStats;
+import com.back.domain.market.error.exception.InvalidHistoryPeriodException;
 import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
 
 import com.back.domain.market.mapper.MarketDetailMapper;
 import com.back.domain.market.repository.MarketStatsRepository;
+import com.back.domain.market.snapshot.MarketDataVersion;
+import com.back.domain.market.snapshot.MarketDataVersionTracker;
+import com.back.domain.market.snapshot.MarketSnapshot;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import com.back.global.cache.TwoTierCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,13 +43,29 @@ public class MarketAnalysisService {
   private final MarketStatsRepository marketStatsRepository;
   private final CategoryRepository categoryRepository;
   private final MarketDetailMapper marketDetailMapper;
+  private final MarketSnapshotEngine marketSnapshotEngine;
+  private final MarketDataVersionTracker marketDataVersionTracker;
+  private final CacheManager cacheManager;
 
-  // 상권 상세 분석
-  @Cacheable(value = "marketAnalysis", key = "#admCode + '_' + #categoryId")
+  private static final int MAX_HISTORY_DAYS = 366;
+
+  /**
+   * 상권 상세 분석
+   * 스냅샷이 준비되어 있으면 캐시(condition=false)와 DB를 모두 건너뛰고 메모리에서 바로 응답한다.
+   * SUPPORTS: 스냅샷 경로에서는 트랜잭션(커넥션 획득)을 시작하지 않는다.
+   */
+  @Cacheable(value = "marketAnalysis", key = "#admCode + '_' + #categoryId", sync = true,
+          condition = "!@marketSnapshotEngine.ready")
+  @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
   public MarketDetailResponse getAnalysis(String admCode, Long categoryId) {
-    MarketStats stats = marketStatsRepository.findByAdmCodeAndCategoryId(admCode,categoryId)
+    if (marketSnapshotEngine.isReady()) {
+      return marketSnapshotEngine.findAnalysis(admCode, categoryId)
+              .orElseThrow(MarketAnalysisNotFoundException::new);
+    }
+
+    MarketDetailRow row = marketStatsRepository.findDetailRowByAdmCodeAndCategoryId(admCode, categoryId, latestStatsDate())
             .orElseThrow(MarketAnalysisNotFoundException::new);
-    return marketDetailMapper.toDetailResponse(stats);
+    return marketDetailMapper.toDetailResponse(row);
   }
 
 
@@ -39,17 +73,78 @@ public class MarketAnalysisService {
    * 지도 시각화용 데이터 조회 (Key: province + categoryId)
    * 특정 광역자치단체(province) 내의 모든 구/군별 통계 데이터를 반환.
    * 데이터 양이 많아(List) DB 부하가 큰 작업이므로 캐싱 효과가 큼
+   * sync = true: 만료 직후 동시 요청이 몰려도 키당 한 번만 DB를 조회 (TwoTierCache 참고)
+   * 스냅샷이 준비되어 있으면 getAnalysis와 마찬가지로 메모리에서 바로 응답한다.
    */
-  @Cacheable(value = "marketMap", key = "#province + '_' + #categoryId")
+  @Cacheable(value = "marketMap", key = "#province + '_' + #categoryId", sync = true,
+          condition = "!@marketSnapshotEngine.ready")
+  @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
   public List<MarketMapResponse> getMapInfo(String province, Long categoryId) {
-    List<MarketStats> statsList = marketStatsRepository.findAllByProvinceAndCategoryId(province, categoryId);
-    if (statsList.isEmpty()) {
+    if (marketSnapshotEngine.isReady()) {
+      List<MarketMapResponse> mapInfo = marketSnapshotEngine.findMapInfo(province, categoryId);
+      if (mapInfo.isEmpty()) {
+        throw new MarketAnalysisNotFoundException();
+      }
+      return mapInfo;
+    }
+
+    List<MarketMapResponse> mapInfo = marketStatsRepository.findMapResponsesByProvinceAndCategoryId(province, categoryId, latestStatsDate());
+    if (mapInfo.isEmpty()) {
       throw new MarketAnalysisNotFoundException();
     }
+    return mapInfo;
+  }
 
-    return statsList.stream()
-            .map(MarketMapResponse::from)
-            .collect(Collectors.toList());
+  /**
+   * 여러 (지역, 업종) 상세 분석을 한 번에 조회
+   * 스냅샷 → 캐시(local + Redis MGET 한 번) → DB(IN 조회 한 번) 순으로 채우고, DB에서 읽은 값은 캐시에 넣는다.
+   * 캐시 키는 getAnalysis와 같으므로 단건 조회와 캐시를 공유한다.
+   */
+  @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+  public MarketBatchResponse getAnalyses(List<MarketBatchRequest.Item> items) {
+    Map<String, MarketDetailResponse> found = new HashMap<>();
+    Set<String> missingKeys = new LinkedHashSet<>();
+    for (MarketBatchRequest.Item item : items) {
+      missingKeys.add(analysisKey(item.admCode(), item.categoryId()));
+    }
+
+    if (marketSnapshotEngine.isReady()) {
+      for (MarketBatchRequest.Item item : items) {
+        marketSnapshotEngine.findAnalysis(item.admCode(), item.categoryId())
+                .ifPresent(response -> found.put(analysisKey(item.admCode(), item.categoryId()), response));
+      }
+      return toBatchResponse(items, found);
+    }
+
+    Cache cache = cacheManager.getCache("marketAnalysis");
+    if (cache instanceof TwoTierCache twoTierCache) {
+      twoTierCache.getAll(new ArrayList<>(missingKeys))
+              .forEach((key, value) -> found.put((String) key, (MarketDetailResponse) value));
+    }
+    missingKeys.removeAll(found.keySet());
+
+    if (!missingKeys.isEmpty()) {
+      Set<String> admCodes = new LinkedHashSet<>();
+      Set<Long> categoryIds = new LinkedHashSet<>();
+      for (MarketBatchRequest.Item item : items) {
+        if (missingKeys.contains(analysisKey(item.admCode(), item.categoryId()))) {
+          admCodes.add(item.admCode());
+          categoryIds.add(item.categoryId());
+        }
+      }
+      for (MarketDetailRow row : marketStatsRepository.findDetailRows(admCodes, categoryIds, latestStatsDate())) {
+        String key = analysisKey(row.admCode(), row.categoryId());
+        if (!missingKeys.contains(key)) {
+          continue; // IN 조건의 조합으로 딸려온 행
+        }
+        MarketDetailResponse response = marketDetailMapper.toDetailResponse(row);
+        found.put(key, response);
+        if (cache != null) {
+          cache.put(key, response);
+        }
+      }
+    }
+    return toBatchResponse(items, found);
   }
 
   @Cacheable(value = "categories", key = "'all'")
@@ -57,5 +152,48 @@ public class MarketAnalysisService {
     return categoryRepository.findAll();
   }
 
+  /**
+   * 지역/업종의 일별 추이 조회
+   * 과거 데이터 조회이므로 캐시나 스냅샷을 거치지 않고 (region_id, category_id, created_at) 인덱스 범위로 읽는다.
+   */
+  public MarketHistoryResponse getHistory(String admCode, Long categoryId, LocalDate from, LocalDate to) {
+    if (from.isAfter(to) || from.plusDays(MAX_HISTORY_DAYS).isBefore(to)) {
+      throw new InvalidHistoryPeriodException();
+    }
+    return new MarketHistoryResponse(admCode, categoryId,
+            marketStatsRepository.findHistory(admCode, categoryId, from, to));
+  }
+
+  private static String analysisKey(String admCode, Long categoryId) {
+    return admCode + "_" + categoryId;
+  }
+
+  private static MarketBatchResponse toBatchResponse(List<MarketBatchRequest.Item> items, Map<String, MarketDetailResponse> found) {
+    List<MarketBatchResponse.Item> results = new ArrayList<>(items.size());
+    for (MarketBatchRequest.Item item : items) {
+      results.add(new MarketBatchResponse.Item(item.admCode(), item.categoryId(),
+              found.get(analysisKey(item.admCode(), item.categoryId()))));
+    }
+    return new MarketBatchResponse(results);
+  }
+
+  /**
+   * 현재 응답이 만들어지는 데이터 버전 (응답 ETag / 바이트 캐시 키용)
+   * 스냅샷이 있으면 스냅샷 버전을 써야 교체 도중에도 본문과 버전이 어긋나지 않는다.
+   */
+  @Transactional(propagation = Propagation.SUPPORTS)
+  public Optional<MarketDataVersion> currentVersion() {
+    return marketSnapshotEngine.snapshot()
+            .map(MarketSnapshot::getVersion)
+            .or(marketDataVersionTracker::current);
+  }
+
+  // 현재 서비스 중인 적재일 (ETL이 하루에 한 번씩 쌓으므로 가장 최근 날짜만 조회 대상)
+  private LocalDate latestStatsDate() {
+    return marketDataVersionTracker.current()
+            .map(MarketDataVersion::statsDate)
+            .orElseThrow(MarketAnalysisNotFoundException::new);
+  }
+
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,310 @@
+package com.back.domain.market.simulation;
+
+import com.back.domain.market.dto.request.MarketSimulationRequest;
+import com.back.domain.market.dto.response.MarketSimulationResponse;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidSimulationScenarioException;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.error.exception.SnapshotNotReadyException;
+import com.back.domain.market.grade.GradePolicy;
+import com.back.domain.market.grade.GradePolicyFactory;
+import com.back.domain.market.grade.PopulationPerStore;
+import com.back.domain.market.snapshot.MarketSnapshot;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * "이 동들에 점포가 N개 더 생기면 등급이 어떻게 바뀌나"를 DB에 쓰지 않고 계산한다.
+ * <ol>
+ *   <li>현재 스냅샷에서 해당 업종 열(데이터가 있는 지역만)을 꺼내 시나리오 증감을 적용한다</li>
+ *   <li>점포당 유동인구는 지역별로 병렬 계산하고, 등급은 변경 전/후 열을 같은 GradePolicy로 동시에 매긴다</li>
+ *   <li>값이나 등급이 바뀐 지역과, 그 지역이 속한 시·군·구 / 시·도 집계의 전후를 돌려준다</li>
+ * </ol>
+ * 변경 전 값도 같은 정책으로 다시 매기므로 차이는 시나리오 효과만 나타낸다.
+ * 상대 등급(PERCENTILE)은 업종 전체 순위가 기준이라 적용 지역 밖의 등급도 바뀔 수 있고, 그 지역도 결과에 포함된다.
+ * 한 업종 열(지역 수 수천 건)만 다루므로 시·도 전체 시나리오도 수 ms 안에 끝난다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MarketSimulationService {
+
+    private static final MarketGrade[] GRADES = MarketGrade.values();
+
+    private final MarketSnapshotEngine marketSnapshotEngine;
+    private final GradePolicyFactory gradePolicyFactory;
+
+    public MarketSimulationResponse simulate(MarketSimulationRequest request) {
+        long start = System.nanoTime();
+        MarketSnapshot snapshot = marketSnapshotEngine.snapshot().orElseThrow(SnapshotNotReadyException::new);
+        int categoryIndex = snapshot.categoryIndexOf(request.categoryId());
+        if (categoryIndex < 0) {
+            throw new MarketAnalysisNotFoundException();
+        }
+        GradePolicy policy = gradePolicyFactory.create(request.policy());
+
+        Column column = Column.of(snapshot, categoryIndex);
+        Scenario scenario = new Scenario(column.size());
+        List<String> unmatched = new ArrayList<>();
+        for (MarketSimulationRequest.Change change : request.changes()) {
+            if (!scenario.apply(change, targetsOf(snapshot, change), column)) {
+                unmatched.add(change.admCode() != null ? change.admCode() : change.province());
+            }
+        }
+        if (scenario.touchedCount() == 0) {
+            throw new MarketAnalysisNotFoundException();
+        }
+
+        Result result = compute(snapshot, column, scenario, policy, request.categoryId());
+
+        List<MarketSimulationResponse.RegionDiff> regions = new ArrayList<>();
+        Map<String, Accumulator> districts = new LinkedHashMap<>();
+        Map<String, Accumulator> provinces = new LinkedHashMap<>();
+        int changedGrades = 0;
+        for (int p = 0; p < column.size(); p++) {
+            boolean gradeChanged = result.beforeGrades[p] != result.afterGrades[p];
+            if (gradeChanged) {
+                changedGrades++;
+            }
+            if (!gradeChanged && !scenario.touched[p]) {
+                continue;
+            }
+            int regionIndex = column.regionIndexes[p];
+            regions.add(new MarketSimulationResponse.RegionDiff(
+                    snapshot.getAdmCodes()[regionIndex],
+                    snapshot.regionNameOf(regionIndex),
+                    result.before(p),
+                    result.after(p)
+            ));
+            String province = snapshot.getProvinces()[regionIndex];
+            String district = snapshot.getDistricts()[regionIndex];
+            // 구 이름은 시·도마다 겹칠 수 있으므로(예: 중구) 시·도와 묶어 구분한다 (MarketRollup과 같은 키)
+            districts.computeIfAbsent(province + "\u0000" + district, key -> new Accumulator(province, district));
+            provinces.computeIfAbsent(province, key -> new Accumulator(province, null));
+        }
+
+        // 바뀐 지역이 속한 집계만, 같은 시·군·구 / 시·도의 모든 지역을 더해 전후를 만든다
+        for (int p = 0; p < column.size(); p++) {
+            int regionIndex = column.regionIndexes[p];
+            String province = snapshot.getProvinces()[regionIndex];
+            Accumulator districtTotals = districts.get(province + "\u0000" + snapshot.getDistricts()[regionIndex]);
+            if (districtTotals != null) {
+                districtTotals.add(result, p);
+            }
+            Accumulator provinceTotals = provinces.get(province);
+            if (provinceTotals != null) {
+                provinceTotals.add(result, p);
+            }
+        }
+
+        return new MarketSimulationResponse(
+                request.categoryId(),
+                snapshot.getCategoryNames()[categoryIndex],
+                policy.name(),
+                scenario.touchedCount(),
+                changedGrades,
+                unmatched,
+                regions,
+                districts.values().stream().map(Accumulator::toDiff).toList(),
+                provinces.values().stream().map(Accumulator::toDiff).toList(),
+                (System.nanoTime() - start) / 1_000
+        );
+    }
+
+    private static int[] targetsOf(MarketSnapshot snapshot, MarketSimulationRequest.Change change) {
+        boolean hasAdmCode = change.admCode() != null && !change.admCode().isBlank();
+        boolean hasProvince = change.province() != null && !change.province().isBlank();
+        if (hasAdmCode == hasProvince) {
+            throw new InvalidSimulationScenarioException();
+        }
+        if (hasProvince) {
+            return snapshot.regionIndexesOf(change.province());
+        }
+        int regionIndex = snapshot.regionIndexOf(change.admCode());
+        return regionIndex >= 0 ? new int[]{regionIndex} : new int[0];
+    }
+
+    private static Result compute(MarketSnapshot snapshot, Column column, Scenario scenario, GradePolicy policy, long categoryId) {
+        int size = column.size();
+        Result result = new Result(size);
+        int[] storeCounts = snapshot.getStoreCounts();
+        int[] floatingPopulations = snapshot.getFloatingPopulations();
+
+        IntStream.range(0, size).parallel().forEach(p -> {
+            int cell = column.cells[p];
+            int stores = storeCounts[cell];
+            int population = floatingPopulations[cell];
+            result.beforeStores[p] = stores;
+            result.beforePopulations[p] = population;
+            result.beforePopulationPerStores[p] = PopulationPerStore.of(population, stores);
+
+            int afterStores = (int) Math.min(Math.max(stores + scenario.storeDeltas[p], 0), Integer.MAX_VALUE);
+            long afterPopulation = Math.round(population * scenario.populationFactors[p]) + scenario.populationDeltas[p];
+            result.afterStores[p] = afterStores;
+            result.afterPopulations[p] = (int) Math.min(Math.max(afterPopulation, 0), Integer.MAX_VALUE);
+            result.afterPopulationPerStores[p] = PopulationPerStore.of(result.afterPopulations[p], afterStores);
+        });
+
+        // 한 업종·한 날짜 묶음이므로 정책을 열 전체에 한 번씩 (변경 전 / 후를 동시에)
+        double[][] populationPerStores = {result.beforePopulationPerStores, result.afterPopulationPerStores};
+        byte[][] grades = {result.beforeGrades, result.afterGrades};
+        IntStream.range(0, 2).parallel().forEach(side ->
+                policy.grade(categoryId, populationPerStores[side], grades[side], 0, size));
+        return result;
+    }
+
+    // 스냅샷에서 한 업종의 데이터가 있는 셀만 지역 순서대로 모은 열
+    private record Column(int[] regionIndexes, int[] cells, int[] positionOfRegion) {
+
+        static Column of(MarketSnapshot snapshot, int categoryIndex) {
+            int regionCount = snapshot.regionCount();
+            int[] regionIndexes = new int[regionCount];
+            int[] cells = new int[regionCount];
+            int[] positionOfRegion = new int[regionCount];
+            Arrays.fill(positionOfRegion, -1);
+            int size = 0;
+            for (int regionIndex = 0; regionIndex < regionCount; regionIndex++) {
+                int cell = snapshot.cellOf(regionIndex, categoryIndex);
+                if (snapshot.hasCell(cell)) {
+                    regionIndexes[size] = regionIndex;
+                    cells[size] = cell;
+                    positionOfRegion[regionIndex] = size++;
+                }
+            }
+            return new Column(Arrays.copyOf(regionIndexes, size), Arrays.copyOf(cells, size), positionOfRegion);
+        }
+
+        int size() {
+            return cells.length;
+        }
+    }
+
+    // 열 위치별로 합친 시나리오 (같은 지역에 겹친 변경은 증감 합산, 배율 곱)
+    private static final class Scenario {
+
+        final long[] storeDeltas;
+        final long[] populationDeltas;
+        final double[] populationFactors;
+        final boolean[] touched;
+        private int touchedCount;
+
+        Scenario(int size) {
+            this.storeDeltas = new long[size];
+            this.populationDeltas = new long[size];
+            this.populationFactors = new double[size];
+            this.touched = new boolean[size];
+            Arrays.fill(populationFactors, 1.0);
+        }
+
+        // 데이터가 있는 지역에 하나라도 적용되면 true
+        boolean apply(MarketSimulationRequest.Change change, int[] regionIndexes, Column column) {
+            double factor = change.populationFactor() != null ? change.populationFactor() : 1.0;
+            boolean applied = false;
+            for (int regionIndex : regionIndexes) {
+                int p = column.positionOfRegion()[regionIndex];
+                if (p < 0) {
+                    continue;
+                }
+                storeDeltas[p] += change.storeDelta();
+                populationDeltas[p] += change.populationDelta();
+                populationFactors[p] *= factor;
+                if (!touched[p]) {
+                    touched[p] = true;
+                    touchedCount++;
+                }
+                applied = true;
+            }
+            return applied;
+        }
+
+        int touchedCount() {
+            return touchedCount;
+        }
+    }
+
+    // 열 위치별 변경 전 / 후 값
+    private static final class Result {
+
+        final int[] beforeStores;
+        final int[] beforePopulations;
+        final double[] beforePopulationPerStores;
+        final byte[] beforeGrades;
+        final int[] afterStores;
+        final int[] afterPopulations;
+        final double[] afterPopulationPerStores;
+        final byte[] afterGrades;
+
+        Result(int size) {
+            this.beforeStores = new int[size];
+            this.beforePopulations = new int[size];
+            this.beforePopulationPerStores = new double[size];
+            this.beforeGrades = new byte[size];
+            this.afterStores = new int[size];
+            this.afterPopulations = new int[size];
+            this.afterPopulationPerStores = new double[size];
+            this.afterGrades = new byte[size];
+        }
+
+        MarketSimulationResponse.Metrics before(int p) {
+            return new MarketSimulationResponse.Metrics(
+                    beforeStores[p], beforePopulations[p], beforePopulationPerStores[p], GRADES[beforeGrades[p]]);
+        }
+
+        MarketSimulationResponse.Metrics after(int p) {
+            return new MarketSimulationResponse.Metrics(
+                    afterStores[p], afterPopulations[p], afterPopulationPerStores[p], GRADES[afterGrades[p]]);
+        }
+    }
+
+    // 시·군·구 / 시·도 하나의 변경 전 / 후 합계
+    private static final class Accumulator {
+
+        private final String province;
+        private final String district;
+        private long beforeStores;
+        private long beforePopulations;
+        private long afterStores;
+        private long afterPopulations;
+        private final int[] beforeGradeCounts = new int[GRADES.length];
+        private final int[] afterGradeCounts = new int[GRADES.length];
+
+        Accumulator(String province, String district) {
+            this.province = province;
+            this.district = district;
+        }
+
+        void add(Result result, int p) {
+            beforeStores += result.beforeStores[p];
+            beforePopulations += result.beforePopulations[p];
+            afterStores += result.afterStores[p];
+            afterPopulations += result.afterPopulations[p];
+            beforeGradeCounts[result.beforeGrades[p]]++;
+            afterGradeCounts[result.afterGrades[p]]++;
+        }
+
+        MarketSimulationResponse.RollupDiff toDiff() {
+            return new MarketSimulationResponse.RollupDiff(
+                    province,
+                    district,
+                    totals(beforeStores, beforePopulations, beforeGradeCounts),
+                    totals(afterStores, afterPopulations, afterGradeCounts)
+            );
+        }
+
+        private static MarketSimulationResponse.Totals totals(long stores, long populations, int[] gradeCounts) {
+            Map<MarketGrade, Integer> grades = new EnumMap<>(MarketGrade.class);
+            for (MarketGrade grade : GRADES) {
+                grades.put(grade, gradeCounts[grade.ordinal()]);
+            }
+            return new MarketSimulationResponse.Totals(stores, populations, PopulationPerStore.of(populations, stores), grades);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.back.domain.market.snapshot;
+
+// 최신 적재 데이터가 바뀌었을 때 발행 (previous는 최초 적재 시 null)
+public record MarketDataChangedEvent(
+        MarketDataVersion previous,
+        MarketDataVersion current
+) {
+}
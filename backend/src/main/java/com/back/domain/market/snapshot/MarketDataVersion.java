@@ -0,0 +1,31 @@
+package com.back.domain.market.snapshot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 현재 서비스 중인 market_stats 데이터의 버전.
+ * ETL은 하루 단위로 적재하므로 가장 최근 적재 시각(max(created_at))이 속한 날짜를 최신 스냅샷으로 본다.
+ * 등급 재계산처럼 적재 없이 행을 고치는 작업은 revisedAt(max(updated_at))만 바꾼다.
+ */
+public record MarketDataVersion(LocalDateTime updatedAt, LocalDateTime revisedAt) {
+
+    public LocalDate statsDate() {
+        return updatedAt.toLocalDate();
+    }
+
+    public LocalDateTime dayStart() {
+        return statsDate().atStartOfDay();
+    }
+
+    public LocalDateTime nextDayStart() {
+        return statsDate().plusDays(1).atStartOfDay();
+    }
+
+    // 캐시 키, ETag 등에 쓰는 숫자 버전 (적재 또는 수정이 있으면 커진다)
+    public long id() {
+        LocalDateTime latest = (revisedAt != null && revisedAt.isAfter(updatedAt)) ? revisedAt : updatedAt;
+        return latest.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
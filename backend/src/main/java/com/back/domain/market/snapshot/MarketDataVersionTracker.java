@@ -0,0 +1,40 @@
+package com.back.domain.market.snapshot;
+
+import com.back.domain.market.repository.MarketStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ETL이 새 데이터를 썼는지(또는 등급 재계산으로 행이 바뀌었는지) 주기적으로 확인하고, 바뀌면 MarketDataChangedEvent를 발행한다.
+ * 첫 확인은 시작 시 예열(MarketWarmupRunner)에서 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketDataVersionTracker {
+
+    private final MarketStatsRepository marketStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<MarketDataVersion> current = new AtomicReference<>();
+
+    public Optional<MarketDataVersion> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    @Scheduled(fixedDelayString = "${market.data.version-check-interval:PT1M}")
+    public void refresh() {
+        MarketDataVersion latest = marketStatsRepository.findLatestVersion().orElse(null);
+        MarketDataVersion previous = current.getAndSet(latest);
+        if (latest != null && !Objects.equals(previous, latest)) {
+            log.info("상권 데이터 버전 변경: {} -> {}", previous, latest);
+            eventPublisher.publishEvent(new MarketDataChangedEvent(previous, latest));
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.back.domain.market.snapshot;
+
+import com.back.domain.market.entity.MarketGrade;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 하루치 market_stats 전체를 담는 불변 컬럼형 스냅샷.
+ * 셀 위치는 (지역 인덱스 * 업종 수 + 업종 인덱스)이고, 값이 없는 셀은 statsId가 0이다.
+ * 생성 후에는 배열을 수정하지 않으므로 여러 스레드가 잠금 없이 읽는다.
+ */
+@Getter
+public class MarketSnapshot {
+
+    private static final MarketGrade[] GRADES = MarketGrade.values();
+
+    private final MarketDataVersion version;
+
+    // 지역 차원 (인덱스 = regionIds 정렬 순서)
+    private final long[] regionIds;
+    private final String[] admCodes;
+    private final String[] provinces;
+    private final String[] districts;
+    private final String[] towns;
+    // "시·도 시·군·구 동" 표시 이름, 요청마다 이어 붙이지 않도록 미리 만든다
+    private final String[] regionNames;
+    private final Map<String, Integer> regionIndexByAdmCode;
+    private final Map<String, int[]> regionIndexesByProvince;
+
+    // 업종 차원
+    private final long[] categoryIds;
+    private final String[] categoryNames;
+    private final Map<Long, Integer> categoryIndexById;
+
+    // 지표 컬럼 (길이 = 지역 수 * 업종 수)
+    private final long[] statsIds;
+    private final int[] storeCounts;
+    private final int[] floatingPopulations;
+    private final int[] malePopulations;
+    private final int[] femalePopulations;
+    private final double[] populationPerStores;
+    private final byte[] gradeOrdinals;
+    private final String[] ageGroups;
+
+    MarketSnapshot(MarketDataVersion version,
+                   long[] regionIds, String[] admCodes, String[] provinces, String[] districts, String[] towns,
+                   Map<String, Integer> regionIndexByAdmCode, Map<String, int[]> regionIndexesByProvince,
+                   long[] categoryIds, String[] categoryNames, Map<Long, Integer> categoryIndexById,
+                   long[] statsIds, int[] storeCounts, int[] floatingPopulations,
+                   int[] malePopulations, int[] femalePopulations, double[] populationPerStores,
+                   byte[] gradeOrdinals, String[] ageGroups) {
+        this.version = version;
+        this.regionIds = regionIds;
+        this.admCodes = admCodes;
+        this.provinces = provinces;
+        this.districts = districts;
+        this.towns = towns;
+        this.regionNames = new String[regionIds.length];
+        for (int i = 0; i < regionIds.length; i++) {
+            regionNames[i] = provinces[i] + " " + districts[i] + " " + towns[i];
+        }
+        this.regionIndexByAdmCode = regionIndexByAdmCode;
+        this.regionIndexesByProvince = regionIndexesByProvince;
+        this.categoryIds = categoryIds;
+        this.categoryNames = categoryNames;
+        this.categoryIndexById = categoryIndexById;
+        this.statsIds = statsIds;
+        this.storeCounts = storeCounts;
+        this.floatingPopulations = floatingPopulations;
+        this.malePopulations = malePopulations;
+        this.femalePopulations = femalePopulations;
+        this.populationPerStores = populationPerStores;
+        this.gradeOrdinals = gradeOrdinals;
+        this.ageGroups = ageGroups;
+    }
+
+    public int regionCount() {
+        return regionIds.length;
+    }
+
+    public int categoryCount() {
+        return categoryIds.length;
+    }
+
+    // 없으면 -1
+    public int regionIndexOf(String admCode) {
+        Integer index = regionIndexByAdmCode.get(admCode);
+        return index != null ? index : -1;
+    }
+
+    public int categoryIndexOf(Long categoryId) {
+        Integer index = categoryIndexById.get(categoryId);
+        return index != null ? index : -1;
+    }
+
+    public int[] regionIndexesOf(String province) {
+        return regionIndexesByProvince.getOrDefault(province, new int[0]);
+    }
+
+    public int cellOf(int regionIndex, int categoryIndex) {
+        return regionIndex * categoryIds.length + categoryIndex;
+    }
+
+    public boolean hasCell(int cell) {
+        return statsIds[cell] != 0;
+    }
+
+    public MarketGrade gradeAt(int cell) {
+        return GRADES[gradeOrdinals[cell]];
+    }
+
+    public String regionNameOf(int regionIndex) {
+        return regionNames[regionIndex];
+    }
+
+    // 차원 배열에서 조회용 색인(admCode, 시·도, 업종 id -> 인덱스)을 만들어 생성 (DB 적재, 스냅샷 파일 복원 공용)
+    static MarketSnapshot of(MarketDataVersion version,
+                             long[] regionIds, String[] admCodes, String[] provinces, String[] districts, String[] towns,
+                             long[] categoryIds, String[] categoryNames,
+                             long[] statsIds, int[] storeCounts, int[] floatingPopulations,
+                             int[] malePopulations, int[] femalePopulations, double[] populationPerStores,
+                             byte[] gradeOrdinals, String[] ageGroups) {
+        Map<String, Integer> regionIndexByAdmCode = new HashMap<>();
+        Map<String, List<Integer>> provinceRegions = new LinkedHashMap<>();
+        for (int i = 0; i < regionIds.length; i++) {
+            if (admCodes[i] != null) {
+                regionIndexByAdmCode.put(admCodes[i], i);
+            }
+            provinceRegions.computeIfAbsent(provinces[i], p -> new ArrayList<>()).add(i);
+        }
+        Map<String, int[]> regionIndexesByProvince = new HashMap<>();
+        provinceRegions.forEach((province, indexes) ->
+                regionIndexesByProvince.put(province, indexes.stream().mapToInt(Integer::intValue).toArray()));
+
+        Map<Long, Integer> categoryIndexById = new HashMap<>();
+        for (int i = 0; i < categoryIds.length; i++) {
+            categoryIndexById.put(categoryIds[i], i);
+        }
+
+        return new MarketSnapshot(version,
+                regionIds, admCodes, provinces, districts, towns,
+                regionIndexByAdmCode, regionIndexesByProvince,
+                categoryIds, categoryNames, categoryIndexById,
+                statsIds, storeCounts, floatingPopulations, malePopulations, femalePopulations,
+                populationPerStores, gradeOrdinals, ageGroups);
+    }
+
+    public int populatedCellCount() {
+        int count = 0;
+        for (long statsId : statsIds) {
+            if (statsId != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 대략적인 메모리 사용량 (배열 본문 + 참조 + 문자열 내용).
+     * 정확한 값이 아니라 스냅샷 크기 추이를 보기 위한 지표.
+     */
+    public long estimatedBytes() {
+        long cells = statsIds.length;
+        long bytes = cells * (Long.BYTES + Integer.BYTES * 4L + Double.BYTES + Byte.BYTES + 4L);
+        bytes += (long) regionIds.length * (Long.BYTES + 4L * 4);
+        bytes += (long) categoryIds.length * (Long.BYTES + 4L);
+        bytes += stringBytes(admCodes) + stringBytes(provinces) + stringBytes(districts)
+                + stringBytes(towns) + stringBytes(regionNames) + stringBytes(categoryNames) + stringBytes(ageGroups);
+        return bytes;
+    }
+
+    private static long stringBytes(String[] values) {
+        long bytes = 0;
+        for (String value : values) {
+            if (value != null) {
+                bytes += 40L + value.length() * 2L;
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,161 @@
+package com.back.domain.market.snapshot;
+
+import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.mapper.MarketDetailMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 최신 하루치 데이터를 메모리 스냅샷으로 들고 있다가 조회를 DB/Redis 없이 처리한다.
+ * 새 데이터가 감지되면 새 스냅샷을 만든 뒤 참조만 교체하므로, 조회 중인 요청은 이전 스냅샷을 끝까지 본다.
+ */
+@Slf4j
+@Component
+public class MarketSnapshotEngine {
+
+    private final MarketSnapshotLoader snapshotLoader;
+    private final MarketDetailMapper marketDetailMapper;
+    private final MarketSnapshotFile snapshotFile;
+    private final boolean enabled;
+    private final AtomicReference<MarketSnapshot> current = new AtomicReference<>();
+    private final Timer refreshTimer;
+
+    public MarketSnapshotEngine(MarketSnapshotLoader snapshotLoader,
+                                MarketDetailMapper marketDetailMapper,
+                                MarketSnapshotFile snapshotFile,
+                                MeterRegistry meterRegistry,
+                                @Value("${market.snapshot.enabled:true}") boolean enabled) {
+        this.snapshotLoader = snapshotLoader;
+        this.marketDetailMapper = marketDetailMapper;
+        this.snapshotFile = snapshotFile;
+        this.enabled = enabled;
+        this.refreshTimer = Timer.builder("market.snapshot.refresh")
+                .description("스냅샷 적재부터 교체까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("market.snapshot.memory", this, engine -> engine.snapshot().map(MarketSnapshot::estimatedBytes).orElse(0L))
+                .description("스냅샷 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("market.snapshot.cells", this, engine -> engine.snapshot().map(MarketSnapshot::populatedCellCount).orElse(0))
+                .description("스냅샷에 적재된 지역 x 업종 셀 수")
+                .register(meterRegistry);
+    }
+
+    // SpEL(@Cacheable condition)에서 @marketSnapshotEngine.ready 로 참조
+    public boolean isReady() {
+        return current.get() != null;
+    }
+
+    public Optional<MarketSnapshot> snapshot() {
+        return Optional.ofNullable(current.get());
+    }
+
+    // 캐시 초기화(MarketCacheEvictor)보다 먼저 교체되어야 비운 캐시가 이전 데이터로 다시 채워지지 않는다
+    @Order(0)
+    @EventListener
+    public void onMarketDataChanged(MarketDataChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        refresh(event.current());
+    }
+
+    public void refresh(MarketDataVersion version) {
+        MarketSnapshot previous = current.get();
+        if (previous != null && previous.getVersion().equals(version)) {
+            return; // 스냅샷 파일에서 이미 같은 버전을 복원한 경우
+        }
+        long start = System.nanoTime();
+        MarketSnapshot snapshot = snapshotLoader.load(version);
+        current.set(snapshot);
+        long elapsedNanos = System.nanoTime() - start;
+        refreshTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        log.info("상권 스냅샷 교체 완료: version={}, cells={}, bytes={}, {}ms",
+                version, snapshot.populatedCellCount(), snapshot.estimatedBytes(), elapsedNanos / 1_000_000);
+        snapshotFile.save(snapshot);
+    }
+
+    /**
+     * 시작 시 이전 실행이 저장한 스냅샷 파일을 올려 둔다.
+     * 이후 버전 확인(MarketDataVersionTracker.refresh)에서 DB 버전과 같으면 DB 적재를 건너뛰고, 다르면 새로 적재해 교체한다.
+     */
+    public boolean restoreFromFile() {
+        if (!enabled || current.get() != null) {
+            return false;
+        }
+        long start = System.currentTimeMillis();
+        return snapshotFile.load()
+                .map(snapshot -> {
+                    current.compareAndSet(null, snapshot);
+                    log.info("상권 스냅샷 파일 복원: version={}, cells={}, {}ms",
+                            snapshot.getVersion(), snapshot.populatedCellCount(), System.currentTimeMillis() - start);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    public Optional<MarketDetailResponse> findAnalysis(String admCode, Long categoryId) {
+        MarketSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        int regionIndex = snapshot.regionIndexOf(admCode);
+        int categoryIndex = snapshot.categoryIndexOf(categoryId);
+        if (regionIndex < 0 || categoryIndex < 0) {
+            return Optional.empty();
+        }
+        int cell = snapshot.cellOf(regionIndex, categoryIndex);
+        if (!snapshot.hasCell(cell)) {
+            return Optional.empty();
+        }
+        return Optional.of(marketDetailMapper.toDetailResponse(
+                snapshot.getStatsIds()[cell],
+                snapshot.regionNameOf(regionIndex),
+                snapshot.getCategoryNames()[categoryIndex],
+                snapshot.getStoreCounts()[cell],
+                snapshot.getFloatingPopulations()[cell],
+                snapshot.getMalePopulations()[cell],
+                snapshot.gradeAt(cell),
+                snapshot.getAgeGroups()[cell]
+        ));
+    }
+
+    public List<MarketMapResponse> findMapInfo(String province, Long categoryId) {
+        MarketSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            return List.of();
+        }
+        int categoryIndex = snapshot.categoryIndexOf(categoryId);
+        if (categoryIndex < 0) {
+            return List.of();
+        }
+        int[] regionIndexes = snapshot.regionIndexesOf(province);
+        List<MarketMapResponse> result = new ArrayList<>(regionIndexes.length);
+        for (int regionIndex : regionIndexes) {
+            int cell = snapshot.cellOf(regionIndex, categoryIndex);
+            if (!snapshot.hasCell(cell)) {
+                continue;
+            }
+            result.add(new MarketMapResponse(
+                    snapshot.getAdmCodes()[regionIndex],
+                    snapshot.getDistricts()[regionIndex],
+                    snapshot.getStoreCounts()[cell],
+                    snapshot.gradeAt(cell)
+            ));
+        }
+        return result;
+    }
+}
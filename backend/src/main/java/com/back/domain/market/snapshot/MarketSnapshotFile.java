@@ -0,0 +1,221 @@
+package com.back.domain.market.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 스냅샷을 로컬 파일로 저장해 두었다가 재시작 시 DB 전체 조회 대신 복원한다.
+ * 컬럼 배열을 그대로 이어 붙인 형식이라 읽을 때는 파일을 메모리 매핑(mmap)해 배열 단위로 복사한다.
+ * 경로(market.snapshot.file-path)가 비어 있으면 사용하지 않는다.
+ */
+@Slf4j
+@Component
+public class MarketSnapshotFile {
+
+    private static final int MAGIC = 0x4D4B5331; // "MKS1"
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path path;
+
+    public MarketSnapshotFile(@Value("${market.snapshot.file-path:}") String filePath) {
+        this.path = filePath.isBlank() ? null : Path.of(filePath);
+    }
+
+    public boolean isEnabled() {
+        return path != null;
+    }
+
+    // 임시 파일에 쓴 뒤 이름을 바꿔, 쓰는 도중 종료되어도 이전 파일이 깨지지 않게 한다
+    public void save(MarketSnapshot snapshot) {
+        if (path == null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            Path dir = path.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024))) {
+                write(out, snapshot);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("상권 스냅샷 파일 저장: {} ({} bytes, {}ms)", path, Files.size(path), System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            log.warn("상권 스냅샷 파일 저장 실패: {}", path, e);
+        }
+    }
+
+    // 파일이 없거나 형식이 다르면 empty (DB에서 적재)
+    public Optional<MarketSnapshot> load() {
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                log.warn("상권 스냅샷 파일 형식이 달라 무시합니다: {}", path);
+                return Optional.empty();
+            }
+            return Optional.of(read(buffer));
+        } catch (IOException | RuntimeException e) {
+            log.warn("상권 스냅샷 파일 읽기 실패: {}", path, e);
+            return Optional.empty();
+        }
+    }
+
+    private static void write(DataOutputStream out, MarketSnapshot snapshot) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        MarketDataVersion version = snapshot.getVersion();
+        writeString(out, version.updatedAt().toString());
+        writeString(out, version.revisedAt() != null ? version.revisedAt().toString() : null);
+
+        out.writeInt(snapshot.regionCount());
+        for (long regionId : snapshot.getRegionIds()) {
+            out.writeLong(regionId);
+        }
+        writeStrings(out, snapshot.getAdmCodes());
+        writeStrings(out, snapshot.getProvinces());
+        writeStrings(out, snapshot.getDistricts());
+        writeStrings(out, snapshot.getTowns());
+
+        out.writeInt(snapshot.categoryCount());
+        for (long categoryId : snapshot.getCategoryIds()) {
+            out.writeLong(categoryId);
+        }
+        writeStrings(out, snapshot.getCategoryNames());
+
+        // 지표 컬럼 (셀 수 = 지역 수 * 업종 수)
+        for (long statsId : snapshot.getStatsIds()) {
+            out.writeLong(statsId);
+        }
+        writeInts(out, snapshot.getStoreCounts());
+        writeInts(out, snapshot.getFloatingPopulations());
+        writeInts(out, snapshot.getMalePopulations());
+        writeInts(out, snapshot.getFemalePopulations());
+        for (double value : snapshot.getPopulationPerStores()) {
+            out.writeDouble(value);
+        }
+        out.write(snapshot.getGradeOrdinals());
+        writeStrings(out, snapshot.getAgeGroups());
+    }
+
+    private static MarketSnapshot read(ByteBuffer buffer) {
+        LocalDateTime updatedAt = LocalDateTime.parse(readString(buffer));
+        String revisedAt = readString(buffer);
+        MarketDataVersion version = new MarketDataVersion(updatedAt, revisedAt != null ? LocalDateTime.parse(revisedAt) : null);
+
+        int regionCount = buffer.getInt();
+        long[] regionIds = readLongs(buffer, regionCount);
+        String[] admCodes = readStrings(buffer, regionCount);
+        String[] provinces = readStrings(buffer, regionCount);
+        String[] districts = readStrings(buffer, regionCount);
+        String[] towns = readStrings(buffer, regionCount);
+
+        int categoryCount = buffer.getInt();
+        long[] categoryIds = readLongs(buffer, categoryCount);
+        String[] categoryNames = readStrings(buffer, categoryCount);
+
+        int cells = regionCount * categoryCount;
+        long[] statsIds = readLongs(buffer, cells);
+        int[] storeCounts = readInts(buffer, cells);
+        int[] floatingPopulations = readInts(buffer, cells);
+        int[] malePopulations = readInts(buffer, cells);
+        int[] femalePopulations = readInts(buffer, cells);
+        double[] populationPerStores = new double[cells];
+        buffer.asDoubleBuffer().get(populationPerStores);
+        buffer.position(buffer.position() + cells * Double.BYTES);
+        byte[] gradeOrdinals = new byte[cells];
+        buffer.get(gradeOrdinals);
+        String[] ageGroups = readPooledStrings(buffer, cells);
+
+        return MarketSnapshot.of(version,
+                regionIds, admCodes, provinces, districts, towns,
+                categoryIds, categoryNames,
+                statsIds, storeCounts, floatingPopulations, malePopulations, femalePopulations,
+                populationPerStores, gradeOrdinals, ageGroups);
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    // 길이(바이트) + UTF-8, null은 길이 -1
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static long[] readLongs(ByteBuffer buffer, int length) {
+        long[] values = new long[length];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + length * Long.BYTES);
+        return values;
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int length) {
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return values;
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, int length) {
+        String[] values = new String[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = readString(buffer);
+        }
+        return values;
+    }
+
+    // 연령대처럼 종류가 적은 값은 DB 적재(MarketSnapshotLoader)와 마찬가지로 같은 문자열 인스턴스를 공유한다
+    private static String[] readPooledStrings(ByteBuffer buffer, int length) {
+        Map<String, String> pool = new HashMap<>();
+        String[] values = new String[length];
+        for (int i = 0; i < length; i++) {
+            String value = readString(buffer);
+            values[i] = value != null ? pool.computeIfAbsent(value, v -> v) : null;
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
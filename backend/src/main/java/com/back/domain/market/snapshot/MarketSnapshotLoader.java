@@ -0,0 +1,104 @@
+package com.back.domain.market.snapshot;
+
+import com.back.domain.category.entity.Category;
+import com.back.domain.category.repository.CategoryRepository;
+import com.back.domain.market.dto.MarketStatsRow;
+import com.back.domain.market.repository.MarketStatsRepository;
+import com.back.domain.region.entity.Region;
+import com.back.domain.region.repository.RegionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DB에서 한 버전(하루치) 데이터를 읽어 MarketSnapshot을 만든다.
+ * 지표는 엔티티가 아니라 스칼라 projection으로 읽어 영속성 컨텍스트를 거치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MarketSnapshotLoader {
+
+    private final MarketStatsRepository marketStatsRepository;
+    private final RegionRepository regionRepository;
+    private final CategoryRepository categoryRepository;
+
+    public MarketSnapshot load(MarketDataVersion version) {
+        List<Region> regions = regionRepository.findAll(Sort.by("id"));
+        List<Category> categories = categoryRepository.findAll(Sort.by("id"));
+        List<MarketStatsRow> rows = marketStatsRepository.findAllRowsCreatedBetween(version.dayStart(), version.nextDayStart());
+
+        int regionCount = regions.size();
+        long[] regionIds = new long[regionCount];
+        String[] admCodes = new String[regionCount];
+        String[] provinces = new String[regionCount];
+        String[] districts = new String[regionCount];
+        String[] towns = new String[regionCount];
+        Map<Long, Integer> regionIndexById = new HashMap<>();
+
+        for (int i = 0; i < regionCount; i++) {
+            Region region = regions.get(i);
+            regionIds[i] = region.getId();
+            admCodes[i] = region.getAdmCode();
+            provinces[i] = region.getProvince();
+            districts[i] = region.getDistrict();
+            towns[i] = region.getTown();
+            regionIndexById.put(region.getId(), i);
+        }
+
+        int categoryCount = categories.size();
+        long[] categoryIds = new long[categoryCount];
+        String[] categoryNames = new String[categoryCount];
+        Map<Long, Integer> categoryIndexById = new HashMap<>();
+        for (int i = 0; i < categoryCount; i++) {
+            Category category = categories.get(i);
+            categoryIds[i] = category.getId();
+            categoryNames[i] = category.getName();
+            categoryIndexById.put(category.getId(), i);
+        }
+
+        int cells = regionCount * categoryCount;
+        long[] statsIds = new long[cells];
+        int[] storeCounts = new int[cells];
+        int[] floatingPopulations = new int[cells];
+        int[] malePopulations = new int[cells];
+        int[] femalePopulations = new int[cells];
+        double[] populationPerStores = new double[cells];
+        byte[] gradeOrdinals = new byte[cells];
+        String[] ageGroups = new String[cells];
+        // 연령대 값은 종류가 적으므로 같은 문자열 인스턴스를 공유한다
+        Map<String, String> ageGroupPool = new HashMap<>();
+
+        for (MarketStatsRow row : rows) {
+            Integer regionIndex = regionIndexById.get(row.regionId());
+            Integer categoryIndex = categoryIndexById.get(row.categoryId());
+            if (regionIndex == null || categoryIndex == null) {
+                continue;
+            }
+            int cell = regionIndex * categoryCount + categoryIndex;
+            statsIds[cell] = row.statsId();
+            storeCounts[cell] = zeroIfNull(row.storeCount());
+            floatingPopulations[cell] = zeroIfNull(row.floatingPopulation());
+            malePopulations[cell] = zeroIfNull(row.malePopulation());
+            femalePopulations[cell] = zeroIfNull(row.femalePopulation());
+            populationPerStores[cell] = row.populationPerStore() != null ? row.populationPerStore() : 0.0;
+            gradeOrdinals[cell] = (byte) row.marketGrade().ordinal();
+            ageGroups[cell] = row.ageGroup() != null ? ageGroupPool.computeIfAbsent(row.ageGroup(), a -> a) : null;
+        }
+
+        return MarketSnapshot.of(version,
+                regionIds, admCodes, provinces, districts, towns,
+                categoryIds, categoryNames,
+                statsIds, storeCounts, floatingPopulations, malePopulations, femalePopulations,
+                populationPerStores, gradeOrdinals, ageGroups);
+    }
+
+    private static int zeroIfNull(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,57 @@
+package com.back.domain.market.snapshot;
+
+import com.back.domain.market.error.exception.SnapshotNotReadyException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * 스냅샷에서 만드는 파생 구조(순위 인덱스, 시·군·구 / 시·도 집계)를 만든 스냅샷과 짝지어 보관한다.
+ * 조회는 같은 쌍을 읽으므로 파생 구조와 스냅샷 값이 섞이지 않는다.
+ * 소유 서비스는 데이터 변경 이벤트를 @Order(1)로 받아 refresh()를 부른다:
+ * 스냅샷 교체(@Order(0)) 직후, 캐시 초기화보다 먼저 바뀌어야 비운 캐시가 이전 구조로 다시 채워지지 않는다.
+ */
+@Slf4j
+public final class SnapshotDerived<T> {
+
+    private final String name;
+    private final MarketSnapshotEngine marketSnapshotEngine;
+    private final Function<MarketSnapshot, T> builder;
+    private final AtomicReference<Entry<T>> current = new AtomicReference<>();
+
+    public SnapshotDerived(String name, MarketSnapshotEngine marketSnapshotEngine, Function<MarketSnapshot, T> builder) {
+        this.name = name;
+        this.marketSnapshotEngine = marketSnapshotEngine;
+        this.builder = builder;
+    }
+
+    public void refresh() {
+        marketSnapshotEngine.snapshot().ifPresent(this::rebuild);
+    }
+
+    public void rebuild(MarketSnapshot snapshot) {
+        long start = System.currentTimeMillis();
+        current.set(new Entry<>(snapshot, builder.apply(snapshot)));
+        log.info("{} 갱신 완료: version={}, {}ms", name, snapshot.getVersion(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 현재 스냅샷과 그 파생 구조. 이벤트보다 먼저 스냅샷이 교체된 경우(예: 직접 refresh 호출) 한 번 맞춘다.
+     */
+    public Entry<T> get() {
+        Entry<T> entry = current.get();
+        if (entry == null || !Objects.equals(entry.snapshot(), marketSnapshotEngine.snapshot().orElse(null))) {
+            refresh();
+            entry = current.get();
+        }
+        if (entry == null) {
+            throw new SnapshotNotReadyException();
+        }
+        return entry;
+    }
+
+    public record Entry<T>(MarketSnapshot snapshot, T value) {
+    }
+}
@@ -1,6 +1,8 @@
 package com.back.domain.region.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,7 +10,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "regions")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "regions", indexes = {
+        // 지도 조회(province 조건)를 인덱스 범위 스캔으로 처리
+        @Index(name = "idx_regions_province_adm_code", columnList = "province, adm_code")
+})
 public class Region {
 
     @Id
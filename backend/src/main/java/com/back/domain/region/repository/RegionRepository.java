@@ -2,7 +2,30 @@ package com.back.domain.region.repository;
 
 import com.back.domain.region.entity.Region;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 
 public interface RegionRepository extends JpaRepository<Region,Long> {
+
+    @Query("select distinct r.province from Region r")
+    List<String> findDistinctProvinces();
+
+    // 차원 사전 변경 확인용: 2차 캐시를 거치지 않도록 엔티티 대신 컬럼 값만 PK 순으로 읽는다
+    @Query("select r.id as id, r.admCode as admCode, r.province as province, r.district as district, r.town as town "
+            + "from Region r order by r.id")
+    List<Columns> findAllColumns();
+
+    interface Columns {
+        Long getId();
+
+        String getAdmCode();
+
+        String getProvince();
+
+        String getDistrict();
+
+        String getTown();
+    }
 }
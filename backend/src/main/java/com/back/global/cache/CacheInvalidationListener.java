@@ -0,0 +1,25 @@
+package com.back.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoTierCacheManager cacheManager;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cacheManager.handleInvalidation(CacheInvalidationMessage.parse(payload));
+        } catch (IllegalArgumentException e) {
+            log.warn("캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+}
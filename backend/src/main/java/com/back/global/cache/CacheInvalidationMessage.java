@@ -0,0 +1,32 @@
+package com.back.global.cache;
+
+/**
+ * 노드 간 로컬 캐시 무효화 메시지.
+ * key가 null이면 해당 캐시 전체를 비운다.
+ * 캐시 키는 SpEL로 만든 문자열이므로 문자열 형태로 전파한다.
+ */
+public record CacheInvalidationMessage(
+        String nodeId,
+        String cacheName,
+        String key
+) {
+    private static final String DELIMITER = "\n";
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    public String toPayload() {
+        return isClear()
+                ? nodeId + DELIMITER + cacheName
+                : nodeId + DELIMITER + cacheName + DELIMITER + key;
+    }
+
+    public static CacheInvalidationMessage parse(String payload) {
+        String[] parts = payload.split(DELIMITER, 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("잘못된 캐시 무효화 메시지: " + payload);
+        }
+        return new CacheInvalidationMessage(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.global.cache;
+
+import lombok.Getter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * Redis pub/sub으로 다른 노드에 로컬 캐시 무효화를 알린다.
+ * 자기 자신이 보낸 메시지는 nodeId로 구분해 무시한다.
+ */
+public class CacheInvalidationPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    @Getter
+    private final String topic;
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String topic) {
+        this.redisTemplate = redisTemplate;
+        this.topic = topic;
+    }
+
+    public void publishEvict(String cacheName, Object key) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, String.valueOf(key)));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(new CacheInvalidationMessage(nodeId, cacheName, null));
+    }
+
+    public boolean isFromSelf(CacheInvalidationMessage message) {
+        return nodeId.equals(message.nodeId());
+    }
+
+    private void publish(CacheInvalidationMessage message) {
+        redisTemplate.convertAndSend(topic, message.toPayload());
+    }
+}
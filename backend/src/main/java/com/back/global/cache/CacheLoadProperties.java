@@ -0,0 +1,25 @@
+package com.back.global.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 캐시 미스 적재(stampede 방지) 설정.
+ *
+ * @param lockTtl            노드 간 적재 락 유지 시간 (적재 중 노드가 죽어도 이 시간 뒤 풀린다)
+ * @param lockWait           락을 얻지 못한 노드가 다른 노드의 적재 결과를 기다리는 최대 시간
+ * @param lockPollInterval   대기 중 Redis를 다시 확인하는 간격
+ * @param earlyRefreshWindow 만료 전 조기 갱신을 고려하는 구간
+ * @param earlyRefreshBeta   조기 갱신 적극성 (클수록 더 일찍 갱신)
+ */
+@ConfigurationProperties(prefix = "cache.load")
+public record CacheLoadProperties(
+        @DefaultValue("10s") Duration lockTtl,
+        @DefaultValue("3s") Duration lockWait,
+        @DefaultValue("50ms") Duration lockPollInterval,
+        @DefaultValue("10m") Duration earlyRefreshWindow,
+        @DefaultValue("1.0") double earlyRefreshBeta
+) {
+}
@@ -0,0 +1,68 @@
+package com.back.global.cache;
+
+import com.back.global.resilience.CircuitBreaker;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시들이 공유하는 적재 보조 기능 (노드 간 락, 원격 TTL 조회, 다건 조회, 조기 갱신 추첨, Redis 서킷 브레이커).
+ */
+public class CacheLoadSupport {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, Object> valueRedisTemplate;
+    private final RedisLoadLock loadLock;
+    private final CacheLoadProperties properties;
+    private final CircuitBreaker redisCircuitBreaker;
+
+    public CacheLoadSupport(StringRedisTemplate redisTemplate, RedisTemplate<String, Object> valueRedisTemplate,
+                            CacheLoadProperties properties,
+                            CircuitBreaker redisCircuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.valueRedisTemplate = valueRedisTemplate;
+        this.loadLock = new RedisLoadLock(redisTemplate, properties.lockTtl());
+        this.properties = properties;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+    }
+
+    public RedisLoadLock getLoadLock() {
+        return loadLock;
+    }
+
+    public CacheLoadProperties getProperties() {
+        return properties;
+    }
+
+    public CircuitBreaker getRedisCircuitBreaker() {
+        return redisCircuitBreaker;
+    }
+
+    // 원격 키의 남은 TTL(ms), 키가 없거나 TTL이 없으면 -1
+    public long remainingTtlMillis(String redisKey) {
+        Long ttl = redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+        return (ttl == null || ttl < 0) ? -1 : ttl;
+    }
+
+    // 여러 원격 키를 한 번의 MGET으로 조회 (없는 키는 null)
+    public List<Object> multiGet(List<String> redisKeys) {
+        return valueRedisTemplate.opsForValue().multiGet(redisKeys);
+    }
+
+    /**
+     * 확률적 조기 갱신 (XFetch).
+     * 만료가 가까울수록, 적재 비용이 클수록 갱신 확률이 높아진다.
+     * 로컬 계층 때문에 원격 TTL을 확인하는 빈도가 낮으므로 적재 시간에 조기 갱신 구간을 더해 척도로 쓴다.
+     */
+    public boolean shouldRefreshEarly(long remainingMillis, long loadMillis) {
+        if (remainingMillis < 0) {
+            return false;
+        }
+        double scale = properties.earlyRefreshWindow().toMillis() + loadMillis;
+        double gap = scale * properties.earlyRefreshBeta() * -Math.log(ThreadLocalRandom.current().nextDouble());
+        return gap >= remainingMillis;
+    }
+}
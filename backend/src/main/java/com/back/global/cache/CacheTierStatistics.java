@@ -0,0 +1,71 @@
+package com.back.global.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 계층(local / remote)별 캐시 적중 통계와 원본 적재(load) 횟수/소요 시간.
+ * 조회가 많은 경로에서 경합을 줄이기 위해 LongAdder를 사용한다.
+ */
+public class CacheTierStatistics {
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    void localHit() {
+        localHits.increment();
+    }
+
+    void localMiss() {
+        localMisses.increment();
+    }
+
+    void remoteHit() {
+        remoteHits.increment();
+    }
+
+    void remoteMiss() {
+        remoteMisses.increment();
+    }
+
+    void loaded(long elapsedNanos) {
+        loads.increment();
+        loadNanos.add(elapsedNanos);
+    }
+
+    void loadFailed() {
+        loadFailures.increment();
+    }
+
+    public long getLocalHits() {
+        return localHits.sum();
+    }
+
+    public long getLocalMisses() {
+        return localMisses.sum();
+    }
+
+    public long getRemoteHits() {
+        return remoteHits.sum();
+    }
+
+    public long getRemoteMisses() {
+        return remoteMisses.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getLoadFailures() {
+        return loadFailures.sum();
+    }
+
+    public long getLoadNanos() {
+        return loadNanos.sum();
+    }
+}
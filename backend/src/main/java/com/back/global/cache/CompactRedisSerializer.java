@@ -0,0 +1,45 @@
+package com.back.global.cache;
+
+import com.back.global.web.CborFormat;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 값을 CBOR(stringref)로 저장한다.
+ * 타입 정보(@class)와 값 구조는 GenericJackson2JsonRedisSerializer와 같고 형식만 바이너리다.
+ * 반복되는 클래스 이름, 필드 이름, enum 값은 값 하나 안에서 한 번만 기록된다.
+ * 배포 전 JSON으로 저장된 값은 첫 바이트('{' 또는 '[')로 구분해 그대로 읽는다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private final GenericJackson2JsonRedisSerializer cbor;
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+    public CompactRedisSerializer() {
+        ObjectMapper mapper = new ObjectMapper(CborFormat.factory());
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(mapper, null);
+        this.cbor = new GenericJackson2JsonRedisSerializer(mapper);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        return cbor.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return isJson(bytes) ? json.deserialize(bytes) : cbor.deserialize(bytes);
+    }
+
+    private static boolean isJson(byte[] bytes) {
+        return bytes[0] == '{' || bytes[0] == '[';
+    }
+}
@@ -0,0 +1,38 @@
+package com.back.global.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 로컬(near) 캐시 설정.
+ * 캐시 이름별 설정이 없으면 기본값(maximumSize, ttl)을 사용한다.
+ * 로컬 TTL은 Redis TTL(1시간)보다 짧게 두어야 다른 노드의 갱신이 늦게 반영되는 일을 줄일 수 있다.
+ */
+@ConfigurationProperties(prefix = "cache.local")
+public record LocalCacheProperties(
+        @DefaultValue("1000") long maximumSize,
+        @DefaultValue("10m") Duration ttl,
+        @DefaultValue("cache:invalidation") String invalidationTopic,
+        Map<String, Spec> caches
+) {
+
+    public record Spec(Long maximumSize, Duration ttl) {
+    }
+
+    public long maximumSizeFor(String cacheName) {
+        Spec spec = specFor(cacheName);
+        return (spec != null && spec.maximumSize() != null) ? spec.maximumSize() : maximumSize;
+    }
+
+    public Duration ttlFor(String cacheName) {
+        Spec spec = specFor(cacheName);
+        return (spec != null && spec.ttl() != null) ? spec.ttl() : ttl;
+    }
+
+    private Spec specFor(String cacheName) {
+        return caches != null ? caches.get(cacheName) : null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.back.global.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 간 캐시 적재를 한 번만 수행하기 위한 Redis 락 (SET NX PX).
+ * 해제는 자신이 잡은 락일 때만 지우도록 Lua 스크립트로 비교 후 삭제한다.
+ */
+public class RedisLoadLock {
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+
+    public RedisLoadLock(StringRedisTemplate redisTemplate, Duration lockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+    }
+
+    // 락 획득 시 해제용 토큰 반환, 실패 시 null
+    public String tryLock(String lockKey) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void unlock(String lockKey, String token) {
+        redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), token);
+    }
+}
@@ -0,0 +1,51 @@
+package com.back.global.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 같은 키에 대한 동시 적재 요청을 하나로 합친다.
+ * 첫 번째 호출자만 loader를 실행하고, 나머지는 그 결과(또는 예외)를 그대로 받는다.
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public Object execute(Object key, Callable<?> loader) throws Exception {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            Object value = loader.call();
+            created.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    public boolean isInFlight(Object key) {
+        return inFlight.containsKey(key);
+    }
+
+    private Object await(CompletableFuture<Object> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) cause;
+        }
+    }
+}
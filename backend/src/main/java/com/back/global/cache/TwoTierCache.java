@@ -0,0 +1,306 @@
+package com.back.global.cache;
+
+import com.back.global.resilience.CircuitBreaker;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬(Caffeine) + 원격(Redis) 2계층 캐시.
+ * 조회: local → remote 순으로 찾고, remote 적중 시 local에 채워 넣는다.
+ * 변경: remote와 local을 함께 갱신하고, 다른 노드의 local 사본은 pub/sub으로 무효화한다.
+ * 적재(sync = true): 키별 single-flight + Redis 락으로 노드 전체에서 한 번만 DB를 조회하고,
+ * 만료가 임박한 키는 확률 추첨(XFetch)에 걸린 호출자 한 명이 자기 스레드에서 미리 갱신하고, 나머지는 기존 값을 받는다.
+ * (valueLoader는 그 호출의 프록시 체인 안에서만 유효하므로 다른 스레드나 호출이 끝난 뒤에 부르지 않는다)
+ * Redis 호출은 서킷 브레이커를 거친다. Redis가 죽거나 느리면 원격 계층을 미스로 보고 local + 원본 적재로만 동작한다.
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    // 락 서버(Redis)에 닿지 못해 락 없이 적재한다는 표시
+    private static final String NO_LOCK = "";
+
+    private final String name;
+    private final String redisKeyPrefix;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, ValueWrapper> local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheLoadSupport loadSupport;
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    // 키별 최근 적재 소요 시간 (조기 갱신 확률 계산용)
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> loadMillis;
+    @Getter
+    private final CacheTierStatistics statistics = new CacheTierStatistics();
+
+    public TwoTierCache(String name, String redisKeyPrefix, Cache remote, CacheInvalidationPublisher publisher,
+                        CacheLoadSupport loadSupport, long maximumSize, Duration ttl) {
+        this.name = name;
+        this.redisKeyPrefix = redisKeyPrefix;
+        this.remote = remote;
+        this.publisher = publisher;
+        this.loadSupport = loadSupport;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.loadMillis = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper cached = local.getIfPresent(key);
+        if (cached != null) {
+            statistics.localHit();
+            return cached;
+        }
+        statistics.localMiss();
+
+        ValueWrapper remoteValue = remoteGet(key);
+        if (remoteValue == null) {
+            statistics.remoteMiss();
+            return null;
+        }
+        statistics.remoteHit();
+        local.put(key, remoteValue);
+        return remoteValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 일치하지 않습니다. [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = local.getIfPresent(key);
+        if (cached != null) {
+            statistics.localHit();
+            return (T) cached.get();
+        }
+        statistics.localMiss();
+
+        ValueWrapper remoteValue = remoteGet(key);
+        if (remoteValue != null) {
+            statistics.remoteHit();
+            local.put(key, remoteValue);
+            return (T) refreshIfExpiringSoon(key, remoteValue.get(), valueLoader);
+        }
+        statistics.remoteMiss();
+
+        try {
+            return (T) singleFlight.execute(key, () -> loadWithLock(key, valueLoader));
+        } catch (ValueRetrievalException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * 여러 키를 한 번에 조회한다. local에 없는 키만 모아 Redis MGET 한 번으로 읽는다.
+     * 반환 맵에는 찾은 키만 들어 있다.
+     */
+    public Map<Object, Object> getAll(List<?> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> remoteKeys = new ArrayList<>();
+        for (Object key : keys) {
+            ValueWrapper cached = local.getIfPresent(key);
+            if (cached != null) {
+                statistics.localHit();
+                found.put(key, cached.get());
+            } else {
+                statistics.localMiss();
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return found;
+        }
+
+        List<String> redisKeys = remoteKeys.stream().map(key -> redisKeyPrefix + key).toList();
+        List<Object> values = redis().callOrElse(() -> loadSupport.multiGet(redisKeys), null);
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            Object value = (values != null) ? values.get(i) : null;
+            if (value == null || value instanceof NullValue) {
+                statistics.remoteMiss();
+                continue;
+            }
+            statistics.remoteHit();
+            Object key = remoteKeys.get(i);
+            local.put(key, new SimpleValueWrapper(value));
+            found.put(key, value);
+        }
+        return found;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redis().run(() -> remote.put(key, value));
+        local.put(key, new SimpleValueWrapper(value));
+        redis().run(() -> publisher.publishEvict(name, key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        redis().run(() -> remote.evict(key));
+        local.invalidate(key);
+        redis().run(() -> publisher.publishEvict(name, key));
+    }
+
+    @Override
+    public void clear() {
+        redis().run(remote::clear);
+        local.invalidateAll();
+        redis().run(() -> publisher.publishClear(name));
+    }
+
+    /**
+     * 노드 간 락을 잡은 한 곳에서만 loader를 실행한다.
+     * 락을 못 잡으면 다른 노드가 채운 값을 lockWait 동안 기다리고, 그래도 없으면 직접 적재한다.
+     */
+    private Object loadWithLock(Object key, Callable<?> valueLoader) throws Exception {
+        CacheLoadProperties properties = loadSupport.getProperties();
+        String lockKey = "lock:" + redisKeyPrefix + key;
+        String token = redis().callOrElse(() -> loadSupport.getLoadLock().tryLock(lockKey), NO_LOCK);
+        if (NO_LOCK.equals(token)) {
+            return load(key, valueLoader);
+        }
+        try {
+            ValueWrapper loaded = (token != null) ? remoteGet(key) : awaitRemote(key, properties);
+            if (loaded != null) {
+                local.put(key, loaded);
+                return loaded.get();
+            }
+            return load(key, valueLoader);
+        } finally {
+            if (token != null) {
+                redis().run(() -> loadSupport.getLoadLock().unlock(lockKey, token));
+            }
+        }
+    }
+
+    // 조기 갱신: 기존 값이 아직 있으므로 재확인 없이 적재하고, 다른 노드가 갱신 중이면 기존 값을 쓴다
+    private Object refreshWithLock(Object key, Callable<?> valueLoader, Object current) {
+        String lockKey = "lock:" + redisKeyPrefix + key;
+        String token = redis().callOrElse(() -> loadSupport.getLoadLock().tryLock(lockKey), null);
+        if (token == null) {
+            return current;
+        }
+        try {
+            return load(key, valueLoader);
+        } finally {
+            redis().run(() -> loadSupport.getLoadLock().unlock(lockKey, token));
+        }
+    }
+
+    private ValueWrapper awaitRemote(Object key, CacheLoadProperties properties) throws InterruptedException {
+        long deadline = System.nanoTime() + properties.lockWait().toNanos();
+        while (System.nanoTime() < deadline && redis().getState() == CircuitBreaker.State.CLOSED) {
+            Thread.sleep(properties.lockPollInterval().toMillis());
+            ValueWrapper loaded = remoteGet(key);
+            if (loaded != null) {
+                return loaded;
+            }
+        }
+        return null;
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            statistics.loadFailed();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        statistics.loaded(elapsedNanos);
+        loadMillis.put(key, elapsedNanos / 1_000_000);
+        put(key, value);
+        return value;
+    }
+
+    /*
+     * 원격 TTL이 얼마 남지 않았다면 추첨에 걸린 호출자가 직접 갱신해 새 값을 받는다.
+     * 같은 키를 이미 적재/갱신 중이거나 다른 노드가 갱신 중이면 기존 값을 그대로 돌려주고, 갱신이 실패해도 기존 값을 쓴다.
+     */
+    private Object refreshIfExpiringSoon(Object key, Object current, Callable<?> valueLoader) {
+        if (singleFlight.isInFlight(key) || refreshing.contains(key)) {
+            return current;
+        }
+        long remaining = redis().callOrElse(() -> loadSupport.remainingTtlMillis(redisKeyPrefix + key), -1L);
+        Long lastLoadMillis = loadMillis.getIfPresent(key);
+        if (!loadSupport.shouldRefreshEarly(remaining, lastLoadMillis != null ? lastLoadMillis : 0L)) {
+            return current;
+        }
+        if (!refreshing.add(key)) {
+            return current;
+        }
+        try {
+            return singleFlight.execute(key, () -> refreshWithLock(key, valueLoader, current));
+        } catch (Exception e) {
+            log.warn("캐시 조기 갱신 실패: {}::{} - {}", name, key, e.getMessage());
+            return current;
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    // Redis 장애는 미스로 본다
+    private ValueWrapper remoteGet(Object key) {
+        return redis().callOrElse(() -> remote.get(key), null);
+    }
+
+    private CircuitBreaker redis() {
+        return loadSupport.getRedisCircuitBreaker();
+    }
+
+    // 다른 노드에서 온 무효화 메시지 처리 (remote는 이미 반영되어 있으므로 local만 비운다)
+    void evictLocal(Object key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    public long getLocalSize() {
+        return local.estimatedSize();
+    }
+}
@@ -0,0 +1,77 @@
+package com.back.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 원격 CacheManager(Redis) 앞에 로컬 캐시를 두는 복합 CacheManager.
+ * 캐시 이름별로 하나의 TwoTierCache를 만들어 재사용한다.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final CacheLoadSupport loadSupport;
+    private final LocalCacheProperties properties;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, CacheInvalidationPublisher publisher,
+                               CacheLoadSupport loadSupport, LocalCacheProperties properties) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.publisher = publisher;
+        this.loadSupport = loadSupport;
+        this.properties = properties;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public Collection<TwoTierCache> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    void handleInvalidation(CacheInvalidationMessage message) {
+        if (publisher.isFromSelf(message)) {
+            return;
+        }
+        TwoTierCache cache = caches.get(message.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (message.isClear()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(message.key());
+        }
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return new TwoTierCache(name, redisKeyPrefix(name, remote), remote, publisher, loadSupport,
+                properties.maximumSizeFor(name), properties.ttlFor(name));
+    }
+
+    // Redis에 실제로 저장되는 키의 접두사 (기본값 "cacheName::")
+    private String redisKeyPrefix(String name, Cache remote) {
+        if (remote instanceof RedisCache redisCache) {
+            return redisCache.getCacheConfiguration().getKeyPrefixFor(name);
+        }
+        return name + "::";
+    }
+}
@@ -0,0 +1,78 @@
+package com.back.global.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 캐시 이름별 계층 적중/미스, 원본 적재 횟수와 시간을 Micrometer로 노출한다.
+ * 캐시는 처음 조회될 때 만들어지므로 설정에 이름이 있는 캐시는 바인딩 시점에 미리 만든다.
+ *
+ * <ul>
+ *   <li>cache.gets{cache, tier=local|remote, result=hit|miss}</li>
+ *   <li>cache.loads{cache} (FunctionTimer: 횟수 + 누적 시간), cache.load.failures{cache}</li>
+ *   <li>cache.local.size{cache}</li>
+ * </ul>
+ */
+public class TwoTierCacheMetrics implements MeterBinder {
+
+    private final TwoTierCacheManager cacheManager;
+    private final LocalCacheProperties properties;
+
+    public TwoTierCacheMetrics(TwoTierCacheManager cacheManager, LocalCacheProperties properties) {
+        this.cacheManager = cacheManager;
+        this.properties = properties;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Set<String> names = new LinkedHashSet<>(cacheManager.getCacheNames());
+        if (properties.caches() != null) {
+            names.addAll(properties.caches().keySet());
+        }
+        for (String name : names) {
+            if (cacheManager.getCache(name) instanceof TwoTierCache cache) {
+                bind(registry, cache);
+            }
+        }
+    }
+
+    private static void bind(MeterRegistry registry, TwoTierCache cache) {
+        String name = cache.getName();
+        CacheTierStatistics stats = cache.getStatistics();
+
+        counter(registry, name, "local", "hit", stats, CacheTierStatistics::getLocalHits);
+        counter(registry, name, "local", "miss", stats, CacheTierStatistics::getLocalMisses);
+        counter(registry, name, "remote", "hit", stats, CacheTierStatistics::getRemoteHits);
+        counter(registry, name, "remote", "miss", stats, CacheTierStatistics::getRemoteMisses);
+
+        FunctionTimer.builder("cache.loads", stats, CacheTierStatistics::getLoads,
+                        CacheTierStatistics::getLoadNanos, TimeUnit.NANOSECONDS)
+                .description("캐시 미스 시 원본(DB/스냅샷) 적재")
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("cache.load.failures", stats, CacheTierStatistics::getLoadFailures)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.local.size", cache, TwoTierCache::getLocalSize)
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String cacheName, String tier, String result,
+                                CacheTierStatistics stats,
+                                ToDoubleFunction<CacheTierStatistics> count) {
+        FunctionCounter.builder("cache.gets", stats, count)
+                .tag("cache", cacheName)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+}
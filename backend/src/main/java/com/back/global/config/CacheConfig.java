@@ -0,0 +1,71 @@
+package com.back.global.config;
+
+import com.back.global.cache.CacheInvalidationListener;
+import com.back.global.cache.CacheInvalidationPublisher;
+import com.back.global.cache.CacheLoadProperties;
+import com.back.global.cache.CacheLoadSupport;
+import com.back.global.cache.LocalCacheProperties;
+import com.back.global.cache.TwoTierCacheManager;
+import com.back.global.cache.TwoTierCacheMetrics;
+import com.back.global.resilience.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis 캐시 앞단에 로컬 캐시를 두는 2계층 캐시 설정.
+ * `@Cacheable`은 @Primary인 TwoTierCacheManager를 사용한다.
+ */
+@Configuration
+@EnableConfigurationProperties({LocalCacheProperties.class, CacheLoadProperties.class})
+public class CacheConfig {
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate,
+                                                                 LocalCacheProperties properties) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, properties.invalidationTopic());
+    }
+
+    @Bean
+    public CacheLoadSupport cacheLoadSupport(StringRedisTemplate stringRedisTemplate,
+                                             RedisTemplate<String, Object> cacheRedisTemplate,
+                                             CacheLoadProperties properties,
+                                             @Qualifier("redisCircuitBreaker") CircuitBreaker redisCircuitBreaker) {
+        return new CacheLoadSupport(stringRedisTemplate, cacheRedisTemplate, properties, redisCircuitBreaker);
+    }
+
+    @Bean
+    @Primary
+    public TwoTierCacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                            CacheInvalidationPublisher cacheInvalidationPublisher,
+                                            CacheLoadSupport cacheLoadSupport,
+                                            LocalCacheProperties properties) {
+        return new TwoTierCacheManager(redisCacheManager, cacheInvalidationPublisher, cacheLoadSupport, properties);
+    }
+
+    // 캐시 이름별 계층 적중률 / 적재 시간 (/actuator/prometheus)
+    @Bean
+    public TwoTierCacheMetrics twoTierCacheMetrics(TwoTierCacheManager cacheManager, LocalCacheProperties properties) {
+        return new TwoTierCacheMetrics(cacheManager, properties);
+    }
+
+    // 다른 노드가 보낸 무효화 메시지를 구독해 로컬 캐시를 비운다
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           TwoTierCacheManager cacheManager,
+                                                                           LocalCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(new CacheInvalidationListener(cacheManager),
+                new ChannelTopic(properties.invalidationTopic()));
+        return container;
+    }
+}
@@ -0,0 +1,11 @@
+package com.back.global.config;
+
+import com.back.domain.market.grade.MarketGradeProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 등급 재계산 기준 (market.grade.*)
+@Configuration
+@EnableConfigurationProperties(MarketGradeProperties.class)
+public class MarketGradeConfig {
+}
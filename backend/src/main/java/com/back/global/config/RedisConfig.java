@@ -1,13 +1,20 @@
 package com.back.global.config;
 
+import com.back.global.cache.CompactRedisSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -16,15 +23,48 @@ import java.time.Duration;
 @EnableCaching
 public class RedisConfig {
 
+    /**
+     * 캐시 값 직렬화 (RedisCacheManager와 캐시 직접 조회용 템플릿이 같은 형식을 쓰도록 공유)
+     * cbor: 바이너리 (기존 JSON 값도 읽음), json: 이전 형식 (CBOR를 읽지 못하는 이전 버전 노드와 섞여 있는 동안 사용)
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisSerializer<Object> redisValueSerializer(@Value("${cache.redis.value-format:cbor}") String valueFormat) {
+        if ("json".equalsIgnoreCase(valueFormat)) {
+            return new GenericJackson2JsonRedisSerializer();
+        }
+        return new CompactRedisSerializer();
+    }
+
+    @Bean
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, RedisSerializer<Object> redisValueSerializer) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(1))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(redisValueSerializer));
 
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
                 .build();
     }
+
+    // 캐시 키를 MGET 등으로 직접 읽을 때 사용 (키: "cacheName::key")
+    @Bean
+    public RedisTemplate<String, Object> cacheRedisTemplate(RedisConnectionFactory connectionFactory, RedisSerializer<Object> redisValueSerializer) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(redisValueSerializer);
+        return template;
+    }
+
+    // reactive 프로필: 같은 캐시 키를 Lettuce reactive 명령으로 읽고 쓸 때 사용 (ReactiveMarketCache)
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveRedisTemplate<String, Object> reactiveCacheRedisTemplate(ReactiveRedisConnectionFactory connectionFactory,
+                                                                            RedisSerializer<Object> redisValueSerializer) {
+        RedisSerializationContext<String, Object> context = RedisSerializationContext.<String, Object>newSerializationContext(new StringRedisSerializer())
+                .value(redisValueSerializer)
+                .build();
+        return new ReactiveRedisTemplate<>(connectionFactory, context);
+    }
 }
@@ -0,0 +1,25 @@
+package com.back.global.config;
+
+import com.back.global.resilience.CircuitBreaker;
+import com.back.global.resilience.ResilienceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+    // MarketStatsRepositoryImpl 조회 쿼리
+    @Bean
+    public CircuitBreaker databaseCircuitBreaker(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        return new CircuitBreaker("database", properties.database(), meterRegistry);
+    }
+
+    // TwoTierCache의 원격 계층(조회, 저장, 락, 무효화 발행)
+    @Bean
+    public CircuitBreaker redisCircuitBreaker(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        return new CircuitBreaker("redis", properties.redis(), meterRegistry);
+    }
+}
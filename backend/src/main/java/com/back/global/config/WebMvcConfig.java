@@ -1,11 +1,20 @@
 package com.back.global.config;
 
+import com.back.global.web.AdmissionControlInterceptor;
+import com.back.global.web.CaseInsensitiveEnumConverterFactory;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AdmissionControlInterceptor admissionControlInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
@@ -13,4 +22,17 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "POST", "PUT", "DELETE")
                 .allowCredentials(true);
     }
-}
\ No newline at end of file
+
+    // enum 파라미터(metric, order, grade 등)는 대소문자를 가리지 않되, 모르는 값은 400
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverterFactory(new CaseInsensitiveEnumConverterFactory());
+    }
+
+    // 조회 API만 (관리자 적재/내보내기는 자체 잠금과 동시 실행 제한이 있다)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionControlInterceptor)
+                .addPathPatterns("/api/market/**", "/api/map/**");
+    }
+}
@@ -0,0 +1,22 @@
+package com.back.global.config;
+
+import com.back.global.web.CborFormat;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration
+public class WireFormatConfig {
+
+    /**
+     * Accept: application/cbor 요청에 쓰는 변환기 (ResponseEntity<DTO>를 반환하는 엔드포인트).
+     * EncodedResponseCache도 같은 ObjectMapper로 CBOR 본문을 만든다.
+     * spring.jackson.* 설정과 모듈은 JSON과 같게 적용되고 factory만 다르다.
+     * ObjectMapper 자체를 빈으로 등록하면 Boot의 JSON ObjectMapper 자동 설정이 빠지므로 변환기로만 노출한다.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(CborFormat.factory()).build());
+    }
+}
@@ -10,9 +10,22 @@ public enum ErrorCode {
     // Common
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C001", "서버 내부 오류입니다."),
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C002", "잘못된 입력입니다."),
+    SERVICE_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "C003", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    DEPENDENCY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "C004", "데이터 저장소에 일시적으로 접근할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     // Market
-    MARKET_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "해당 지역 및 업종에 대한 분석 데이터가 없습니다.");
+    MARKET_NOT_FOUND(HttpStatus.NOT_FOUND, "M001", "해당 지역 및 업종에 대한 분석 데이터가 없습니다."),
+    INVALID_HISTORY_PERIOD(HttpStatus.BAD_REQUEST, "M002", "조회 기간이 올바르지 않습니다. (시작일 <= 종료일, 최대 1년)"),
+    INVALID_INGEST_DATA(HttpStatus.BAD_REQUEST, "M003", "적재 데이터 형식이 올바르지 않거나 존재하지 않는 지역/업종이 포함되어 있습니다."),
+    INGEST_IN_PROGRESS(HttpStatus.CONFLICT, "M004", "다른 적재 또는 등급 재계산 작업이 진행 중입니다."),
+    INVALID_GRADE_POLICY(HttpStatus.BAD_REQUEST, "M005", "등급 기준이 올바르지 않습니다. (GREEN 기준 > RED 기준, 비율 합 <= 1)"),
+    SNAPSHOT_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "M006", "상권 데이터를 준비 중입니다. 잠시 후 다시 시도해 주세요."),
+    EXPORT_BUSY(HttpStatus.TOO_MANY_REQUESTS, "M007", "동시에 실행할 수 있는 내보내기 작업 수를 초과했습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_NEIGHBORHOOD_QUERY(HttpStatus.BAD_REQUEST, "M008", "주변 지역 조회 기준이 올바르지 않습니다. (admCode 또는 lat/lng, 인접 조회는 admCode 필수)"),
+    INVALID_SIMULATION_SCENARIO(HttpStatus.BAD_REQUEST, "M009", "시뮬레이션 시나리오가 올바르지 않습니다. (변경마다 admCode 또는 province 중 하나)"),
+
+    // Geometry
+    GEOMETRY_NOT_LOADED(HttpStatus.SERVICE_UNAVAILABLE, "G001", "행정동 경계 데이터가 준비되지 않았습니다.");
 
 
     private final HttpStatus status;
@@ -2,9 +2,14 @@ package com.back.global.error;
 
 import com.back.global.error.exception.BusinessException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 @Slf4j
 @RestControllerAdvice
@@ -18,6 +23,32 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(e.getErrorCode()));
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException e) {
+        log.warn("요청 값 검증 실패: {}", e.getBindingResult().getFieldErrors());
+        return ResponseEntity
+                .status(ErrorCode.INVALID_INPUT_VALUE.getStatus())
+                .body(ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        log.warn("요청 파라미터 형식 오류: {}={}", e.getName(), e.getValue());
+        return ResponseEntity
+                .status(ErrorCode.INVALID_INPUT_VALUE.getStatus())
+                .body(ErrorResponse.of(ErrorCode.INVALID_INPUT_VALUE));
+    }
+
+    // DB 커넥션 획득 실패, 쿼리 타임아웃, Redis 연결 실패: 재시도하면 되는 장애이므로 500이 아닌 503
+    @ExceptionHandler({DataAccessResourceFailureException.class, TransientDataAccessException.class,
+            CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleDependencyFailure(Exception e) {
+        log.warn("저장소 일시 장애: {}", e.toString());
+        return ResponseEntity
+                .status(ErrorCode.DEPENDENCY_UNAVAILABLE.getStatus())
+                .body(ErrorResponse.of(ErrorCode.DEPENDENCY_UNAVAILABLE));
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ErrorResponse> handleException(Exception e) {
         log.error("정의하지 않은 예외 처리: ", e); // 스택 트레이스 로깅
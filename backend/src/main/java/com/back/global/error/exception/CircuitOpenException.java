@@ -0,0 +1,9 @@
+package com.back.global.error.exception;
+
+import com.back.global.error.ErrorCode;
+
+public class CircuitOpenException extends BusinessException {
+    public CircuitOpenException() {
+        super(ErrorCode.DEPENDENCY_UNAVAILABLE);
+    }
+}
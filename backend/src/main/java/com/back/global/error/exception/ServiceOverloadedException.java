@@ -0,0 +1,9 @@
+package com.back.global.error.exception;
+
+import com.back.global.error.ErrorCode;
+
+public class ServiceOverloadedException extends BusinessException {
+    public ServiceOverloadedException() {
+        super(ErrorCode.SERVICE_OVERLOADED);
+    }
+}
@@ -0,0 +1,62 @@
+package com.back.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 리포지토리 메서드별 쿼리 시간(조회 + 엔티티/DTO 생성)과 반환 행 수를 기록한다.
+ * <ul>
+ *   <li>repository.query{repository, method} - Timer</li>
+ *   <li>repository.query.rows{repository, method} - DistributionSummary</li>
+ * </ul>
+ */
+public class QueryMetrics {
+
+    private final MeterRegistry registry;
+    private final String repository;
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DistributionSummary> rowSummaries = new ConcurrentHashMap<>();
+
+    public QueryMetrics(MeterRegistry registry, String repository) {
+        this.registry = registry;
+        this.repository = repository;
+    }
+
+    public <T> List<T> list(String method, Supplier<List<T>> query) {
+        long start = System.nanoTime();
+        List<T> result = query.get();
+        record(method, start, result.size());
+        return result;
+    }
+
+    public <T> Optional<T> optional(String method, Supplier<Optional<T>> query) {
+        long start = System.nanoTime();
+        Optional<T> result = query.get();
+        record(method, start, result.isPresent() ? 1 : 0);
+        return result;
+    }
+
+    private void record(String method, long startNanos, int rows) {
+        timers.computeIfAbsent(method, m -> Timer.builder("repository.query")
+                        .description("쿼리 실행 + 결과 매핑 시간")
+                        .tag("repository", repository)
+                        .tag("method", m)
+                        .register(registry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        rowSummaries.computeIfAbsent(method, m -> DistributionSummary.builder("repository.query.rows")
+                        .description("쿼리 반환 행 수")
+                        .baseUnit("rows")
+                        .tag("repository", repository)
+                        .tag("method", m)
+                        .register(registry))
+                .record(rows);
+    }
+}
@@ -0,0 +1,70 @@
+package com.back.global.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 기반 동시 처리 한도 (gradient 방식).
+ * 장기 평균 지연(기준)과 최근 지연을 비교해, 최근 지연이 기준 x rttTolerance보다 커지면 비율만큼 한도를 줄이고
+ * 그렇지 않으면 대기 여유분(QUEUE_SIZE)만큼 늘린다. 한도를 넘는 요청은 기다리지 않고 바로 거절한다.
+ * 5xx로 끝난 요청(의존성 장애)은 지연과 관계없이 한도를 줄인다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double QUEUE_SIZE = 4;
+    private static final double LONG_WINDOW = 600;
+    private static final double SHORT_WINDOW = 10;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final ResilienceProperties.Limiter properties;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    public AdaptiveConcurrencyLimiter(ResilienceProperties.Limiter properties) {
+        this.properties = properties;
+        this.limit = properties.initialLimit();
+    }
+
+    public boolean tryAcquire() {
+        if (inFlight.incrementAndGet() > (int) limit) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        onSample(rttNanos, dropped, current);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, boolean dropped, int inFlightAtRelease) {
+        if (dropped) {
+            limit = Math.max(properties.minLimit(), limit * BACKOFF_RATIO);
+            return;
+        }
+        shortRtt = shortRtt == 0 ? rttNanos : shortRtt + (rttNanos - shortRtt) / SHORT_WINDOW;
+        longRtt = longRtt == 0 ? rttNanos : longRtt + (rttNanos - longRtt) / LONG_WINDOW;
+        // 부하가 빠진 뒤 기준 지연이 높게 남아 있으면 빨리 따라 내려간다
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        // 한도의 절반도 쓰지 않는 동안에는 지연 정보가 한도에 대해 말해 주는 게 없다
+        if (inFlightAtRelease < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, properties.rttTolerance() * longRtt / shortRtt));
+        double newLimit = limit * gradient + QUEUE_SIZE;
+        newLimit = limit * (1 - properties.smoothing()) + newLimit * properties.smoothing();
+        limit = Math.max(properties.minLimit(), Math.min(properties.maxLimit(), newLimit));
+    }
+}
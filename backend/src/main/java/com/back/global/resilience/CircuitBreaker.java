@@ -0,0 +1,160 @@
+package com.back.global.resilience;
+
+import com.back.global.error.exception.CircuitOpenException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 최근 N회 호출의 실패율로 여닫는 서킷 브레이커.
+ * 느린 호출(slowCallThreshold 초과)도 실패로 센다: DB가 멈추지 않고 느려지기만 해도 커넥션 풀 대기가 쌓이기 때문이다.
+ * 열린 동안은 호출하지 않고 바로 실패하며, openDuration이 지나면 시험 호출 하나로 닫을지 다시 열지 정한다.
+ * <ul>
+ *   <li>resilience.circuit.state{name} - 0 닫힘, 1 열림, 2 시험 중</li>
+ * </ul>
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final ResilienceProperties.Breaker properties;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] outcomes;
+    private int next;
+    private int calls;
+    private int failures;
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    public CircuitBreaker(String name, ResilienceProperties.Breaker properties, MeterRegistry meterRegistry) {
+        this(name, properties, meterRegistry, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, ResilienceProperties.Breaker properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.name = name;
+        this.properties = properties;
+        this.slowCallNanos = properties.slowCallThreshold().toNanos();
+        this.openNanos = properties.openDuration().toNanos();
+        this.nanoClock = nanoClock;
+        this.outcomes = new boolean[properties.windowSize()];
+        Gauge.builder("resilience.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("서킷 브레이커 상태 (0 닫힘, 1 열림, 2 시험 중)")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    // 열려 있으면 CircuitOpenException, 호출 중 예외는 실패로 기록한 뒤 그대로 던진다
+    public <T> T call(Supplier<T> action) {
+        boolean probe = acquire();
+        long start = nanoClock.getAsLong();
+        T result;
+        try {
+            result = action.get();
+        } catch (Throwable e) {
+            // Error도 결과로 기록해야 시험 호출 표시(probing)가 풀린다
+            onResult(true, probe);
+            throw e;
+        }
+        onResult(nanoClock.getAsLong() - start > slowCallNanos, probe);
+        return result;
+    }
+
+    // 캐시처럼 없어도 되는 의존성용: 열려 있거나 실패하면 fallback
+    public <T> T callOrElse(Supplier<T> action, T fallback) {
+        try {
+            return call(action);
+        } catch (CircuitOpenException e) {
+            return fallback;
+        } catch (RuntimeException e) {
+            log.warn("{} 호출 실패, 대체 값 사용: {}", name, e.toString());
+            return fallback;
+        }
+    }
+
+    public void run(Runnable action) {
+        callOrElse(() -> {
+            action.run();
+            return null;
+        }, null);
+    }
+
+    // 시험 호출이면 true
+    private boolean acquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return false;
+        }
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAt < openNanos) {
+            throw new CircuitOpenException();
+        }
+        if (!probing.compareAndSet(false, true)) {
+            throw new CircuitOpenException();
+        }
+        state = State.HALF_OPEN;
+        return true;
+    }
+
+    private void onResult(boolean failed, boolean probe) {
+        if (probe) {
+            if (failed) {
+                open();
+            } else {
+                close();
+            }
+            probing.set(false);
+            return;
+        }
+        synchronized (this) {
+            if (state != State.CLOSED) {
+                return; // 열린 뒤에 끝난 호출
+            }
+            if (calls == outcomes.length) {
+                if (outcomes[next]) {
+                    failures--;
+                }
+            } else {
+                calls++;
+            }
+            outcomes[next] = failed;
+            if (failed) {
+                failures++;
+            }
+            next = (next + 1) % outcomes.length;
+            if (calls >= properties.minimumCalls() && (double) failures / calls >= properties.failureRateThreshold()) {
+                open();
+            }
+        }
+    }
+
+    private synchronized void open() {
+        if (state != State.OPEN) {
+            log.warn("서킷 열림: {} (실패 {}/{})", name, failures, calls);
+        }
+        openedAt = nanoClock.getAsLong();
+        state = State.OPEN;
+    }
+
+    private synchronized void close() {
+        next = 0;
+        calls = 0;
+        failures = 0;
+        state = State.CLOSED;
+        log.info("서킷 닫힘: {}", name);
+    }
+}
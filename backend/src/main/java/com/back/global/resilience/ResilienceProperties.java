@@ -0,0 +1,47 @@
+package com.back.global.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 과부하 보호 설정 (엔드포인트별 동시 처리 한도, DB / Redis 서킷 브레이커).
+ */
+@ConfigurationProperties(prefix = "resilience")
+public record ResilienceProperties(
+        @DefaultValue Limiter limiter,
+        @DefaultValue Breaker database,
+        @DefaultValue Breaker redis
+) {
+
+    /**
+     * @param initialLimit 시작 동시 처리 한도
+     * @param rttTolerance 최근 지연이 기준 지연의 몇 배까지 늘어도 한도를 줄이지 않을지
+     * @param smoothing    한 번의 측정으로 한도가 움직이는 비율 (0~1)
+     */
+    public record Limiter(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("200") int maxLimit,
+            @DefaultValue("2.0") double rttTolerance,
+            @DefaultValue("0.2") double smoothing
+    ) {
+    }
+
+    /**
+     * @param windowSize           실패율을 계산할 최근 호출 수
+     * @param minimumCalls         이만큼 호출이 쌓이기 전에는 열지 않는다
+     * @param failureRateThreshold 실패(예외 또는 slowCallThreshold 초과) 비율이 이 이상이면 연다
+     * @param openDuration         열린 뒤 시험 호출 하나를 허용하기까지의 시간
+     */
+    public record Breaker(
+            @DefaultValue("50") int windowSize,
+            @DefaultValue("20") int minimumCalls,
+            @DefaultValue("0.5") double failureRateThreshold,
+            @DefaultValue("1s") Duration slowCallThreshold,
+            @DefaultValue("10s") Duration openDuration
+    ) {
+    }
+}
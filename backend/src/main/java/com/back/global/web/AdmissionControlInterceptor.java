@@ -0,0 +1,83 @@
+package com.back.global.web;
+
+import com.back.global.error.exception.ServiceOverloadedException;
+import com.back.global.resilience.AdaptiveConcurrencyLimiter;
+import com.back.global.resilience.ResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 엔드포인트(매핑 패턴)별 동시 처리 한도를 적용한다.
+ * 한도를 넘으면 DB 커넥션이나 요청 스레드를 기다리게 하지 않고 바로 503(C003)으로 거절한다.
+ * <ul>
+ *   <li>resilience.limiter.limit{endpoint} - 현재 한도</li>
+ *   <li>resilience.limiter.rejected{endpoint} - 거절 수</li>
+ * </ul>
+ */
+@Component
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+    private static final String LIMITER_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".limiter";
+
+    private final ResilienceProperties.Limiter properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    public AdmissionControlInterceptor(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties.limiter();
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.enabled() || !(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Endpoint endpoint = endpoints.computeIfAbsent(String.valueOf(pattern), this::createEndpoint);
+        if (!endpoint.limiter().tryAcquire()) {
+            endpoint.rejected().increment();
+            throw new ServiceOverloadedException();
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        request.setAttribute(LIMITER_ATTRIBUTE, endpoint.limiter());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(LIMITER_ATTRIBUTE) instanceof AdaptiveConcurrencyLimiter limiter)) {
+            return;
+        }
+        request.removeAttribute(LIMITER_ATTRIBUTE);
+        long rtt = System.nanoTime() - (long) request.getAttribute(START_ATTRIBUTE);
+        limiter.release(rtt, ex != null || response.getStatus() >= 500);
+    }
+
+    private Endpoint createEndpoint(String pattern) {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+        Gauge.builder("resilience.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("엔드포인트별 동시 처리 한도")
+                .tag("endpoint", pattern)
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("resilience.limiter.rejected")
+                .description("동시 처리 한도 초과로 거절한 요청 수")
+                .tag("endpoint", pattern)
+                .register(meterRegistry);
+        return new Endpoint(limiter, rejected);
+    }
+
+    private record Endpoint(AdaptiveConcurrencyLimiter limiter, Counter rejected) {
+    }
+}
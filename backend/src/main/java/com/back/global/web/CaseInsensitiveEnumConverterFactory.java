@@ -0,0 +1,25 @@
+package com.back.global.web;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+
+import java.util.Locale;
+
+/**
+ * 요청 파라미터 문자열 -> enum 변환 (대소문자 무시, ?order=asc, ?level=province).
+ * 알 수 없는 값은 IllegalArgumentException -> MethodArgumentTypeMismatchException -> 400(C002)으로 거절한다.
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class CaseInsensitiveEnumConverterFactory implements ConverterFactory<String, Enum> {
+
+    @Override
+    public <T extends Enum> Converter<String, T> getConverter(Class<T> targetType) {
+        return source -> {
+            String value = source.trim();
+            if (value.isEmpty()) {
+                return null;
+            }
+            return (T) Enum.valueOf(targetType, value.toUpperCase(Locale.ROOT));
+        };
+    }
+}
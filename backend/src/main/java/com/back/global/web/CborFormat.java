@@ -0,0 +1,38 @@
+package com.back.global.web;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * JSON 대신 쓰는 압축 바이너리 형식 (CBOR).
+ * stringref(태그 256)를 켜서 한 본문 안에서 반복되는 문자열(필드 이름, 등급 enum, 구 이름 등)은
+ * 처음 한 번만 쓰고 이후에는 인덱스로 참조한다. DTO를 바꾸지 않고 사전 인코딩 효과를 얻는다.
+ */
+public final class CborFormat {
+
+    public static final MediaType MEDIA_TYPE = MediaType.APPLICATION_CBOR;
+
+    private CborFormat() {
+    }
+
+    public static CBORFactory factory() {
+        return CBORFactory.builder()
+                .enable(CBORGenerator.Feature.STRINGREF)
+                .build();
+    }
+
+    // Accept에 application/cbor가 명시된 경우만 (*/* 는 기존처럼 JSON)
+    public static boolean accepts(String acceptHeader) {
+        if (acceptHeader == null || !acceptHeader.contains("cbor")) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(acceptHeader).stream()
+                    .anyMatch(mediaType -> mediaType.equalsTypeAndSubtype(MEDIA_TYPE));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.back.global.web;
+
+import com.back.global.cache.SingleFlight;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화(+gzip)가 끝난 응답 바이트를 데이터 버전별로 캐시한다.
+ * 같은 버전이면 본문이 바뀌지 않으므로 버전 기반 강한 ETag를 내려주고,
+ * If-None-Match / If-Modified-Since가 일치하면 서비스 호출과 직렬화 없이 304로 응답한다.
+ * Accept: application/cbor 요청에는 같은 본문을 CBOR로 인코딩해 따로 캐시한다.
+ */
+@Component
+public class EncodedResponseCache {
+
+    public static final String STALE_SINCE_HEADER = "X-Data-Stale-Since";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final Cache<String, EncodedBody> cache;
+    private final Timer encodeTimer;
+    private final Timer cborEncodeTimer;
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    public EncodedResponseCache(ObjectMapper objectMapper, MappingJackson2CborHttpMessageConverter cborConverter,
+                                MeterRegistry meterRegistry,
+                                @Value("${web.response-cache.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.encodeTimer = encodeTimer(meterRegistry, "json");
+        this.cborEncodeTimer = encodeTimer(meterRegistry, "cbor");
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, EncodedBody body) -> key.length() + body.identity().length + body.gzip().length)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build();
+    }
+
+    /**
+     * @param key          응답을 구분하는 키 (엔드포인트 + 파라미터)
+     * @param version      본문을 만든 데이터 버전 (같은 버전이면 같은 본문), 모르면 0
+     * @param lastModified 데이터 최종 변경 시각(epoch ms), 모르면 -1
+     * @param bodySupplier 캐시에 없을 때만 호출
+     * @return 조건부 요청이 일치하면 null (304는 WebRequest가 이미 기록함)
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, String key, long version, long lastModified,
+                                          Supplier<?> bodySupplier) {
+        boolean gzip = acceptsGzip(request);
+        boolean cbor = CborFormat.accepts(request.getHeader(HttpHeaders.ACCEPT));
+        if (version <= 0) {
+            // 버전을 모르면 본문이 언제 바뀌는지도 모르므로 캐시하지 않고 ETag도 주지 않는다
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .contentType(cbor ? CborFormat.MEDIA_TYPE : MediaType.APPLICATION_JSON)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+            return withBody(builder, encode(cbor, bodySupplier.get()), gzip);
+        }
+        String etag = etag(key, version, gzip, cbor);
+        if (request.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+
+        EncodedBody body = getOrEncode(key + "@" + version + (cbor ? "#cbor" : ""), cbor, bodySupplier);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(cbor ? CborFormat.MEDIA_TYPE : MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (lastModified > 0) {
+            builder.lastModified(lastModified);
+        }
+        return withBody(builder, body, gzip);
+    }
+
+    /**
+     * 장애 중 대체 응답: 캐시하지 않고, ETag 없이 오래된 데이터임을 헤더로 알린다.
+     * Warning: 110 (Response is Stale), X-Data-Stale-Since: 본문을 마지막으로 정상 조회한 시각
+     */
+    public ResponseEntity<byte[]> respondStale(WebRequest request, Object value, Instant staleSince) {
+        boolean gzip = acceptsGzip(request);
+        boolean cbor = CborFormat.accepts(request.getHeader(HttpHeaders.ACCEPT));
+        EncodedBody body = encode(cbor, value);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(cbor ? CborFormat.MEDIA_TYPE : MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noStore())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .header("Warning", "110 - \"Response is Stale\"")
+                .header(STALE_SINCE_HEADER, staleSince.toString());
+        return withBody(builder, body, gzip);
+    }
+
+    private static ResponseEntity<byte[]> withBody(ResponseEntity.BodyBuilder builder, EncodedBody body, boolean gzip) {
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return builder.body(body.identity());
+    }
+
+    /*
+     * Caffeine의 get(key, loader)는 loader를 ConcurrentHashMap 잠금 안에서 실행한다.
+     * loader(서비스 호출)가 DB/Redis I/O를 하므로, 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않도록
+     * 잠금 밖에서 만들고 같은 키의 동시 생성은 SingleFlight로 합친다.
+     */
+    private EncodedBody getOrEncode(String cacheKey, boolean cbor, Supplier<?> bodySupplier) {
+        EncodedBody cached = cache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return (EncodedBody) singleFlight.execute(cacheKey, () -> {
+                EncodedBody body = encode(cbor, bodySupplier.get());
+                cache.put(cacheKey, body);
+                return body;
+            });
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("응답 생성 실패", e);
+        }
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    private EncodedBody encode(boolean cbor, Object value) {
+        return cbor ? encode(cborMapper, cborEncodeTimer, value) : encode(objectMapper, encodeTimer, value);
+    }
+
+    private static EncodedBody encode(ObjectMapper mapper, Timer timer, Object value) {
+        long start = System.nanoTime();
+        try {
+            byte[] identity = mapper.writeValueAsBytes(value);
+            return new EncodedBody(identity, gzip(identity));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화 실패", e);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer encodeTimer(MeterRegistry meterRegistry, String format) {
+        return Timer.builder("web.response.encode")
+                .description("응답 본문 직렬화 + gzip 시간 (캐시 미스만)")
+                .tag("format", format)
+                .register(meterRegistry);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static boolean acceptsGzip(WebRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    // 형식, 인코딩마다 바이트가 다르므로 ETag도 구분한다
+    private static String etag(String key, long version, boolean gzip, boolean cbor) {
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return "\"" + Long.toHexString(version) + "-" + Long.toHexString(crc.getValue())
+                + (cbor ? "-cbor" : "") + (gzip ? "-gz" : "") + "\"";
+    }
+
+    private record EncodedBody(byte[] identity, byte[] gzip) {
+    }
+}
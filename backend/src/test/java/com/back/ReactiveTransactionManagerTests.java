@@ -0,0 +1,74 @@
+package com.back;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.transaction.TransactionManager;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * reactive 프로필의 spring.autoconfigure.exclude가 R2DBC 트랜잭션 매니저를 막는지 확인한다.
+ * 전체 컨텍스트(DB, Redis 필요) 대신 트랜잭션 관련 자동 설정만 올린다. JPA transactionManager 자리는
+ * 내장 H2 위의 DataSourceTransactionManager가 대신한다.
+ * ApplicationContextRunner는 exclude 속성을 읽지 않으므로 프로필 파일의 목록을 직접 읽어 자동 설정에서 뺀다.
+ */
+class ReactiveTransactionManagerTests {
+
+    private static final List<Class<?>> AUTO_CONFIGURATIONS = List.of(
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            TransactionAutoConfiguration.class,
+            R2dbcAutoConfiguration.class,
+            R2dbcTransactionManagerAutoConfiguration.class
+    );
+
+    @Test
+    void reactiveProfileKeepsSingleTransactionManager() throws IOException {
+        Properties profile = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-reactive.properties"));
+        Set<String> excluded = Arrays.stream(profile.getProperty("spring.autoconfigure.exclude").split(","))
+                .map(String::trim)
+                .collect(Collectors.toSet());
+
+        contextRunner(AUTO_CONFIGURATIONS.stream().filter(type -> !excluded.contains(type.getName())).toList(), profile)
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    // R2DBC 트랜잭션 매니저가 켜지면 @Transactional이 어느 매니저를 쓸지 정하지 못한다
+                    assertThat(context.getBeansOfType(TransactionManager.class)).containsOnlyKeys("transactionManager");
+                });
+    }
+
+    @Test
+    void withoutExclusionR2dbcAddsSecondTransactionManager() throws IOException {
+        Properties profile = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-reactive.properties"));
+
+        // 위 테스트가 의미 있는지 확인: 제외 목록이 없으면 두 개가 된다
+        contextRunner(AUTO_CONFIGURATIONS, profile)
+                .run(context -> assertThat(context.getBeansOfType(TransactionManager.class)).hasSize(2));
+    }
+
+    private static ApplicationContextRunner contextRunner(List<Class<?>> autoConfigurations, Properties profile) {
+        return new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(autoConfigurations.toArray(Class<?>[]::new)))
+                .withPropertyValues(
+                        "spring.datasource.url=jdbc:h2:mem:reactive-profile",
+                        "spring.r2dbc.url=" + profile.getProperty("spring.r2dbc.url"),
+                        // 커넥션은 만들지 않는다 (풀을 쓰지 않으면 ConnectionFactory는 첫 create()까지 접속하지 않는다)
+                        "spring.r2dbc.pool.enabled=false"
+                );
+    }
+}
@@ -0,0 +1,162 @@
+package com.back.domain.geometry.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RegionSpatialIndexTest {
+
+    // 서울 부근 0.01도 정사각형 5 x 5 격자 + 떨어진 동 하나. 격자 동은 변/꼭짓점을 공유한다
+    private static final int GRID = 5;
+    private static final double CELL = 0.01;
+    private static final double LON0 = 126.90;
+    private static final double LAT0 = 37.50;
+    private static final String ISOLATED = "99999999";
+
+    private static final List<RegionGeometry> REGIONS = regions();
+    private static final RegionSpatialIndex INDEX = RegionSpatialIndex.build(REGIONS);
+
+    // 질의 지점: 격자 안, 격자 경계, 격자 밖
+    private static final double[][] QUERIES = {
+            {126.913, 37.517}, {126.925, 37.525}, {126.90, 37.50}, {126.88, 37.56}, {127.10, 37.40}
+    };
+
+    @Test
+    void nearestMatchesBruteForce() {
+        for (double[] query : QUERIES) {
+            for (int k = 1; k <= REGIONS.size(); k++) {
+                List<Double> expected = bruteForce(query).stream().limit(k).toList();
+                List<Double> actual = INDEX.nearest(query[0], query[1], k).stream()
+                        .map(RegionSpatialIndex.Neighbor::distanceKm)
+                        .toList();
+                // 같은 거리의 동은 순서가 정해지지 않으므로 거리 목록으로 비교한다
+                assertThat(actual).as("query=%s, k=%d", List.of(query[0], query[1]), k).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void nearestWithKLargerThanPointCountReturnsAll() {
+        List<RegionSpatialIndex.Neighbor> all = INDEX.nearest(126.913, 37.517, REGIONS.size() + 10);
+
+        assertThat(all).hasSize(REGIONS.size());
+        assertThat(all).extracting(RegionSpatialIndex.Neighbor::distanceKm).isSorted();
+        assertThat(all.get(all.size() - 1).admCode()).isEqualTo(ISOLATED);
+    }
+
+    @Test
+    void withinMatchesBruteForce() {
+        for (double[] query : QUERIES) {
+            for (double radiusKm : new double[]{0.3, 1.0, 2.5, 50.0}) {
+                Set<String> expected = new TreeSet<>();
+                for (RegionGeometry region : REGIONS) {
+                    if (INDEX.distanceKm(query[0], query[1], region.getAdmCode()) <= radiusKm) {
+                        expected.add(region.getAdmCode());
+                    }
+                }
+                List<RegionSpatialIndex.Neighbor> actual = INDEX.within(query[0], query[1], radiusKm);
+
+                assertThat(actual).extracting(RegionSpatialIndex.Neighbor::admCode)
+                        .as("query=%s, radiusKm=%s", List.of(query[0], query[1]), radiusKm)
+                        .containsExactlyInAnyOrderElementsOf(expected);
+                assertThat(actual).extracting(RegionSpatialIndex.Neighbor::distanceKm).isSorted();
+            }
+        }
+    }
+
+    @Test
+    void zeroRadiusReturnsOnlyRegionAtQueryPoint() {
+        RegionGeometry center = REGIONS.get(12);
+
+        assertThat(INDEX.within(center.getCentroidLon(), center.getCentroidLat(), 0))
+                .extracting(RegionSpatialIndex.Neighbor::admCode)
+                .containsExactly(center.getAdmCode());
+        assertThat(INDEX.within(center.getCentroidLon() + CELL / 3, center.getCentroidLat(), 0)).isEmpty();
+    }
+
+    @Test
+    void distanceAgreesWithHaversine() {
+        double[] from = {126.913, 37.517};
+        for (RegionGeometry region : REGIONS) {
+            double haversine = haversineKm(from[0], from[1], region.getCentroidLon(), region.getCentroidLat());
+            double planar = INDEX.distanceKm(from[0], from[1], region.getAdmCode());
+
+            assertThat(planar).as(region.getAdmCode()).isCloseTo(haversine, within(Math.max(0.005 * haversine, 1e-6)));
+        }
+    }
+
+    @Test
+    void centroidIsSquareCenter() {
+        double[] centroid = INDEX.centroidOf(code(2, 3));
+
+        assertThat(centroid[0]).isCloseTo(LON0 + 2.5 * CELL, within(1e-6));
+        assertThat(centroid[1]).isCloseTo(LAT0 + 3.5 * CELL, within(1e-6));
+        assertThat(INDEX.centroidOf("00000000")).isNull();
+        assertThat(INDEX.distanceKm(126.9, 37.5, "00000000")).isNaN();
+    }
+
+    @Test
+    void adjacencyMatchesSharedEdgesAndCorners() {
+        for (int i = 0; i < GRID; i++) {
+            for (int j = 0; j < GRID; j++) {
+                List<String> expected = new ArrayList<>();
+                for (int di = -1; di <= 1; di++) {
+                    for (int dj = -1; dj <= 1; dj++) {
+                        int ni = i + di;
+                        int nj = j + dj;
+                        if ((di != 0 || dj != 0) && ni >= 0 && ni < GRID && nj >= 0 && nj < GRID) {
+                            expected.add(code(ni, nj));
+                        }
+                    }
+                }
+                assertThat(INDEX.adjacentTo(code(i, j))).as(code(i, j)).containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+        assertThat(INDEX.adjacentTo(ISOLATED)).isEmpty();
+        assertThat(INDEX.adjacentTo("00000000")).isEmpty();
+    }
+
+    private static List<Double> bruteForce(double[] query) {
+        return REGIONS.stream()
+                .map(region -> INDEX.distanceKm(query[0], query[1], region.getAdmCode()))
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+
+    private static double haversineKm(double lon1, double lat1, double lon2, double lat2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.pow(Math.sin(dLat / 2), 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.pow(Math.sin(dLon / 2), 2);
+        return 2 * 6371.0 * Math.asin(Math.sqrt(a));
+    }
+
+    private static List<RegionGeometry> regions() {
+        List<RegionGeometry> regions = new ArrayList<>();
+        for (int i = 0; i < GRID; i++) {
+            for (int j = 0; j < GRID; j++) {
+                regions.add(square(code(i, j), LON0 + i * CELL, LAT0 + j * CELL));
+            }
+        }
+        regions.add(square(ISOLATED, 127.30, 37.80));
+        return regions;
+    }
+
+    private static String code(int i, int j) {
+        return String.format("111%d%d000", i, j);
+    }
+
+    private static RegionGeometry square(String admCode, double lon, double lat) {
+        double[][] ring = {
+                {lon, lat}, {lon + CELL, lat}, {lon + CELL, lat + CELL}, {lon, lat + CELL}, {lon, lat}
+        };
+        return new RegionGeometry(admCode, admCode, new double[][][][]{{ring}});
+    }
+}
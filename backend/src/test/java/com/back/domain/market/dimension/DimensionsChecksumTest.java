@@ -0,0 +1,45 @@
+package com.back.domain.market.dimension;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DimensionsChecksumTest {
+
+    private static final long[] IDS = {1, 2};
+
+    @Test
+    void sameRowsGiveSameChecksum() {
+        assertThat(Dimensions.checksum(IDS, new String[]{"카페", "한식"}))
+                .isEqualTo(Dimensions.checksum(new long[]{1, 2}, new String[]{"카페", "한식"}));
+    }
+
+    @Test
+    void renameChangesChecksum() {
+        // 행 수가 같아도 이름이 바뀌면 다시 읽어야 한다
+        assertThat(Dimensions.checksum(IDS, new String[]{"카페", "한식"}))
+                .isNotEqualTo(Dimensions.checksum(IDS, new String[]{"카페", "중식"}));
+    }
+
+    @Test
+    void idChangeChangesChecksum() {
+        assertThat(Dimensions.checksum(IDS, new String[]{"카페", "한식"}))
+                .isNotEqualTo(Dimensions.checksum(new long[]{1, 3}, new String[]{"카페", "한식"}));
+    }
+
+    @Test
+    void columnBoundariesAndNullsAreDistinguished() {
+        long[] id = {1};
+        assertThat(Dimensions.checksum(id, new String[]{"ab"}, new String[]{"c"}))
+                .isNotEqualTo(Dimensions.checksum(id, new String[]{"a"}, new String[]{"bc"}));
+        assertThat(Dimensions.checksum(id, new String[]{null}))
+                .isNotEqualTo(Dimensions.checksum(id, new String[]{""}));
+    }
+
+    @Test
+    void checksumIsAlwaysPositive() {
+        // 0은 "버전 모름"이라 응답 캐시를 건너뛴다
+        assertThat(Dimensions.checksum(new long[0])).isPositive();
+        assertThat(Dimensions.checksum(IDS, new String[]{"카페", "한식"})).isPositive();
+    }
+}
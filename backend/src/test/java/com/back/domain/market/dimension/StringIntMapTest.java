@@ -0,0 +1,121 @@
+package com.back.domain.market.dimension;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StringIntMapTest {
+
+    @Test
+    void returnsIndexOfEachKey() {
+        StringIntMap map = new StringIntMap(new String[]{"11110515", "11110530", "11110540"});
+
+        assertThat(map.get("11110515")).isEqualTo(0);
+        assertThat(map.get("11110530")).isEqualTo(1);
+        assertThat(map.get("11110540")).isEqualTo(2);
+    }
+
+    @Test
+    void missingKeysReturnMinusOne() {
+        StringIntMap map = new StringIntMap(new String[]{"Aa", "x"});
+
+        assertThat(map.get("y")).isEqualTo(-1);
+        assertThat(map.get("")).isEqualTo(-1);
+        assertThat(map.get(null)).isEqualTo(-1);
+        // 같은 해시의 다른 키 ("Aa"와 "BB"는 hashCode가 같다)
+        assertThat(map.get("BB")).isEqualTo(-1);
+    }
+
+    @Test
+    void emptyMapFindsNothing() {
+        StringIntMap map = new StringIntMap(new String[0]);
+
+        assertThat(map.get("11110515")).isEqualTo(-1);
+    }
+
+    @Test
+    void skipsNullKeys() {
+        StringIntMap map = new StringIntMap(new String[]{null, "a", null, "b"});
+
+        assertThat(map.get("a")).isEqualTo(1);
+        assertThat(map.get("b")).isEqualTo(3);
+    }
+
+    @Test
+    void separatesKeysWithSameHashCode() {
+        List<String> colliding = colliding("", 6); // 64개, 모두 같은 hashCode
+        StringIntMap map = new StringIntMap(colliding.toArray(String[]::new));
+
+        for (int i = 0; i < colliding.size(); i++) {
+            assertThat(map.get(colliding.get(i))).as(colliding.get(i)).isEqualTo(i);
+        }
+        assertThat(map.get(colliding.get(0) + "Aa")).isEqualTo(-1);
+    }
+
+    @Test
+    void probesWrapAroundTheEndOfTheTable() {
+        // 같은 해시 키 64개가 표(256칸)의 끝 근처에서 시작하면 탐사가 처음 칸으로 넘어간다
+        String prefix = null;
+        for (int i = 0; prefix == null; i++) {
+            String candidate = "p" + i;
+            if (slotOf(candidate + "Aa".repeat(6), 255) > 255 - 32) {
+                prefix = candidate;
+            }
+        }
+        List<String> colliding = colliding(prefix, 6);
+        StringIntMap map = new StringIntMap(colliding.toArray(String[]::new));
+
+        for (int i = 0; i < colliding.size(); i++) {
+            assertThat(map.get(colliding.get(i))).as(colliding.get(i)).isEqualTo(i);
+        }
+        assertThat(map.get(prefix)).isEqualTo(-1);
+    }
+
+    @Test
+    void sizesTableForAnyKeyCount() {
+        // 2의 거듭제곱 경계 전후와 전국 행정동 규모
+        for (int size : new int[]{1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17, 1023, 1024, 1025, 3600}) {
+            String[] keys = new String[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = String.format("%08d", 11_000_000 + i * 7);
+            }
+            StringIntMap map = new StringIntMap(keys);
+
+            for (int i = 0; i < size; i++) {
+                assertThat(map.get(keys[i])).as("size=%d, key=%s", size, keys[i]).isEqualTo(i);
+            }
+            assertThat(map.get("99999999")).as("size=%d", size).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void duplicateKeyKeepsLastIndex() {
+        StringIntMap map = new StringIntMap(new String[]{"a", "b", "a"});
+
+        assertThat(map.get("a")).isEqualTo(2);
+        assertThat(map.get("b")).isEqualTo(1);
+    }
+
+    // prefix 뒤에 "Aa" / "BB"를 pairs번 이어 붙인 2^pairs개 키 (모두 hashCode가 같다)
+    private static List<String> colliding(String prefix, int pairs) {
+        List<String> keys = new ArrayList<>(List.of(prefix));
+        for (int p = 0; p < pairs; p++) {
+            List<String> next = new ArrayList<>();
+            for (String key : keys) {
+                next.add(key + "Aa");
+                next.add(key + "BB");
+            }
+            keys = next;
+        }
+        return keys;
+    }
+
+    // StringIntMap과 같은 시작 칸 계산
+    private static int slotOf(String key, int mask) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
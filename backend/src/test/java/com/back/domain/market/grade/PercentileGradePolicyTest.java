@@ -0,0 +1,85 @@
+package com.back.domain.market.grade;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidGradePolicyException;
+import org.junit.jupiter.api.Test;
+
+import static com.back.domain.market.entity.MarketGrade.GREEN;
+import static com.back.domain.market.entity.MarketGrade.RED;
+import static com.back.domain.market.entity.MarketGrade.YELLOW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PercentileGradePolicyTest {
+
+    @Test
+    void gradesTopAndBottomRatios() {
+        double[] values = {10, 50, 20, 40, 30};
+
+        assertThat(grade(new PercentileGradePolicy(0.2, 0.2), values))
+                .containsExactly(RED, GREEN, YELLOW, YELLOW, YELLOW);
+    }
+
+    @Test
+    void tiesAtCutoffShareTheGrade() {
+        // 상위 1개 / 하위 1개 비율이지만 경계값과 같은 값은 모두 같은 등급
+        double[] values = {5, 1, 3, 5, 1};
+
+        assertThat(grade(new PercentileGradePolicy(0.2, 0.2), values))
+                .containsExactly(GREEN, RED, YELLOW, GREEN, RED);
+    }
+
+    @Test
+    void singleElementGroupStaysYellowWhenRatioRoundsToZero() {
+        assertThat(grade(new PercentileGradePolicy(0.2, 0.2), new double[]{123}))
+                .containsExactly(YELLOW);
+    }
+
+    @Test
+    void singleElementGroupTakesGreenWhenWholeGroupIsGreen() {
+        assertThat(grade(new PercentileGradePolicy(1.0, 0.0), new double[]{123}))
+                .containsExactly(GREEN);
+    }
+
+    @Test
+    void gradesOnlyTheGivenRange() {
+        double[] values = {999, 1, 2, 3, 4, 5, -999};
+        byte[] grades = new byte[values.length];
+        grades[0] = (byte) RED.ordinal();
+        grades[6] = (byte) GREEN.ordinal();
+
+        new PercentileGradePolicy(0.2, 0.2).grade(1L, values, grades, 1, 6);
+
+        assertThat(toGrades(grades)).containsExactly(RED, RED, YELLOW, YELLOW, YELLOW, GREEN, GREEN);
+    }
+
+    @Test
+    void zeroStoreRowUsesEngineRule() {
+        // 점포 0개는 1개로 본다: 유동인구 그대로가 점포당 유동인구
+        double[] values = {PopulationPerStore.of(800, 0), PopulationPerStore.of(800, 4), PopulationPerStore.of(800, 8)};
+
+        assertThat(values).containsExactly(800.0, 200.0, 100.0);
+        assertThat(grade(new PercentileGradePolicy(0.34, 0.34), values))
+                .containsExactly(GREEN, YELLOW, RED);
+    }
+
+    @Test
+    void rejectsRatiosOverOne() {
+        assertThatThrownBy(() -> new PercentileGradePolicy(0.6, 0.5))
+                .isInstanceOf(InvalidGradePolicyException.class);
+    }
+
+    private static MarketGrade[] grade(GradePolicy policy, double[] values) {
+        byte[] grades = new byte[values.length];
+        policy.grade(1L, values, grades, 0, values.length);
+        return toGrades(grades);
+    }
+
+    private static MarketGrade[] toGrades(byte[] grades) {
+        MarketGrade[] result = new MarketGrade[grades.length];
+        for (int i = 0; i < grades.length; i++) {
+            result[i] = MarketGrade.values()[grades[i]];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,66 @@
+package com.back.domain.market.grade;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidGradePolicyException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.back.domain.market.entity.MarketGrade.GREEN;
+import static com.back.domain.market.entity.MarketGrade.RED;
+import static com.back.domain.market.entity.MarketGrade.YELLOW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThresholdGradePolicyTest {
+
+    private static final ThresholdGradePolicy.Thresholds DEFAULTS = new ThresholdGradePolicy.Thresholds(500, 100);
+
+    @Test
+    void boundaryValuesBelongToTheOuterGrades() {
+        ThresholdGradePolicy policy = new ThresholdGradePolicy(DEFAULTS, Map.of());
+
+        assertThat(grade(policy, 1L, 500, 499.99, 100.01, 100))
+                .containsExactly(GREEN, YELLOW, YELLOW, RED);
+    }
+
+    @Test
+    void categoryThresholdsOverrideDefaults() {
+        ThresholdGradePolicy policy = new ThresholdGradePolicy(DEFAULTS,
+                Map.of(7L, new ThresholdGradePolicy.Thresholds(1000, 300)));
+
+        assertThat(grade(policy, 7L, 600, 300)).containsExactly(YELLOW, RED);
+        assertThat(grade(policy, 1L, 600, 300)).containsExactly(GREEN, YELLOW);
+    }
+
+    @Test
+    void singleElementGroup() {
+        ThresholdGradePolicy policy = new ThresholdGradePolicy(DEFAULTS, Map.of());
+
+        assertThat(grade(policy, 1L, 250)).containsExactly(YELLOW);
+    }
+
+    @Test
+    void zeroStoreRowIsGradedByPopulationAlone() {
+        ThresholdGradePolicy policy = new ThresholdGradePolicy(DEFAULTS, Map.of());
+
+        assertThat(grade(policy, 1L, PopulationPerStore.of(500, 0), PopulationPerStore.of(0, 0)))
+                .containsExactly(GREEN, RED);
+    }
+
+    @Test
+    void rejectsInvertedThresholds() {
+        assertThatThrownBy(() -> new ThresholdGradePolicy(new ThresholdGradePolicy.Thresholds(100, 500), Map.of()))
+                .isInstanceOf(InvalidGradePolicyException.class);
+    }
+
+    private static MarketGrade[] grade(GradePolicy policy, long categoryId, double... values) {
+        byte[] grades = new byte[values.length];
+        policy.grade(categoryId, values, grades, 0, values.length);
+        MarketGrade[] result = new MarketGrade[grades.length];
+        for (int i = 0; i < grades.length; i++) {
+            result[i] = MarketGrade.values()[grades[i]];
+        }
+        return result;
+    }
+}
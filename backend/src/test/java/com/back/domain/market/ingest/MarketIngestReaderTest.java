@@ -0,0 +1,138 @@
+package com.back.domain.market.ingest;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidIngestDataException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MarketIngestReaderTest {
+
+    @Test
+    void readsCsvRowsByHeaderName() throws IOException {
+        // BOM, 순서가 바뀐 컬럼, 빈 줄, 큰따옴표로 감싼 값, 비어 있는 선택 값
+        String csv = """
+                \uFEFFmarket_grade,region_id,category_id,store_count,floating_population,age_group
+                GREEN,1,2,10,5000,"20대,30대"
+
+                RED,3,4,,800,
+                """;
+
+        List<MarketIngestRow> rows = readAll(MarketIngestFormat.CSV, csv);
+
+        assertThat(rows).containsExactly(
+                new MarketIngestRow(1L, 2L, 10, 5000, null, null, "20대,30대", null, MarketGrade.GREEN),
+                new MarketIngestRow(3L, 4L, null, 800, null, null, null, null, MarketGrade.RED));
+    }
+
+    @Test
+    void headerOnlyCsvHasNoRows() throws IOException {
+        assertThat(readAll(MarketIngestFormat.CSV, "region_id,category_id\n")).isEmpty();
+        assertThat(readAll(MarketIngestFormat.CSV, "")).isEmpty();
+    }
+
+    @Test
+    void rejectsCsvRowWithoutRequiredValue() {
+        String csv = "region_id,category_id,floating_population,market_grade\n1,2,,GREEN\n";
+
+        assertThatThrownBy(() -> readAll(MarketIngestFormat.CSV, csv)).isInstanceOf(InvalidIngestDataException.class);
+    }
+
+    @Test
+    void rejectsCsvRowWithMalformedValue() {
+        String badNumber = "region_id,category_id,floating_population,market_grade\n1,x,100,GREEN\n";
+        String badGrade = "region_id,category_id,floating_population,market_grade\n1,2,100,BLUE\n";
+
+        assertThatThrownBy(() -> readAll(MarketIngestFormat.CSV, badNumber)).isInstanceOf(InvalidIngestDataException.class);
+        assertThatThrownBy(() -> readAll(MarketIngestFormat.CSV, badGrade)).isInstanceOf(InvalidIngestDataException.class);
+    }
+
+    @Test
+    void readsNdjsonRows() throws IOException {
+        String ndjson = """
+                {"region_id":1,"category_id":2,"store_count":10,"floating_population":5000,"male_population":2600,"female_population":2400,"age_group":"30대","population_per_store":500.0,"market_grade":"GREEN"}
+                {"region_id":3,"category_id":4,"floating_population":800,"market_grade":"RED"}
+                """;
+
+        List<MarketIngestRow> rows = readAll(MarketIngestFormat.NDJSON, ndjson);
+
+        assertThat(rows).containsExactly(
+                new MarketIngestRow(1L, 2L, 10, 5000, 2600, 2400, "30대", 500.0, MarketGrade.GREEN),
+                new MarketIngestRow(3L, 4L, null, 800, null, null, null, null, MarketGrade.RED));
+    }
+
+    @Test
+    void rejectsNdjsonRowWithoutRequiredValue() {
+        String ndjson = "{\"region_id\":1,\"floating_population\":800,\"market_grade\":\"RED\"}\n";
+
+        assertThatThrownBy(() -> readAll(MarketIngestFormat.NDJSON, ndjson)).isInstanceOf(InvalidIngestDataException.class);
+    }
+
+    @Test
+    void rejectsMalformedNdjson() {
+        String ndjson = "{\"region_id\":1,\"category_id\":2,\"floating_population\":800,\"market_grade\":\"RED\"}\n{\"region_id\":";
+
+        assertThatThrownBy(() -> readAll(MarketIngestFormat.NDJSON, ndjson)).isInstanceOf(InvalidIngestDataException.class);
+    }
+
+    @Test
+    void rowNeedsRegionCategoryPopulationAndGrade() {
+        assertThat(new MarketIngestRow(1L, 2L, null, 0, null, null, null, null, MarketGrade.YELLOW).isValid()).isTrue();
+        assertThat(new MarketIngestRow(null, 2L, 10, 100, null, null, null, null, MarketGrade.YELLOW).isValid()).isFalse();
+        assertThat(new MarketIngestRow(1L, null, 10, 100, null, null, null, null, MarketGrade.YELLOW).isValid()).isFalse();
+        assertThat(new MarketIngestRow(1L, 2L, 10, null, null, null, null, null, MarketGrade.YELLOW).isValid()).isFalse();
+        assertThat(new MarketIngestRow(1L, 2L, 10, 100, null, null, null, null, null).isValid()).isFalse();
+    }
+
+    @Test
+    void splitsPlainFields() {
+        assertThat(MarketIngestReader.Csv.split("1,2,GREEN")).containsExactly("1", "2", "GREEN");
+    }
+
+    @Test
+    void keepsCommasInsideQuotes() {
+        assertThat(MarketIngestReader.Csv.split("1,\"20대,30대\",GREEN"))
+                .containsExactly("1", "20대,30대", "GREEN");
+    }
+
+    @Test
+    void unescapesDoubledQuotes() {
+        assertThat(MarketIngestReader.Csv.split("\"say \"\"hi\"\"\",x"))
+                .containsExactly("say \"hi\"", "x");
+    }
+
+    @Test
+    void keepsTrailingEmptyFields() {
+        assertThat(MarketIngestReader.Csv.split("a,b,,")).containsExactly("a", "b", "", "");
+    }
+
+    @Test
+    void keepsEmptyQuotedField() {
+        assertThat(MarketIngestReader.Csv.split("a,\"\",c")).containsExactly("a", "", "c");
+    }
+
+    @Test
+    void emptyLineIsOneEmptyField() {
+        assertThat(MarketIngestReader.Csv.split("")).containsExactly("");
+    }
+
+    private static List<MarketIngestRow> readAll(MarketIngestFormat format, String input) throws IOException {
+        List<MarketIngestRow> rows = new ArrayList<>();
+        try (MarketIngestReader reader = MarketIngestReader.open(format,
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), new ObjectMapper())) {
+            MarketIngestRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,152 @@
+package com.back.domain.market.ingest;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidIngestDataException;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 운영과 같은 SQL을 H2 MariaDB 호환 모드에서 실행한다 (스키마는 market_stats 엔티티 매핑과 같은 컬럼)
+class MarketStagingWriterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 4, 7);
+    private static final LocalDateTime LOADED_AT = DAY.atTime(6, 0);
+
+    private JdbcTemplate jdbcTemplate;
+    private MarketStagingWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:staging-" + System.nanoTime() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writer = new MarketStagingWriter(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+
+        jdbcTemplate.execute("CREATE TABLE regions (region_id BIGINT PRIMARY KEY, adm_code VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE categories (category_id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        // 교체 중 INSERT 실패를 만들기 위해 store_count에 CHECK를 둔다 (CTAS로 만든 스테이징 테이블에는 복사되지 않는다)
+        jdbcTemplate.execute("""
+                CREATE TABLE market_stats (
+                    stats_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    region_id BIGINT NOT NULL,
+                    category_id BIGINT NOT NULL,
+                    store_count INT CHECK (store_count >= 0),
+                    floating_population INT DEFAULT 0 NOT NULL,
+                    male_population INT DEFAULT 0,
+                    female_population INT DEFAULT 0,
+                    age_group VARCHAR(20),
+                    population_per_store DOUBLE,
+                    market_grade VARCHAR(255) NOT NULL,
+                    created_at TIMESTAMP(6),
+                    updated_at TIMESTAMP(6)
+                )
+                """);
+        jdbcTemplate.update("INSERT INTO regions VALUES (1, '11110515'), (2, '11110530')");
+        jdbcTemplate.update("INSERT INTO categories VALUES (1, '카페'), (2, '한식')");
+
+        // 교체 대상 날짜 2건, 전날 1건
+        insertStats(1, 1, 5, DAY.atTime(1, 0));
+        insertStats(2, 1, 7, DAY.atTime(1, 0));
+        insertStats(1, 1, 3, DAY.minusDays(1).atTime(1, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void swapReplacesTheWholeDay() {
+        writer.prepare();
+        writer.write(List.of(row(1, 1, 10), row(1, 2, 20), row(2, 2, 30)), LOADED_AT);
+
+        int replaced = writer.swap(DAY);
+
+        assertThat(replaced).isEqualTo(2);
+        assertThat(storeCountsOn(DAY)).containsExactly(10, 20, 30);
+        assertThat(storeCountsOn(DAY.minusDays(1))).containsExactly(3);
+        assertThat(stagingRows()).isZero();
+    }
+
+    @Test
+    void prepareEmptiesLeftoverStagingRows() {
+        writer.prepare();
+        writer.write(List.of(row(1, 1, 10)), LOADED_AT);
+
+        writer.prepare();
+
+        assertThat(stagingRows()).isZero();
+    }
+
+    @Test
+    void rejectsUnknownRegion() {
+        writer.prepare();
+        writer.write(List.of(row(1, 1, 10), row(99, 1, 20)), LOADED_AT);
+
+        assertThatThrownBy(() -> writer.swap(DAY)).isInstanceOf(InvalidIngestDataException.class);
+        assertThat(storeCountsOn(DAY)).containsExactly(5, 7);
+    }
+
+    @Test
+    void rejectsUnknownCategory() {
+        writer.prepare();
+        writer.write(List.of(row(1, 1, 10), row(2, 99, 20)), LOADED_AT);
+
+        assertThatThrownBy(() -> writer.swap(DAY)).isInstanceOf(InvalidIngestDataException.class);
+        assertThat(storeCountsOn(DAY)).containsExactly(5, 7);
+    }
+
+    @Test
+    void rejectsDuplicateRegionAndCategory() {
+        writer.prepare();
+        writer.write(List.of(row(1, 1, 10), row(2, 1, 20)), LOADED_AT);
+        writer.write(List.of(row(1, 1, 11)), LOADED_AT); // 다른 배치에 같은 (지역, 업종)
+
+        assertThatThrownBy(() -> writer.swap(DAY)).isInstanceOf(InvalidIngestDataException.class);
+        assertThat(storeCountsOn(DAY)).containsExactly(5, 7);
+    }
+
+    @Test
+    void failedSwapLeavesTheDayUntouched() {
+        writer.prepare();
+        writer.write(List.of(row(1, 1, 10), row(2, 1, -1)), LOADED_AT);
+
+        // DELETE 뒤 INSERT가 실패하면 같은 트랜잭션의 DELETE도 되돌아간다
+        assertThatThrownBy(() -> writer.swap(DAY)).isInstanceOf(DataAccessException.class);
+        assertThat(storeCountsOn(DAY)).containsExactly(5, 7);
+        assertThat(storeCountsOn(DAY.minusDays(1))).containsExactly(3);
+    }
+
+    private static MarketIngestRow row(long regionId, long categoryId, int storeCount) {
+        return new MarketIngestRow(regionId, categoryId, storeCount, 1000, 520, 480, "30대", 100.0, MarketGrade.YELLOW);
+    }
+
+    private void insertStats(long regionId, long categoryId, int storeCount, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO market_stats (region_id, category_id, store_count, floating_population, market_grade, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, 1000, 'YELLOW', ?, ?)",
+                regionId, categoryId, storeCount, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt));
+    }
+
+    private List<Integer> storeCountsOn(LocalDate date) {
+        return jdbcTemplate.queryForList(
+                "SELECT store_count FROM market_stats WHERE created_at >= ? AND created_at < ? ORDER BY region_id, category_id",
+                Integer.class, Timestamp.valueOf(date.atStartOfDay()), Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+    }
+
+    private int stagingRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + MarketStagingWriter.STAGING_TABLE, Integer.class);
+    }
+}
@@ -0,0 +1,193 @@
+package com.back.domain.market.simulation;
+
+import com.back.domain.market.dto.request.MarketRegradeRequest;
+import com.back.domain.market.dto.request.MarketSimulationRequest;
+import com.back.domain.market.dto.response.MarketSimulationResponse;
+import com.back.domain.market.dto.response.MarketSimulationResponse.Metrics;
+import com.back.domain.market.dto.response.MarketSimulationResponse.RollupDiff;
+import com.back.domain.market.dto.response.MarketSimulationResponse.Totals;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.error.exception.InvalidSimulationScenarioException;
+import com.back.domain.market.error.exception.MarketAnalysisNotFoundException;
+import com.back.domain.market.error.exception.SnapshotNotReadyException;
+import com.back.domain.market.grade.GradeMode;
+import com.back.domain.market.grade.GradePolicyFactory;
+import com.back.domain.market.grade.MarketGradeProperties;
+import com.back.domain.market.snapshot.MarketSnapshot;
+import com.back.domain.market.snapshot.MarketSnapshotEngine;
+import com.back.domain.market.snapshot.MarketSnapshotFixture;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.back.domain.market.entity.MarketGrade.GREEN;
+import static com.back.domain.market.entity.MarketGrade.RED;
+import static com.back.domain.market.entity.MarketGrade.YELLOW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class MarketSimulationServiceTest {
+
+    private static final long CAFE = 1L;
+    private static final long CONVENIENCE = 2L;
+
+    // 카페 점포당 유동인구: 청운효자동 600(GREEN), 사직동 200(YELLOW), 소공동 80(RED), 중앙동 200(YELLOW)
+    // 동광동은 편의점 데이터만 있다. 기본 기준값은 500 이상 GREEN, 100 이하 RED
+    private static final MarketSnapshot SNAPSHOT = new MarketSnapshotFixture()
+            .region("11110515", "서울특별시", "종로구", "청운효자동")
+            .region("11110530", "서울특별시", "종로구", "사직동")
+            .region("11140520", "서울특별시", "중구", "소공동")
+            .region("26110510", "부산광역시", "중구", "중앙동")
+            .region("26110520", "부산광역시", "중구", "동광동")
+            .category(CAFE, "카페")
+            .category(CONVENIENCE, "편의점")
+            .cell("11110515", CAFE, 10, 6000)
+            .cell("11110530", CAFE, 20, 4000)
+            .cell("11140520", CAFE, 50, 4000)
+            .cell("26110510", CAFE, 5, 1000)
+            .cell("26110520", CONVENIENCE, 3, 900)
+            .build();
+
+    private final MarketSnapshotEngine marketSnapshotEngine = mock(MarketSnapshotEngine.class);
+    private final MarketSimulationService service = new MarketSimulationService(marketSnapshotEngine,
+            new GradePolicyFactory(new MarketGradeProperties(GradeMode.THRESHOLD, 500, 100, null, 0.2, 0.2)));
+
+    @Test
+    void storeIncreaseRegradesRegionAndItsRollups() {
+        given(marketSnapshotEngine.snapshot()).willReturn(Optional.of(SNAPSHOT));
+
+        MarketSimulationResponse response = service.simulate(request(admCode("11110515", 10, 0, null)));
+
+        assertThat(response.categoryName()).isEqualTo("카페");
+        assertThat(response.policy()).isEqualTo("THRESHOLD");
+        assertThat(response.affectedRegions()).isEqualTo(1);
+        assertThat(response.changedGrades()).isEqualTo(1);
+        assertThat(response.unmatched()).isEmpty();
+        assertThat(response.regions()).singleElement().satisfies(region -> {
+            assertThat(region.admCode()).isEqualTo("11110515");
+            assertThat(region.regionName()).isEqualTo("서울특별시 종로구 청운효자동");
+            assertThat(region.before()).isEqualTo(new Metrics(10, 6000, 600.0, GREEN));
+            assertThat(region.after()).isEqualTo(new Metrics(20, 6000, 300.0, YELLOW));
+        });
+        // 시·군·구 / 시·도 합계는 같은 단위의 모든 동을 더한다 (점포당 유동인구는 합계끼리 나눈다)
+        assertThat(response.districts()).containsExactly(new RollupDiff("서울특별시", "종로구",
+                new Totals(30, 10000, 333.33, grades(1, 1, 0)),
+                new Totals(40, 10000, 250.0, grades(0, 2, 0))));
+        assertThat(response.provinces()).containsExactly(new RollupDiff("서울특별시", null,
+                new Totals(80, 14000, 175.0, grades(1, 1, 1)),
+                new Totals(90, 14000, 155.56, grades(0, 2, 1))));
+    }
+
+    @Test
+    void negativeDeltasClampAtZero() {
+        given(marketSnapshotEngine.snapshot()).willReturn(Optional.of(SNAPSHOT));
+
+        MarketSimulationResponse response = service.simulate(request(admCode("11140520", -80, -10_000, null)));
+
+        assertThat(response.regions()).singleElement().satisfies(region ->
+                assertThat(region.after()).isEqualTo(new Metrics(0, 0, 0.0, RED)));
+        // 등급은 그대로지만 시나리오가 적용된 지역이므로 결과에 남는다
+        assertThat(response.changedGrades()).isZero();
+        assertThat(response.provinces()).singleElement().satisfies(province ->
+                assertThat(province.after().storeCount()).isEqualTo(30));
+    }
+
+    @Test
+    void zeroStoresCountAsOneStore() {
+        given(marketSnapshotEngine.snapshot()).willReturn(Optional.of(SNAPSHOT));
+
+        MarketSimulationResponse response = service.simulate(request(admCode("11140520", -80, 0, null)));
+
+        assertThat(response.regions()).singleElement().satisfies(region ->
+                assertThat(region.after()).isEqualTo(new Metrics(0, 4000, 4000.0, GREEN)));
+        assertThat(response.changedGrades()).isEqualTo(1);
+    }
+
+    @Test
+    void overlappingChangesAddDeltasAndMultiplyFactors() {
+        given(marketSnapshotEngine.snapshot()).willReturn(Optional.of(SNAPSHOT));
+
+        MarketSimulationResponse response = service.simulate(request(
+                new MarketSimulationRequest.Change(null, "부산광역시", 0, 0, 2.0),
+                admCode("26110510", 0, 500, 1.5),
+                admCode("99999999", 1, 0, null),
+                new MarketSimulationRequest.Change(null, "제주특별자치도", 1, 0, null)
+        ));
+
+        // 동광동은 카페 데이터가 없어 부산광역시 변경에서 빠진다
+        assertThat(response.affectedRegions()).isEqualTo(1);
+        assertThat(response.unmatched()).containsExactly("99999999", "제주특별자치도");
+        // 1000 x 2.0 x 1.5 + 500 = 3500, 점포 5개
+        assertThat(response.regions()).singleElement().satisfies(region -> {
+            assertThat(region.admCode()).isEqualTo("26110510");
+            assertThat(region.before()).isEqualTo(new Metrics(5, 1000, 200.0, YELLOW));
+            assertThat(region.after()).isEqualTo(new Metrics(5, 3500, 700.0, GREEN));
+        });
+        assertThat(response.districts()).extracting(RollupDiff::province, RollupDiff::district)
+                .containsExactly(tuple("부산광역시", "중구"));
+    }
+
+    @Test
+    void percentilePolicyRegradesRegionsOutsideTheScenario() {
+        given(marketSnapshotEngine.snapshot()).willReturn(Optional.of(SNAPSHOT));
+        MarketRegradeRequest percentile = new MarketRegradeRequest(GradeMode.PERCENTILE, null, null, null, 0.25, 0.25);
+
+        // 소공동 점포 50 -> 5: 80 -> 800으로 1위가 되어 나머지 동의 상대 등급도 밀린다
+        MarketSimulationResponse response = service.simulate(
+                new MarketSimulationRequest(CAFE, List.of(admCode("11140520", -45, 0, null)), percentile));
+
+        assertThat(response.policy()).isEqualTo("PERCENTILE");
+        assertThat(response.affectedRegions()).isEqualTo(1);
+        assertThat(response.changedGrades()).isEqualTo(4);
+        assertThat(response.regions())
+                .extracting(region -> region.admCode() + ":" + region.before().marketGrade() + "->" + region.after().marketGrade())
+                .containsExactly("11110515:GREEN->YELLOW", "11110530:YELLOW->RED", "11140520:RED->GREEN", "26110510:YELLOW->RED");
+        assertThat(response.provinces()).extracting(RollupDiff::province).containsExactly("서울특별시", "부산광역시");
+    }
+
+    @Test
+    void rejectsChangeWithBothOrNeitherTarget() {
+        given(marketSnapshotEngine.snapshot()).willReturn(Optional.of(SNAPSHOT));
+
+        assertThatThrownBy(() -> service.simulate(request(new MarketSimulationRequest.Change("11110515", "서울특별시", 1, 0, null))))
+                .isInstanceOf(InvalidSimulationScenarioException.class);
+        assertThatThrownBy(() -> service.simulate(request(new MarketSimulationRequest.Change(" ", null, 1, 0, null))))
+                .isInstanceOf(InvalidSimulationScenarioException.class);
+    }
+
+    @Test
+    void notFoundWhenCategoryMissingOrNothingMatches() {
+        given(marketSnapshotEngine.snapshot()).willReturn(Optional.of(SNAPSHOT));
+
+        assertThatThrownBy(() -> service.simulate(new MarketSimulationRequest(99L, List.of(admCode("11110515", 1, 0, null)), null)))
+                .isInstanceOf(MarketAnalysisNotFoundException.class);
+        // 동광동은 카페 데이터가 없다
+        assertThatThrownBy(() -> service.simulate(request(admCode("26110520", 1, 0, null))))
+                .isInstanceOf(MarketAnalysisNotFoundException.class);
+    }
+
+    @Test
+    void failsWhenSnapshotIsNotReady() {
+        given(marketSnapshotEngine.snapshot()).willReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.simulate(request(admCode("11110515", 1, 0, null))))
+                .isInstanceOf(SnapshotNotReadyException.class);
+    }
+
+    private static MarketSimulationRequest request(MarketSimulationRequest.Change... changes) {
+        return new MarketSimulationRequest(CAFE, List.of(changes), null);
+    }
+
+    private static MarketSimulationRequest.Change admCode(String admCode, int storeDelta, int populationDelta, Double populationFactor) {
+        return new MarketSimulationRequest.Change(admCode, null, storeDelta, populationDelta, populationFactor);
+    }
+
+    private static Map<MarketGrade, Integer> grades(int green, int yellow, int red) {
+        return Map.of(GREEN, green, YELLOW, yellow, RED, red);
+    }
+}
@@ -0,0 +1,191 @@
+package com.back.domain.market.snapshot;
+
+import com.back.domain.market.dimension.DimensionDictionary;
+import com.back.domain.market.dto.response.MarketDetailResponse;
+import com.back.domain.market.dto.response.MarketMapResponse;
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.mapper.MarketDetailMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MarketSnapshotEngineTest {
+
+    private static final long CAFE = 1L;
+    private static final long CONVENIENCE = 2L;
+    private static final MarketDataVersion VERSION = new MarketDataVersion(LocalDateTime.of(2025, 4, 7, 6, 0), null);
+    private static final MarketDataVersion REVISED = new MarketDataVersion(VERSION.updatedAt(), LocalDateTime.of(2025, 4, 7, 9, 0));
+
+    // 사직동 편의점, 중앙동 카페는 데이터가 없다
+    private static final MarketSnapshot SNAPSHOT = new MarketSnapshotFixture()
+            .version(VERSION)
+            .region("11110515", "서울특별시", "종로구", "청운효자동")
+            .region("11110530", "서울특별시", "종로구", "사직동")
+            .region("26110510", "부산광역시", "중구", "중앙동")
+            .category(CAFE, "카페")
+            .category(CONVENIENCE, "편의점")
+            .cell("11110515", CAFE, 10, 6000)
+            .cell("11110515", CONVENIENCE, 4, 6000)
+            .cell("11110530", CAFE, 20, 4001, null)
+            .cell("26110510", CONVENIENCE, 3, 900)
+            .build();
+
+    @TempDir
+    Path dir;
+
+    private final MarketSnapshotLoader loader = mock(MarketSnapshotLoader.class);
+
+    private MarketSnapshotEngine engine(MarketSnapshotFile file) {
+        return new MarketSnapshotEngine(loader, new MarketDetailMapper(mock(DimensionDictionary.class)), file,
+                new SimpleMeterRegistry(), true);
+    }
+
+    private MarketSnapshotEngine engine() {
+        return engine(new MarketSnapshotFile(""));
+    }
+
+    @Test
+    void notReadyBeforeFirstRefresh() {
+        MarketSnapshotEngine engine = engine();
+
+        assertThat(engine.isReady()).isFalse();
+        assertThat(engine.findAnalysis("11110515", CAFE)).isEmpty();
+        assertThat(engine.findMapInfo("서울특별시", CAFE)).isEmpty();
+    }
+
+    @Test
+    void refreshLoadsSnapshot() {
+        given(loader.load(VERSION)).willReturn(SNAPSHOT);
+        MarketSnapshotEngine engine = engine();
+
+        engine.refresh(VERSION);
+
+        assertThat(engine.isReady()).isTrue();
+        assertThat(engine.snapshot()).containsSame(SNAPSHOT);
+    }
+
+    @Test
+    void refreshSkipsUnchangedVersion() {
+        given(loader.load(VERSION)).willReturn(SNAPSHOT);
+        MarketSnapshotEngine engine = engine();
+
+        engine.refresh(VERSION);
+        engine.refresh(new MarketDataVersion(VERSION.updatedAt(), null));
+
+        verify(loader, times(1)).load(any());
+    }
+
+    @Test
+    void refreshReloadsRevisedVersion() {
+        MarketSnapshot revised = new MarketSnapshotFixture().version(REVISED)
+                .region("11110515", "서울특별시", "종로구", "청운효자동")
+                .category(CAFE, "카페")
+                .cell("11110515", CAFE, 12, 6000)
+                .build();
+        given(loader.load(VERSION)).willReturn(SNAPSHOT);
+        given(loader.load(REVISED)).willReturn(revised);
+        MarketSnapshotEngine engine = engine();
+
+        engine.refresh(VERSION);
+        engine.refresh(REVISED);
+
+        assertThat(engine.snapshot()).containsSame(revised);
+        assertThat(engine.findAnalysis("11110515", CAFE)).hasValueSatisfying(detail ->
+                assertThat(detail.storeCount()).isEqualTo(12));
+    }
+
+    @Test
+    void findAnalysisBuildsDetailFromCell() {
+        given(loader.load(VERSION)).willReturn(SNAPSHOT);
+        MarketSnapshotEngine engine = engine();
+        engine.refresh(VERSION);
+
+        MarketDetailResponse detail = engine.findAnalysis("11110515", CAFE).orElseThrow();
+
+        assertThat(detail.statsId()).isEqualTo(1L);
+        assertThat(detail.regionName()).isEqualTo("서울특별시 종로구 청운효자동");
+        assertThat(detail.categoryName()).isEqualTo("카페");
+        assertThat(detail.storeCount()).isEqualTo(10);
+        assertThat(detail.floatingPopulation()).isEqualTo(6000);
+        assertThat(detail.populationPerStore()).isEqualTo(600.0);
+        assertThat(detail.marketGrade()).isEqualTo(MarketGrade.YELLOW);
+        assertThat(detail.malePercent()).isEqualTo(50);
+        assertThat(detail.femalePercent()).isEqualTo(50);
+        assertThat(detail.ageGroup()).isEqualTo("30대");
+    }
+
+    @Test
+    void findAnalysisFillsMissingAgeGroup() {
+        given(loader.load(VERSION)).willReturn(SNAPSHOT);
+        MarketSnapshotEngine engine = engine();
+        engine.refresh(VERSION);
+
+        assertThat(engine.findAnalysis("11110530", CAFE)).hasValueSatisfying(detail -> {
+            assertThat(detail.populationPerStore()).isEqualTo(200.05);
+            assertThat(detail.ageGroup()).isEqualTo("분석중");
+        });
+    }
+
+    @Test
+    void findAnalysisIsEmptyForMissingCellOrUnknownKeys() {
+        given(loader.load(VERSION)).willReturn(SNAPSHOT);
+        MarketSnapshotEngine engine = engine();
+        engine.refresh(VERSION);
+
+        assertThat(engine.findAnalysis("11110530", CONVENIENCE)).isEmpty();
+        assertThat(engine.findAnalysis("99999999", CAFE)).isEmpty();
+        assertThat(engine.findAnalysis("11110515", 99L)).isEmpty();
+    }
+
+    @Test
+    void findMapInfoListsPopulatedCellsOfProvince() {
+        given(loader.load(VERSION)).willReturn(SNAPSHOT);
+        MarketSnapshotEngine engine = engine();
+        engine.refresh(VERSION);
+
+        assertThat(engine.findMapInfo("서울특별시", CAFE)).containsExactly(
+                new MarketMapResponse("11110515", "종로구", 10, MarketGrade.YELLOW),
+                new MarketMapResponse("11110530", "종로구", 20, MarketGrade.YELLOW));
+        assertThat(engine.findMapInfo("서울특별시", CONVENIENCE)).containsExactly(
+                new MarketMapResponse("11110515", "종로구", 4, MarketGrade.YELLOW));
+        assertThat(engine.findMapInfo("부산광역시", CAFE)).isEmpty();
+        assertThat(engine.findMapInfo("대구광역시", CAFE)).isEmpty();
+        assertThat(engine.findMapInfo("서울특별시", 99L)).isEmpty();
+    }
+
+    @Test
+    void restoredFileSkipsLoadingSameVersion() {
+        MarketSnapshotFile file = new MarketSnapshotFile(dir.resolve("snapshot.bin").toString());
+        given(loader.load(VERSION)).willReturn(SNAPSHOT);
+        engine(file).refresh(VERSION); // 이전 실행이 파일을 남긴다
+
+        MarketSnapshotEngine restarted = engine(file);
+        assertThat(restarted.restoreFromFile()).isTrue();
+        restarted.refresh(VERSION);
+
+        verify(loader, times(1)).load(any());
+        assertThat(restarted.findAnalysis("11110515", CAFE)).isPresent();
+    }
+
+    @Test
+    void disabledEngineIgnoresDataChanges() {
+        MarketSnapshotEngine engine = new MarketSnapshotEngine(loader, new MarketDetailMapper(mock(DimensionDictionary.class)),
+                new MarketSnapshotFile(""), new SimpleMeterRegistry(), false);
+
+        engine.onMarketDataChanged(new MarketDataChangedEvent(null, VERSION));
+
+        verify(loader, never()).load(any());
+        assertThat(engine.isReady()).isFalse();
+    }
+}
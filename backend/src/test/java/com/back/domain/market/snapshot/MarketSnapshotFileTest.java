@@ -0,0 +1,114 @@
+package com.back.domain.market.snapshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarketSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    // 데이터가 없는 셀(소공동 x 편의점), 연령대가 없는 셀(사직동 x 카페)을 포함한다
+    private static MarketSnapshotFixture fixture() {
+        return new MarketSnapshotFixture()
+                .region("11110515", "서울특별시", "종로구", "청운효자동")
+                .region("11110530", "서울특별시", "종로구", "사직동")
+                .region("11140520", "서울특별시", "중구", "소공동")
+                .category(1L, "카페")
+                .category(2L, "편의점")
+                .cell("11110515", 1L, 10, 6000)
+                .cell("11110515", 2L, 4, 6000)
+                .cell("11110530", 1L, 20, 4000, null)
+                .cell("11110530", 2L, 0, 4000)
+                .cell("11140520", 1L, 50, 4000);
+    }
+
+    @Test
+    void roundTripsSnapshotWithoutRevision() {
+        MarketSnapshot snapshot = fixture().build();
+        MarketSnapshotFile file = new MarketSnapshotFile(dir.resolve("snapshot.bin").toString());
+
+        file.save(snapshot);
+        Optional<MarketSnapshot> loaded = file.load();
+
+        assertThat(loaded).isPresent();
+        assertThat(loaded.get()).usingRecursiveComparison().isEqualTo(snapshot);
+        assertThat(loaded.get().getVersion().revisedAt()).isNull();
+        assertThat(loaded.get().getAgeGroups()).containsExactly("30대", "30대", null, "30대", "30대", null);
+    }
+
+    @Test
+    void roundTripsRevisionTime() {
+        MarketDataVersion version = new MarketDataVersion(LocalDateTime.of(2025, 4, 7, 6, 0), LocalDateTime.of(2025, 4, 7, 9, 30, 15));
+        MarketSnapshot snapshot = fixture().version(version).build();
+        MarketSnapshotFile file = new MarketSnapshotFile(dir.resolve("snapshot.bin").toString());
+
+        file.save(snapshot);
+
+        assertThat(file.load()).hasValueSatisfying(loaded -> {
+            assertThat(loaded.getVersion()).isEqualTo(version);
+            assertThat(loaded).usingRecursiveComparison().isEqualTo(snapshot);
+        });
+    }
+
+    @Test
+    void saveReplacesPreviousFile() {
+        MarketSnapshotFile file = new MarketSnapshotFile(dir.resolve("snapshot.bin").toString());
+        file.save(fixture().build());
+        MarketDataVersion next = new MarketDataVersion(LocalDateTime.of(2025, 4, 8, 6, 0), null);
+
+        file.save(fixture().version(next).build());
+
+        assertThat(file.load()).hasValueSatisfying(loaded -> assertThat(loaded.getVersion()).isEqualTo(next));
+    }
+
+    @Test
+    void truncatedFileIsIgnored() throws IOException {
+        Path path = dir.resolve("snapshot.bin");
+        MarketSnapshotFile file = new MarketSnapshotFile(path.toString());
+        file.save(fixture().build());
+        byte[] bytes = Files.readAllBytes(path);
+
+        for (int length : new int[]{0, 6, bytes.length / 2, bytes.length - 1}) {
+            Files.write(path, Arrays.copyOf(bytes, length));
+            assertThat(file.load()).as("%d / %d bytes", length, bytes.length).isEmpty();
+        }
+    }
+
+    @Test
+    void wrongMagicOrFormatVersionIsIgnored() throws IOException {
+        Path path = dir.resolve("snapshot.bin");
+        MarketSnapshotFile file = new MarketSnapshotFile(path.toString());
+        file.save(fixture().build());
+        byte[] bytes = Files.readAllBytes(path);
+
+        byte[] wrongMagic = bytes.clone();
+        wrongMagic[0] = 'X';
+        Files.write(path, wrongMagic);
+        assertThat(file.load()).isEmpty();
+
+        byte[] wrongVersion = bytes.clone();
+        wrongVersion[7] = 2;
+        Files.write(path, wrongVersion);
+        assertThat(file.load()).isEmpty();
+    }
+
+    @Test
+    void missingFileOrDisabledPathLoadsNothing() {
+        assertThat(new MarketSnapshotFile(dir.resolve("missing.bin").toString()).load()).isEmpty();
+
+        MarketSnapshotFile disabled = new MarketSnapshotFile("");
+        disabled.save(fixture().build());
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.load()).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.back.domain.market.snapshot;
+
+import com.back.domain.market.entity.MarketGrade;
+import com.back.domain.market.grade.PopulationPerStore;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 고정 스냅샷 (스냅샷 생성자가 패키지 전용이라 다른 패키지 테스트는 이 클래스로 만든다).
+ * 지정하지 않은 (지역, 업종) 셀은 데이터가 없는 셀이다. 저장된 등급은 모두 YELLOW.
+ * 버전은 따로 지정하지 않으면 2025-04-07 06:00 적재, 수정 없음.
+ */
+public final class MarketSnapshotFixture {
+
+    private final List<String[]> regions = new ArrayList<>();
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<String> categoryNames = new ArrayList<>();
+    private final List<Object[]> cells = new ArrayList<>();
+    private MarketDataVersion version = new MarketDataVersion(LocalDateTime.of(2025, 4, 7, 6, 0), null);
+
+    public MarketSnapshotFixture version(MarketDataVersion version) {
+        this.version = version;
+        return this;
+    }
+
+    public MarketSnapshotFixture region(String admCode, String province, String district, String town) {
+        regions.add(new String[]{admCode, province, district, town});
+        return this;
+    }
+
+    public MarketSnapshotFixture category(long categoryId, String name) {
+        categoryIds.add(categoryId);
+        categoryNames.add(name);
+        return this;
+    }
+
+    public MarketSnapshotFixture cell(String admCode, long categoryId, int storeCount, int floatingPopulation) {
+        return cell(admCode, categoryId, storeCount, floatingPopulation, "30대");
+    }
+
+    // ageGroup은 null이어도 된다 (연령대 분석 전)
+    public MarketSnapshotFixture cell(String admCode, long categoryId, int storeCount, int floatingPopulation, String ageGroup) {
+        cells.add(new Object[]{admCode, categoryId, storeCount, floatingPopulation, ageGroup});
+        return this;
+    }
+
+    public MarketSnapshot build() {
+        int regionCount = regions.size();
+        int categoryCount = categoryIds.size();
+        long[] regionIds = new long[regionCount];
+        String[] admCodes = new String[regionCount];
+        String[] provinces = new String[regionCount];
+        String[] districts = new String[regionCount];
+        String[] towns = new String[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            regionIds[i] = i + 1;
+            admCodes[i] = regions.get(i)[0];
+            provinces[i] = regions.get(i)[1];
+            districts[i] = regions.get(i)[2];
+            towns[i] = regions.get(i)[3];
+        }
+
+        int size = regionCount * categoryCount;
+        long[] statsIds = new long[size];
+        int[] storeCounts = new int[size];
+        int[] floatingPopulations = new int[size];
+        int[] malePopulations = new int[size];
+        int[] femalePopulations = new int[size];
+        double[] populationPerStores = new double[size];
+        byte[] gradeOrdinals = new byte[size];
+        String[] ageGroups = new String[size];
+        long statsId = 1;
+        for (Object[] cell : cells) {
+            int regionIndex = indexOfRegion((String) cell[0]);
+            int categoryIndex = categoryIds.indexOf((Long) cell[1]);
+            int index = regionIndex * categoryCount + categoryIndex;
+            int stores = (int) cell[2];
+            int population = (int) cell[3];
+            statsIds[index] = statsId++;
+            storeCounts[index] = stores;
+            floatingPopulations[index] = population;
+            malePopulations[index] = population / 2;
+            femalePopulations[index] = population - population / 2;
+            populationPerStores[index] = PopulationPerStore.of(population, stores);
+            gradeOrdinals[index] = (byte) MarketGrade.YELLOW.ordinal();
+            ageGroups[index] = (String) cell[4];
+        }
+
+        return MarketSnapshot.of(version,
+                regionIds, admCodes, provinces, districts, towns,
+                categoryIds.stream().mapToLong(Long::longValue).toArray(), categoryNames.toArray(String[]::new),
+                statsIds, storeCounts, floatingPopulations, malePopulations, femalePopulations,
+                populationPerStores, gradeOrdinals, ageGroups);
+    }
+
+    private int indexOfRegion(String admCode) {
+        for (int i = 0; i < regions.size(); i++) {
+            if (regions.get(i)[0].equals(admCode)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("unknown region: " + admCode);
+    }
+}
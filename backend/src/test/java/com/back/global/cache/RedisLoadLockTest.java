@@ -0,0 +1,72 @@
+package com.back.global.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RedisLoadLockTest {
+
+    private static final Duration LOCK_TTL = Duration.ofSeconds(10);
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RedisLoadLock lock = new RedisLoadLock(redisTemplate, LOCK_TTL);
+
+    @Test
+    void returnsTokenWhenKeyWasAbsent() {
+        given(redisTemplate.opsForValue()).willReturn(values);
+        given(values.setIfAbsent(eq("lock:k"), anyString(), eq(LOCK_TTL))).willReturn(true);
+
+        String token = lock.tryLock("lock:k");
+
+        assertThat(token).isNotBlank();
+        verify(values).setIfAbsent("lock:k", token, LOCK_TTL);
+    }
+
+    @Test
+    void issuesDifferentTokensPerAcquisition() {
+        given(redisTemplate.opsForValue()).willReturn(values);
+        given(values.setIfAbsent(eq("lock:k"), anyString(), eq(LOCK_TTL))).willReturn(true);
+
+        assertThat(lock.tryLock("lock:k")).isNotEqualTo(lock.tryLock("lock:k"));
+    }
+
+    @Test
+    void returnsNullWhenHeldElsewhere() {
+        given(redisTemplate.opsForValue()).willReturn(values);
+        given(values.setIfAbsent(eq("lock:k"), anyString(), eq(LOCK_TTL))).willReturn(false);
+
+        assertThat(lock.tryLock("lock:k")).isNull();
+    }
+
+    @Test
+    void returnsNullWhenRedisGivesNoAnswer() {
+        // 파이프라인 / 트랜잭션 안에서는 setIfAbsent가 null을 돌려준다
+        given(redisTemplate.opsForValue()).willReturn(values);
+        given(values.setIfAbsent(eq("lock:k"), anyString(), eq(LOCK_TTL))).willReturn(null);
+
+        assertThat(lock.tryLock("lock:k")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unlockDeletesOnlyWithOwnToken() {
+        lock.unlock("lock:k", "token-1");
+
+        // 비교 후 삭제는 스크립트 안에서 원자적으로 한다
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("lock:k")), eq("token-1"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.back.global.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return "value";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(singleFlight.isInFlight("k")).isTrue();
+
+            List<Future<Object>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> singleFlight.execute("k", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            for (Future<Object> follower : followers) {
+                // 적재가 끝난 뒤 들어온 호출은 직접 적재한다
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isIn("value", "other");
+            }
+            assertThat(singleFlight.isInFlight("k")).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitersReceiveTheLeadersValueWhileItIsLoading() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+                loading.countDown();
+                release.await();
+                return "value";
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            AtomicInteger followerLoads = new AtomicInteger();
+            Future<Object> follower = executor.submit(() -> singleFlight.execute("k", () -> {
+                followerLoads.incrementAndGet();
+                return "other";
+            }));
+            // 대기자가 진행 중인 적재에 붙을 시간을 준다
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(followerLoads).hasValue(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitersReceiveTheLeadersException() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("db down");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> singleFlight.execute("k", () -> {
+                loading.countDown();
+                release.await();
+                throw failure;
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Object> follower = executor.submit(() -> singleFlight.execute("k", () -> "other"));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void loadsAgainAfterCompletion() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(singleFlight.execute("k", loads::incrementAndGet)).isEqualTo(1);
+        assertThat(singleFlight.execute("k", loads::incrementAndGet)).isEqualTo(2);
+        assertThat(singleFlight.isInFlight("k")).isFalse();
+    }
+
+    @Test
+    void failedLoadIsNotRemembered() throws Exception {
+        assertThatThrownBy(() -> singleFlight.execute("k", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.isInFlight("k")).isFalse();
+        assertThat(singleFlight.execute("k", () -> "value")).isEqualTo("value");
+    }
+
+    @Test
+    void differentKeysLoadIndependently() throws Exception {
+        Object outer = singleFlight.execute("a", () -> "a:" + singleFlight.execute("b", () -> "b"));
+
+        assertThat(outer).isEqualTo("a:b");
+    }
+}
@@ -0,0 +1,248 @@
+package com.back.global.cache;
+
+import com.back.global.resilience.CircuitBreaker;
+import com.back.global.resilience.ResilienceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class TwoTierCacheTest {
+
+    private static final String LOCK_KEY = "lock:market::k";
+
+    private final Cache remote = new ConcurrentMapCache("market");
+    private final RedisLoadLock loadLock = mock(RedisLoadLock.class);
+    private final CacheLoadSupport loadSupport = mock(CacheLoadSupport.class);
+    private final TwoTierCache cache;
+
+    TwoTierCacheTest() {
+        given(loadSupport.getLoadLock()).willReturn(loadLock);
+        given(loadSupport.getProperties()).willReturn(new CacheLoadProperties(
+                Duration.ofSeconds(10), Duration.ofMillis(500), Duration.ofMillis(10), Duration.ofMinutes(10), 1.0));
+        given(loadSupport.getRedisCircuitBreaker()).willReturn(new CircuitBreaker("redis",
+                new ResilienceProperties.Breaker(50, 20, 0.5, Duration.ofSeconds(1), Duration.ofSeconds(10)),
+                new SimpleMeterRegistry()));
+        cache = new TwoTierCache("market", "market::", remote, mock(CacheInvalidationPublisher.class), loadSupport,
+                100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void missLoadsOnceUnderLockAndFillsBothTiers() {
+        given(loadLock.tryLock(LOCK_KEY)).willReturn("token");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(cache.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+
+        assertThat(loads).hasValue(1);
+        assertThat(remote.get("k").get()).isEqualTo("v1");
+        assertThat(cache.getStatistics().getLoads()).isEqualTo(1);
+        assertThat(cache.getStatistics().getLocalHits()).isEqualTo(1);
+        verify(loadLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    void lockHolderUsesValueLoadedByPreviousHolder() {
+        // 락을 잡은 사이 다른 노드가 이미 채웠다면 다시 적재하지 않는다
+        given(loadLock.tryLock(LOCK_KEY)).willAnswer(invocation -> {
+            remote.put("k", "from-other-node");
+            return "token";
+        });
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("from-other-node");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void concurrentMissesOnOneNodeLoadOnce() throws Exception {
+        given(loadLock.tryLock(LOCK_KEY)).willReturn("token");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.get("k", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "v";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("v");
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void waitsForOtherNodeWhenLockIsHeld() throws Exception {
+        given(loadLock.tryLock(LOCK_KEY)).willReturn(null);
+        AtomicInteger loads = new AtomicInteger();
+        Thread otherNode = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            remote.put("k", "from-other-node");
+        });
+        otherNode.start();
+
+        assertThat(cache.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("from-other-node");
+
+        otherNode.join();
+        assertThat(loads).hasValue(0);
+        verify(loadLock, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    void loadsItselfWhenOtherNodeNeverFills() {
+        given(loadLock.tryLock(LOCK_KEY)).willReturn(null);
+        long start = System.nanoTime();
+
+        assertThat(cache.get("k", () -> "v")).isEqualTo("v");
+
+        // lockWait(500ms) 동안 기다린 뒤 직접 적재한다
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(500));
+        assertThat(remote.get("k").get()).isEqualTo("v");
+    }
+
+    @Test
+    void loadsWithoutLockWhenRedisIsUnreachable() {
+        given(loadLock.tryLock(LOCK_KEY)).willThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.get("k", () -> "v")).isEqualTo("v");
+
+        verify(loadLock, never()).unlock(anyString(), anyString());
+        assertThat(cache.getStatistics().getLoads()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderFailureIsWrappedAndNotCached() {
+        given(loadLock.tryLock(LOCK_KEY)).willReturn("token");
+
+        assertThatThrownBy(() -> cache.get("k", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(Cache.ValueRetrievalException.class).hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(remote.get("k")).isNull();
+        assertThat(cache.getStatistics().getLoadFailures()).isEqualTo(1);
+        verify(loadLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    void earlyRefreshRunsOnTheCallerThread() {
+        remote.put("k", "stale");
+        given(loadSupport.remainingTtlMillis("market::k")).willReturn(1_000L);
+        given(loadSupport.shouldRefreshEarly(1_000L, 0L)).willReturn(true);
+        given(loadLock.tryLock(LOCK_KEY)).willReturn("token");
+        AtomicReference<Thread> loaderThread = new AtomicReference<>();
+
+        String value = cache.get("k", () -> {
+            loaderThread.set(Thread.currentThread());
+            return "fresh";
+        });
+
+        assertThat(value).isEqualTo("fresh");
+        assertThat(loaderThread.get()).isSameAs(Thread.currentThread());
+        assertThat(remote.get("k").get()).isEqualTo("fresh");
+        verify(loadLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    void noRefreshUnlessDrawn() {
+        remote.put("k", "stale");
+        given(loadSupport.remainingTtlMillis("market::k")).willReturn(1_000L);
+        given(loadSupport.shouldRefreshEarly(anyLong(), anyLong())).willReturn(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("stale");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void refreshKeepsCurrentValueWhenOtherNodeIsRefreshing() {
+        remote.put("k", "stale");
+        given(loadSupport.shouldRefreshEarly(anyLong(), anyLong())).willReturn(true);
+        given(loadLock.tryLock(LOCK_KEY)).willReturn(null);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get("k", () -> "v" + loads.incrementAndGet())).isEqualTo("stale");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void failedRefreshKeepsCurrentValue() {
+        remote.put("k", "stale");
+        given(loadSupport.shouldRefreshEarly(anyLong(), anyLong())).willReturn(true);
+        given(loadLock.tryLock(LOCK_KEY)).willReturn("token");
+
+        String value = cache.get("k", () -> {
+            throw new IllegalStateException("db down");
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(remote.get("k").get()).isEqualTo("stale");
+        verify(loadLock).unlock(LOCK_KEY, "token");
+    }
+
+    @Test
+    void concurrentRefreshesCoalesce() throws Exception {
+        remote.put("k", "stale");
+        given(loadSupport.shouldRefreshEarly(anyLong(), anyLong())).willReturn(true);
+        given(loadLock.tryLock(LOCK_KEY)).willReturn("token");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> winner = executor.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                refreshing.countDown();
+                release.await();
+                return "fresh";
+            }));
+            assertThat(refreshing.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 갱신 중에는 다른 요청이 기다리지 않고 기존 값을 받는다 (로컬 계층을 비워 원격 경로로 보낸다)
+            cache.evictLocal("k");
+            String other = cache.get("k", () -> "v" + loads.incrementAndGet());
+            release.countDown();
+
+            assertThat(other).isEqualTo("stale");
+            assertThat(winner.get(5, TimeUnit.SECONDS)).isEqualTo("fresh");
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
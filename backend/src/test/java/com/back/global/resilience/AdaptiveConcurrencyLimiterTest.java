@@ -0,0 +1,96 @@
+package com.back.global.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(100).toNanos();
+
+    // 시작 20, 최소 4, 최대 30, 허용 지연 2배, 반영 비율 0.2
+    private final AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(new ResilienceProperties.Limiter(true, 20, 4, 30, 2.0, 0.2));
+
+    @Test
+    void rejectsAboveLimitUntilReleased() {
+        acquire(20);
+
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(20);
+
+        limiter.release(FAST, false);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsUpToMaxWhileLatencyIsStable() {
+        acquire(20);
+
+        int previous = limiter.getLimit();
+        for (int i = 0; i < 200; i++) {
+            cycle(FAST);
+            assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(previous);
+            previous = limiter.getLimit();
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(30);
+    }
+
+    @Test
+    void shrinksWhenRecentLatencyRisesAboveTolerance() {
+        acquire(20);
+        for (int i = 0; i < 50; i++) {
+            cycle(FAST);
+        }
+        int beforeSpike = limiter.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            cycle(SLOW);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(beforeSpike);
+    }
+
+    @Test
+    void droppedRequestsBackOffDownToMinimum() {
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(18); // 20 x 0.9
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST, true);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void ignoresLatencyWhileMostlyIdle() {
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(i % 2 == 0 ? FAST : SLOW, false);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private void acquire(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+    }
+
+    // 한 요청을 끝내고 곧바로 새 요청을 받아 동시 처리 수를 유지한다
+    private void cycle(long rttNanos) {
+        limiter.release(rttNanos, false);
+        limiter.tryAcquire();
+    }
+}
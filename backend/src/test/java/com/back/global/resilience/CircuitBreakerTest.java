@@ -0,0 +1,172 @@
+package com.back.global.resilience;
+
+import com.back.global.error.exception.CircuitOpenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+
+    private static final Duration SLOW_CALL = Duration.ofSeconds(1);
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong();
+    // 창 4회, 최소 4회, 실패율 50% 이상이면 연다
+    private final CircuitBreaker breaker = new CircuitBreaker("test",
+            new ResilienceProperties.Breaker(4, 4, 0.5, SLOW_CALL, OPEN_DURATION),
+            new SimpleMeterRegistry(), clock::get);
+
+    @Test
+    void staysClosedBeforeMinimumCalls() {
+        fail();
+        fail();
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void opensAtFailureRateAndRejectsWithoutCalling() {
+        succeed();
+        succeed();
+        fail();
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        AtomicInteger invoked = new AtomicInteger();
+        assertThatThrownBy(() -> breaker.call(invoked::incrementAndGet)).isInstanceOf(CircuitOpenException.class);
+        assertThat(invoked).hasValue(0);
+    }
+
+    @Test
+    void staysClosedBelowFailureRate() {
+        succeed();
+        succeed();
+        succeed();
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void oldOutcomesLeaveTheWindow() {
+        fail();
+        succeed();
+        succeed();
+        succeed();
+        // 창이 가득 찬 뒤 가장 오래된 실패가 밀려나고 새 실패가 들어온다: 여전히 1/4
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void slowCallCountsAsFailure() {
+        for (int i = 0; i < 4; i++) {
+            breaker.call(() -> clock.addAndGet(SLOW_CALL.toNanos() + 1));
+        }
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void probeAfterOpenDurationClosesOnSuccess() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+        assertThatThrownBy(() -> breaker.call(() -> "probe")).isInstanceOf(CircuitOpenException.class);
+
+        clock.addAndGet(1);
+
+        assertThat(breaker.call(() -> "probe")).isEqualTo("probe");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        // 닫히면 창을 비우므로 실패 한 번으로 다시 열리지 않는다
+        fail();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void probeFailureReopensForAnotherOpenDuration() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        fail();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.call(() -> "x")).isInstanceOf(CircuitOpenException.class);
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(breaker.call(() -> "x")).isEqualTo("x");
+    }
+
+    @Test
+    void onlyOneProbeAtATime() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        String result = breaker.call(() -> {
+            assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            assertThatThrownBy(() -> breaker.call(() -> "second")).isInstanceOf(CircuitOpenException.class);
+            return "first";
+        });
+
+        assertThat(result).isEqualTo("first");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void errorDuringProbeReleasesTheProbe() {
+        open();
+        clock.addAndGet(OPEN_DURATION.toNanos());
+
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        assertThat(breaker.call(() -> "recovered")).isEqualTo("recovered");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void callOrElseFallsBackOnFailure() {
+        assertThat(breaker.callOrElse(() -> {
+            throw new IllegalStateException("down");
+        }, "fallback")).isEqualTo("fallback");
+        assertThat(breaker.callOrElse(() -> "value", "fallback")).isEqualTo("value");
+    }
+
+    @Test
+    void callOrElseFallsBackWithoutCallingWhenOpen() {
+        open();
+
+        AtomicInteger invoked = new AtomicInteger();
+        assertThat(breaker.callOrElse(() -> {
+            invoked.incrementAndGet();
+            return "value";
+        }, "fallback")).isEqualTo("fallback");
+        assertThat(invoked).hasValue(0);
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            fail();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void succeed() {
+        breaker.call(() -> "ok");
+    }
+
+    private void fail() {
+        assertThatThrownBy(() -> breaker.call(() -> {
+            throw new IllegalStateException("down");
+        })).isInstanceOf(IllegalStateException.class);
+    }
+}